@@ -0,0 +1,26 @@
+package com.junior.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junior.security.filter.RateLimitFilter;
+import com.junior.service.ratelimit.RateLimiter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, objectMapper));
+
+        // 보안 필터 체인 다음에 실행, JWT 검증 결과(회원 id)로 클라이언트 구분
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.addUrlPatterns("/api/*");
+
+        return registration;
+    }
+}
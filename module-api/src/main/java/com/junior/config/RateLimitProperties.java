@@ -0,0 +1,42 @@
+package com.junior.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 요청 수 제한 설정(rate-limit.*)
+ * 경로별 정책 목록을 받아야 해서 @Value 대신 목록 바인딩 사용
+ * @param redisEnabled: true 면 Redis 버킷으로 모든 서버 합산 제한, Redis 장애 시 서버별 버킷 사용
+ * @param maxBuckets: 서버별 버킷 최대 수, 넘으면 가득 찬 버킷과 오래 사용하지 않은 버킷을 정리하고, 그래도 넘으면 새 클라이언트는 제한하지 않고 metric 으로 집계
+ * @param policies: 경로별 정책, 앞에 있는 정책부터 검사해 처음 일치한 정책 적용
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean redisEnabled,
+        @DefaultValue("100000") int maxBuckets,
+        List<Policy> policies
+) {
+
+    public RateLimitProperties {
+        policies = policies != null ? List.copyOf(policies) : List.of();
+    }
+
+    /**
+     * @param name: 정책 이름, 버킷 키와 metric tag 에 사용
+     * @param pattern: ant 형식 경로 패턴
+     * @param method: HTTP 메서드, 없으면 모든 메서드
+     * @param capacity: 버킷 크기(최대 연속 요청 수)
+     * @param refillPerSecond: 초당 채워지는 토큰 수
+     */
+    public record Policy(
+            String name,
+            String pattern,
+            String method,
+            long capacity,
+            double refillPerSecond
+    ) {
+    }
+}
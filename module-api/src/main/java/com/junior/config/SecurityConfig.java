@@ -10,8 +10,10 @@ import com.junior.security.filter.JwtValidExceptionHandlerFilter;
 import com.junior.security.handler.LoginFailureHandler;
 import com.junior.security.handler.LoginSuccessJwtProviderHandler;
 import com.junior.security.provider.CustomDaoAuthenticationProvider;
+import com.junior.service.security.MemberPrincipalCache;
 import com.junior.service.security.UserDetailsServiceImpl;
-import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,9 +37,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final ObjectMapper objectMapper;
-    private final RedisUtil redisUtil;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final MemberPrincipalCache memberPrincipalCache;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
     @Bean
@@ -57,7 +60,7 @@ public class SecurityConfig {
                         sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 //filter
-                .addFilterAfter(new JWTFilter(jwtUtil, userDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new JWTFilter(jwtUtil, memberPrincipalCache), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new JwtValidExceptionHandlerFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
 
                 //403 예외 처리
@@ -66,6 +69,8 @@ public class SecurityConfig {
 
                 //uri 권한 설정
                 .authorizeHttpRequests((auth) -> auth
+                        // 실시간 알림 스트림(SSE)의 비동기 dispatch, 최초 요청에서 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/login/**").permitAll()
                         .requestMatchers("/api/v2/login/**").permitAll()
                         .requestMatchers("/api/v1/reissue").permitAll()
@@ -83,10 +88,14 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/comment/*/parent").permitAll()
                         // 답글 조회
                         .requestMatchers(HttpMethod.GET, "/api/v1/comment/*/child").permitAll()
+                        // 댓글 스레드(댓글 + 답글) 조회
+                        .requestMatchers(HttpMethod.GET, "/api/v1/comment/*/thread").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/comment/*/thread/replies").permitAll()
                         // public 스토리 리스트 조회
                         .requestMatchers("/api/v1/public/stories/**").permitAll()
                         // 팝업 스토어 조회
                         .requestMatchers("/api/v1/pop-up-events/map").permitAll()
+                        .requestMatchers("/api/v1/pop-up-events/map/clusters").permitAll()
                         .requestMatchers("/api/v1/pop-up-events/scroll").permitAll()
                         .requestMatchers(HttpMethod.GET, "api/v1/pop-up-events/*").permitAll()
                         // 팝업 스토어 생성, 수정, 삭제 권한 체크
@@ -143,7 +152,7 @@ public class SecurityConfig {
 
     @Bean
     public LoginSuccessJwtProviderHandler loginSuccessJWTProvideHandler() {
-        return new LoginSuccessJwtProviderHandler(jwtUtil, redisUtil);
+        return new LoginSuccessJwtProviderHandler(jwtUtil, refreshTokenStore);
     }
 
     @Bean
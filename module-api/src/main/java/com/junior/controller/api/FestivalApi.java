@@ -1,6 +1,7 @@
 package com.junior.controller.api;
 
 import com.junior.dto.festival.*;
+import com.junior.dto.map.MapClusterDto;
 import com.junior.page.PageCustom;
 import com.junior.response.CommonResponse;
 import com.junior.security.UserPrincipal;
@@ -138,6 +139,37 @@ public interface FestivalApi {
                                                                            @RequestParam(name = "geoPointRbX") Double geoPointRbX);
 
 
+    @Operation(summary = "지도 기반 축제 클러스터 조회", description = "지도의 좌측 최상단, 우측 최하단 좌표와 지도 배율을 받아 가까운 축제끼리 묶은 클러스터를 리턴합니다. 축제가 하나인 클러스터는 축제 id를 함께 리턴합니다.")
+    @ApiResponse(responseCode = "200", description = "지도 기반 축제 클러스터 조회 성공",
+            content = @Content(mediaType = "application/json",
+                    examples = @ExampleObject(value = """
+                            {
+                              "customCode": "FESTIVAL-SUCCESS-004",
+                              "customMessage": "",
+                              "status": true,
+                              "data": [
+                                {
+                                  "latitude": 37.5,
+                                  "longitude": 127.0,
+                                  "count": 12,
+                                  "id": null
+                                },
+                                {
+                                  "latitude": 35.1,
+                                  "longitude": 129.0,
+                                  "count": 1,
+                                  "id": 7
+                                }
+                              ]
+                            }
+                            """)))
+    ResponseEntity<CommonResponse<List<MapClusterDto>>> findFestivalClustersByMap(@RequestParam(name = "geoPointLtY") Double geoPointLtY,
+                                                                                  @RequestParam(name = "geoPointLtX") Double geoPointLtX,
+                                                                                  @RequestParam(name = "geoPointRbY") Double geoPointRbY,
+                                                                                  @RequestParam(name = "geoPointRbX") Double geoPointRbX,
+                                                                                  @RequestParam(name = "zoom") int zoom);
+
+
     @Operation(summary = "축제 리스트 조회", description = "조건에 부합하는 축제 리스트를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "축제 리스트 조회 성공",
             content = @Content(mediaType = "application/json",
@@ -50,6 +50,16 @@ public interface ReissueApi {
                                                                 "data": null
                                                             }
                                                             """
+                                            ),
+                                            @ExampleObject(name = "이미 재발급에 사용된 Refresh token",
+                                                    value = """
+                                                            {
+                                                                "customCode": "JWT-ERR-008",
+                                                                "customMessage": "이미 재발급에 사용된 Refresh token",
+                                                                "status": false,
+                                                                "data": null
+                                                            }
+                                                            """
                                             )
                                     })),
                     @ApiResponse(responseCode = "400", description = "존재하지 않는 토큰",
@@ -72,6 +72,31 @@ public class CommentController {
         return CommonResponse.success(StatusCode.COMMENT_READ_SUCCESS, childCommentDto);
     }
 
+    @GetMapping("/{storyId}/thread")
+    public CommonResponse<Object> findCommentThread(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam("size") int size,
+            @RequestParam(name = "replySize", defaultValue = "3") int replySize,
+            @PathVariable("storyId") Long storyId
+    ) {
+        Slice<ResponseCommentThreadDto> commentThreadDto = commentService.findCommentThreads(userPrincipal, storyId, cursorId, size, replySize);
+
+        return CommonResponse.success(StatusCode.COMMENT_READ_SUCCESS, commentThreadDto);
+    }
+
+    @GetMapping("/{parentCommentId}/thread/replies")
+    public CommonResponse<Object> findThreadReplies(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam("size") int size,
+            @PathVariable("parentCommentId") Long parentCommentId
+    ) {
+        Slice<ResponseChildCommentDto> childCommentDto = commentService.findThreadReplies(userPrincipal, parentCommentId, cursorId, size);
+
+        return CommonResponse.success(StatusCode.COMMENT_READ_SUCCESS, childCommentDto);
+    }
+
     @GetMapping("/my")
     public CommonResponse<Object> findMyComment(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -2,11 +2,13 @@ package com.junior.controller.festival;
 
 import com.junior.controller.api.FestivalApi;
 import com.junior.dto.festival.*;
+import com.junior.dto.map.MapClusterDto;
 import com.junior.exception.StatusCode;
 import com.junior.page.PageCustom;
 import com.junior.response.CommonResponse;
 import com.junior.security.UserPrincipal;
 import com.junior.service.festival.FestivalService;
+import com.junior.service.map.PublicMapClusterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +25,7 @@ import java.util.List;
 public class FestivalController implements FestivalApi {
 
     private final FestivalService festivalService;
+    private final PublicMapClusterService publicMapClusterService;
 
 
     /**
@@ -51,6 +54,15 @@ public class FestivalController implements FestivalApi {
         return ResponseEntity.status(StatusCode.FESTIVAL_FIND_MAP_SUCCESS.getHttpCode()).body(CommonResponse.success(StatusCode.FESTIVAL_FIND_MAP_SUCCESS, festivalService.findFestivalByMap(geoPointLtY, geoPointLtX, geoPointRbY, geoPointRbX)));
     }
 
+    @GetMapping("/api/v1/festivals/map/clusters")
+    public ResponseEntity<CommonResponse<List<MapClusterDto>>> findFestivalClustersByMap(Double geoPointLtY,
+                                                                                         Double geoPointLtX,
+                                                                                         Double geoPointRbY,
+                                                                                         Double geoPointRbX,
+                                                                                         int zoom) {
+        return ResponseEntity.status(StatusCode.FESTIVAL_FIND_MAP_SUCCESS.getHttpCode()).body(CommonResponse.success(StatusCode.FESTIVAL_FIND_MAP_SUCCESS, publicMapClusterService.findFestivalClusters(geoPointLtY, geoPointLtX, geoPointRbY, geoPointRbX, zoom)));
+    }
+
     @GetMapping("/api/v1/festivals")
     public ResponseEntity<CommonResponse<Slice<FestivalDto>>> findFestival(@RequestParam(name = "cursorId", required = false) Long cursorId,
                                                                            @RequestParam(name = "size") int size,
@@ -5,10 +5,13 @@ import com.junior.exception.StatusCode;
 import com.junior.response.CommonResponse;
 import com.junior.security.UserPrincipal;
 import com.junior.service.notification.NotificationService;
+import com.junior.service.notification.NotificationStreamService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     @GetMapping
     public CommonResponse<Object> getNotificationByMemberId(
@@ -29,6 +33,23 @@ public class NotificationController {
         return CommonResponse.success(StatusCode.NOTIFICATION_READ_SUCCESS, notifications);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotification(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return notificationStreamService.subscribe(userPrincipal.getMember().getId(), lastEventId);
+    }
+
+    @GetMapping("/unread/cnt")
+    public CommonResponse<Object> getUnreadNotificationCnt(
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        Long unreadCnt = notificationService.getUnreadNotificationCnt(userPrincipal);
+
+        return CommonResponse.success(StatusCode.NOTIFICATION_READ_SUCCESS, unreadCnt);
+    }
+
     @GetMapping("/read/{notificationId}")
     public CommonResponse<Object> readNotification(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -1,6 +1,7 @@
 package com.junior.controller.popUpEvent;
 
 import com.junior.controller.api.PopUpEventApi;
+import com.junior.dto.map.MapClusterDto;
 import com.junior.dto.popUpEvent.CreateNewPopUpEventDto;
 import com.junior.dto.popUpEvent.ResponsePopUpEventDto;
 import com.junior.dto.popUpEvent.UpdatePopUpEventDto;
@@ -8,6 +9,7 @@ import com.junior.dto.story.GeoRect;
 import com.junior.exception.StatusCode;
 import com.junior.response.CommonResponse;
 import com.junior.security.UserPrincipal;
+import com.junior.service.map.PublicMapClusterService;
 import com.junior.service.popUpEvent.PopUpEventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,6 +26,7 @@ import java.util.List;
 public class PopUpEventController implements PopUpEventApi {
 
     private final PopUpEventService popUpEventService;
+    private final PublicMapClusterService publicMapClusterService;
 
     //    @Operation(summary = "팝업 이벤트 생성 (ADMIN만 가능)")
     @PostMapping
@@ -75,6 +78,17 @@ public class PopUpEventController implements PopUpEventApi {
         return CommonResponse.success(StatusCode.POPUPEVENT_READ_SUCCESS, popUpEventsByPos);
     }
 
+    //    @Operation(summary = "지도 영역 내 팝업 이벤트 클러스터 조회")
+    @PostMapping("/map/clusters")
+    public CommonResponse<List<MapClusterDto>> getEventClustersByPos(
+            @RequestParam("zoom") int zoom,
+            @RequestBody GeoRect geoRect) {
+
+        List<MapClusterDto> clusters = publicMapClusterService.findPopUpEventClusters(geoRect.geoPointLt(), geoRect.geoPointRb(), zoom);
+
+        return CommonResponse.success(StatusCode.POPUPEVENT_READ_SUCCESS, clusters);
+    }
+
     //    @Operation(summary = "스크롤 기반 팝업 이벤트 조회")
     @GetMapping("/scroll")
     public CommonResponse<Slice<ResponsePopUpEventDto>> scrollEvents(
@@ -1,5 +1,6 @@
 package com.junior.controller.story;
 
+import com.junior.dto.map.MapClusterDto;
 import com.junior.dto.story.*;
 import com.junior.exception.StatusCode;
 import com.junior.response.CommonResponse;
@@ -80,6 +81,19 @@ public class MemberStoryController {
         return CommonResponse.success(StatusCode.STORY_READ_SUCCESS, storiesByMap);
     }
 
+    //NOTE: 회원별 지도 기반 스토리 클러스터 조회(배율에 따라 묶어서 표시)
+    @PostMapping("/map/clusters")
+    public CommonResponse<Object> getStoryClustersByMemberAndMap(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam("zoom") int zoom,
+            @RequestBody GeoRect geoRect
+    ) {
+
+        List<MapClusterDto> clusters = memberStoryService.findStoryClustersByMap(userPrincipal, geoRect.geoPointLt(), geoRect.geoPointRb(), zoom);
+
+        return CommonResponse.success(StatusCode.STORY_READ_SUCCESS, clusters);
+    }
+
     //NOTE: 스토리 수정  notion 명: 스토리 수정
     @PatchMapping("/{storyId}")
     public CommonResponse<Object> edit(
@@ -104,6 +118,11 @@ public class MemberStoryController {
     }
 
     //NOTE: 스토리 좋아요 기능  notion 명: 좋아요 기능
+    /**
+     * 좋아요 토글
+     * @deprecated 토글 방식은 재시도 시 상태가 뒤집히므로 PUT/DELETE /{storyId}/like 를 사용, 기존 클라이언트가 모두 전환되면 삭제
+     */
+    @Deprecated
     @GetMapping("/{storyId}/like")
     public CommonResponse<Object> clickLike(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -115,6 +134,30 @@ public class MemberStoryController {
         return CommonResponse.success(StatusCode.LIKE_CHANGE_SUCCESS, null);
     }
 
+    //NOTE: 스토리 좋아요 등록(멱등)
+    @PutMapping("/{storyId}/like")
+    public CommonResponse<Object> like(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable("storyId") Long storyId
+    ) {
+
+        memberStoryService.like(userPrincipal, storyId);
+
+        return CommonResponse.success(StatusCode.LIKE_CREATE_SUCCESS, null);
+    }
+
+    //NOTE: 스토리 좋아요 취소(멱등)
+    @DeleteMapping("/{storyId}/like")
+    public CommonResponse<Object> unlike(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable("storyId") Long storyId
+    ) {
+
+        memberStoryService.unlike(userPrincipal, storyId);
+
+        return CommonResponse.success(StatusCode.LIKE_DELETE_SUCCESS, null);
+    }
+
     //NOTE: 좋아요 스토리 리스트  notion 명: 좋아요 누른 스토리 조회
     @GetMapping("/like-list")
     public CommonResponse<Object> getLikeStories(
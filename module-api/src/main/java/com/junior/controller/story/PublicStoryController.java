@@ -1,6 +1,7 @@
 package com.junior.controller.story;
 
 import com.junior.dto.story.ResponseStoryListDto;
+import com.junior.dto.story.ScoreCursorSlice;
 import com.junior.exception.StatusCode;
 import com.junior.response.CommonResponse;
 import com.junior.security.UserPrincipal;
@@ -47,10 +48,11 @@ public class PublicStoryController {
     public CommonResponse<Object> recentPopularStories(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestParam(name = "cursorId", required = false) Long cursorId,
+            @RequestParam(name = "cursorScore", required = false) Double cursorScore,
             @RequestParam("size") int size
     ) {
 
-        Slice<ResponseStoryListDto> recentPopularStories = publicStoryService.getRecentPopularStories(userPrincipal, cursorId, size);
+        ScoreCursorSlice<ResponseStoryListDto> recentPopularStories = publicStoryService.getRecentPopularStories(userPrincipal, cursorScore, cursorId, size);
 
         return CommonResponse.success(StatusCode.RECOMMENDED_STORIES_SUCCESS, recentPopularStories);
     }
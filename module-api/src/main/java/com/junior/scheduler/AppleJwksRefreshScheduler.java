@@ -0,0 +1,21 @@
+package com.junior.scheduler;
+
+import com.junior.security.generator.ApplePublicKeyProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AppleJwksRefreshScheduler {
+
+    private final ApplePublicKeyProvider applePublicKeyProvider;
+
+    /**
+     * 애플 공개 키를 시작 시 한 번, 이후 주기적으로 갱신
+     */
+    @Scheduled(fixedDelayString = "${oauth2.apple.jwks.refresh-interval-ms:3600000}")
+    public void refreshApplePublicKeys() {
+        applePublicKeyProvider.refresh();
+    }
+}
@@ -0,0 +1,21 @@
+package com.junior.scheduler;
+
+import com.junior.service.firebase.FcmTokenRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FcmTokenPruneScheduler {
+
+    private final FcmTokenRegistry fcmTokenRegistry;
+
+    /**
+     * 오래 사용하지 않은 FCM 토큰을 매일 정리
+     */
+    @Scheduled(cron = "${notification.push.token-prune-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void pruneIdleTokens() {
+        fcmTokenRegistry.pruneIdleTokens();
+    }
+}
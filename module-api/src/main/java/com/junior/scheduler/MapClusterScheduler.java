@@ -0,0 +1,22 @@
+package com.junior.scheduler;
+
+import com.junior.service.map.PublicMapClusterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MapClusterScheduler {
+
+    private final PublicMapClusterService publicMapClusterService;
+
+    /**
+     * 축제, 팝업 이벤트 지도 클러스터를 배율별로 다시 계산
+     * 진행 중인 축제/이벤트 기준이므로 데이터 변경이 없어도 주기적으로 갱신해야 함
+     */
+    @Scheduled(fixedDelayString = "${map.cluster.refresh-interval-ms:60000}")
+    public void refreshClusters() {
+        publicMapClusterService.refresh();
+    }
+}
@@ -0,0 +1,21 @@
+package com.junior.scheduler;
+
+import com.junior.service.notification.NotificationCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalesceScheduler {
+
+    private final NotificationCoalescer notificationCoalescer;
+
+    /**
+     * 묶는 시간이 끝난 알림을 주기적으로 저장하고 푸시 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.coalesce.flush-interval-ms:1000}")
+    public void flushNotification() {
+        notificationCoalescer.flush();
+    }
+}
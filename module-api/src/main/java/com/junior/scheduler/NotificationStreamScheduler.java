@@ -0,0 +1,21 @@
+package com.junior.scheduler;
+
+import com.junior.service.notification.NotificationStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamScheduler {
+
+    private final NotificationStreamService notificationStreamService;
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 실시간 알림 스트림에 주기적으로 heartbeat 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        notificationStreamService.heartbeat();
+    }
+}
@@ -0,0 +1,21 @@
+package com.junior.scheduler;
+
+import com.junior.service.notification.NotificationWriteBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationWriteScheduler {
+
+    private final NotificationWriteBuffer notificationWriteBuffer;
+
+    /**
+     * 메모리 큐에 쌓인 알림을 주기적으로 일괄 저장
+     */
+    @Scheduled(fixedDelayString = "${notification.write.flush-interval-ms:50}")
+    public void flushNotification() {
+        notificationWriteBuffer.flush();
+    }
+}
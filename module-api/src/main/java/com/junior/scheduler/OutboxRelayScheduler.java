@@ -0,0 +1,29 @@
+package com.junior.scheduler;
+
+import com.junior.service.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 아웃박스에 저장된 이벤트를 주기적으로 처리
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relayOutboxEvents() {
+        outboxRelay.relayAll();
+    }
+
+    /**
+     * 처리된 지 오래된 아웃박스 이벤트를 매일 정리
+     */
+    @Scheduled(cron = "${outbox.purge-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void purgeOutboxEvents() {
+        outboxRelay.purge();
+    }
+}
@@ -0,0 +1,21 @@
+package com.junior.scheduler;
+
+import com.junior.service.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitBucketEvictScheduler {
+
+    private final RateLimiter rateLimiter;
+
+    /**
+     * 가득 찬(한동안 요청이 없던) 서버별 토큰 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictFullBuckets() {
+        rateLimiter.evictFullBuckets();
+    }
+}
@@ -0,0 +1,32 @@
+package com.junior.scheduler;
+
+import com.junior.service.story.comment.StoryCommentCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StoryCommentCountScheduler {
+
+    private final StoryCommentCountService storyCommentCountService;
+
+    /**
+     * 서버 시작 시 한 번 보정, 댓글 수 컬럼 도입 전 스토리나 배포 중 누락된 값이 첫 주기까지 0으로 노출되지 않도록 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileCommentCntOnStartup() {
+        storyCommentCountService.reconcile();
+    }
+
+    /**
+     * 스토리 댓글 수를 실제 댓글 수와 주기적으로 비교해 보정
+     */
+    @Scheduled(fixedDelayString = "${story.comment-cnt.reconcile-interval-ms:3600000}",
+            initialDelayString = "${story.comment-cnt.reconcile-interval-ms:3600000}")
+    public void reconcileCommentCnt() {
+        storyCommentCountService.reconcile();
+    }
+}
@@ -0,0 +1,23 @@
+package com.junior.scheduler;
+
+import com.junior.repository.story.popular.StoryPopularityIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StoryPopularityScheduler {
+
+    private final StoryPopularityIndex storyPopularityIndex;
+
+    /**
+     * 다른 서버에서 발생한 반응까지 반영되도록 인기 스토리 색인을 주기적으로 재생성
+     * 최초 적재는 애플리케이션 시작 시 색인에서 수행
+     */
+    @Scheduled(fixedDelayString = "${story.popular.reload-interval-ms:600000}",
+            initialDelayString = "${story.popular.reload-interval-ms:600000}")
+    public void reloadPopularity() {
+        storyPopularityIndex.reload();
+    }
+}
@@ -0,0 +1,21 @@
+package com.junior.scheduler;
+
+import com.junior.service.story.view.StoryViewCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StoryViewCountScheduler {
+
+    private final StoryViewCountService storyViewCountService;
+
+    /**
+     * 메모리에 누적된 스토리 조회수를 주기적으로 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${story.view-cnt.flush-interval-ms:5000}")
+    public void flushViewCnt() {
+        storyViewCountService.flush();
+    }
+}
@@ -0,0 +1,37 @@
+package com.junior.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명을 검증한 JWT 의 claim
+ * JwtValidExceptionHandlerFilter 가 검증 후 요청 attribute 에 저장하고, 이후 필터는 토큰을 다시 파싱하지 않고 사용
+ * @param category: access or refresh
+ * @param expiration: 만료 시각(epoch millis), 만료 시각이 없으면 Long.MAX_VALUE
+ * @param sessionId: 로그인 세션 id, refresh token 에만 존재
+ */
+public record JwtClaims(
+        Long id,
+        String username,
+        String role,
+        String category,
+        long expiration,
+        String sessionId
+) {
+
+    public static final String ATTRIBUTE = JwtClaims.class.getName();
+
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.get("id", Long.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.get("category", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE,
+                claims.get("sid", String.class)
+        );
+    }
+
+    public boolean isExpired(long now) {
+        return expiration <= now;
+    }
+}
@@ -7,18 +7,25 @@ import com.junior.exception.JwtErrorException;
 import com.junior.exception.StatusCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.sql.Timestamp;
 import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Component
@@ -27,29 +34,113 @@ public class JwtUtil {
     // JWT에서는 String 키를 사용하는 방식에서 SecretKey라는 객체를 키로 사용하는 방식으로 변경됨.
     private final SecretKey secretKey;
 
-    public JwtUtil(@Value("${spring.jwt.secret}") String secret) {
+    // 파서는 생성 후 변경되지 않아 여러 스레드에서 공유 가능, 요청마다 새로 만들지 않음
+    private final JwtParser jwtParser;
+
+    private final int verifiedCacheMaxEntries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    // 최근에 서명을 검증한 토큰(SHA-256 digest)의 claim, 가장 오래 사용하지 않은 토큰부터 제거(LRU)
+    private final LinkedHashMap<String, JwtClaims> verifiedTokens;
+
+    public JwtUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${spring.jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries,
+                   MeterRegistry meterRegistry) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+
+        this.verifiedCacheMaxEntries = verifiedCacheMaxEntries;
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > JwtUtil.this.verifiedCacheMaxEntries;
+            }
+        };
+
+        this.hitCounter = Counter.builder("jwt.verify.cache")
+                .tag("result", "hit")
+                .description("검증된 JWT 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.verify.cache")
+                .tag("result", "miss")
+                .description("검증된 JWT 캐시 조회 결과")
+                .register(meterRegistry);
     }
 
     public Long getId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("id", Long.class);
+        return verify(token).id();
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return verify(token).username();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return verify(token).role();
     }
 
     //access or refresh
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+        return verify(token).category();
+    }
+
+    // 로그인 세션 id, 세션 id 없이 발급된 토큰이면 null
+    public String getSessionId(String token) {
+        return verify(token).sessionId();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return verify(token).isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 토큰의 서명과 만료 시각을 검증하고 claim 반환
+     * 최근에 검증한 토큰이면 서명 검증 없이 캐시된 claim 반환, 만료된 토큰은 캐시에서 제거하고 다시 검증
+     * @throws io.jsonwebtoken.JwtException 서명이 올바르지 않거나 만료된 토큰
+     */
+    public JwtClaims verify(String token) {
+
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        JwtClaims cached;
+
+        synchronized (verifiedTokens) {
+            cached = verifiedTokens.get(digest);
+
+            if (cached != null && cached.isExpired(now)) {
+                verifiedTokens.remove(digest);
+                cached = null;
+            }
+        }
+
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+
+        // 만료된 토큰은 ExpiredJwtException 발생
+        JwtClaims claims = JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload());
+
+        if (verifiedCacheMaxEntries > 0) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(digest, claims);
+            }
+        }
+
+        return claims;
+    }
+
+    // 토큰 원문 대신 digest 를 키로 사용해 캐시 메모리를 일정하게 유지
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String createJwt(LoginCreateJwtDto loginCreateJwtDto, String category) {
@@ -64,11 +155,18 @@ public class JwtUtil {
             expireDate = Timestamp.valueOf(loginCreateJwtDto.requestTimeMs().plusMonths(6));
         }
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .claim("category", category)
                 .claim("id", loginCreateJwtDto.id())
                 .claim("username", loginCreateJwtDto.username())
-                .claim("role", loginCreateJwtDto.role())
+                .claim("role", loginCreateJwtDto.role());
+
+        // refresh token 저장소의 세션 키, access token 에는 담지 않음
+        if (category.equals("refresh") && loginCreateJwtDto.sessionId() != null) {
+            builder.claim("sid", loginCreateJwtDto.sessionId());
+        }
+
+        return builder
                 .issuedAt(requestDate)
                 .expiration(expireDate)
                 .signWith(secretKey)
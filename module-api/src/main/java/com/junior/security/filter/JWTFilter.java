@@ -1,7 +1,8 @@
 package com.junior.security.filter;
 
+import com.junior.security.JwtClaims;
 import com.junior.security.JwtUtil;
-import com.junior.service.security.UserDetailsServiceImpl;
+import com.junior.service.security.MemberPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +22,7 @@ import java.io.IOException;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
 
     @Override
@@ -39,13 +40,14 @@ public class JWTFilter extends OncePerRequestFilter {
         String accessToken = preAccessToken.split(" ")[1];
 
 
-        // username, role 값을 획득
-        String username = jwtUtil.getUsername(accessToken);
-
+        // JwtValidExceptionHandlerFilter 에서 검증한 claim 사용, 없으면 직접 검증
+        JwtClaims claims = (JwtClaims) request.getAttribute(JwtClaims.ATTRIBUTE);
+        if (claims == null) {
+            claims = jwtUtil.verify(accessToken);
+        }
 
-        //username->member->userDetails(userPrincipal)으로, userDetailsService에서 꺼내도 무방
-        //attributes 내용들은 회원가입 시점에 저장되므로 신경 안써도 될듯?
-        UserDetails customUserDetails = userDetailsService.loadUserByUsername(username);
+        // id, username 으로 인증 회원 조회, 캐시된 회원이면 DB 를 조회하지 않음
+        UserDetails customUserDetails = memberPrincipalCache.getPrincipal(claims.id(), claims.username());
 
         //JWT 방식이므로 여기서 1회용 회원 세션 저장
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
@@ -3,6 +3,7 @@ package com.junior.security.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.junior.exception.StatusCode;
 import com.junior.response.CommonResponse;
+import com.junior.security.JwtClaims;
 import com.junior.security.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
@@ -43,14 +44,17 @@ public class JwtValidExceptionHandlerFilter extends OncePerRequestFilter {
 
 
         try {
-            // 토큰이 access인지 확인 (발급시 페이로드에 명시)
-            String category = jwtUtil.getCategory(accessToken);
+            // 요청마다 한 번만 검증하고, 이후 필터는 요청 attribute 에 저장된 claim 사용
+            JwtClaims claims = jwtUtil.verify(accessToken);
 
-            if (!category.equals("access")) {
+            // 토큰이 access인지 확인 (발급시 페이로드에 명시)
+            if (!"access".equals(claims.category())) {
                 setErrorResponse(response, StatusCode.NOT_ACCESS_TOKEN);
                 return;
             }
 
+            request.setAttribute(JwtClaims.ATTRIBUTE, claims);
+
             filterChain.doFilter(request, response);
         } catch (ExpiredJwtException e) {
             // 토큰 만료 여부 확인
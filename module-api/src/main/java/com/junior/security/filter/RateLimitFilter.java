@@ -0,0 +1,82 @@
+package com.junior.security.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junior.config.RateLimitProperties;
+import com.junior.exception.StatusCode;
+import com.junior.response.CommonResponse;
+import com.junior.security.JwtClaims;
+import com.junior.service.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 경로별 정책에 따라 클라이언트별 요청 수를 제한하고, 초과한 요청은 429 와 Retry-After 로 응답
+ * 보안 필터 체인 다음에 실행되어, 검증된 access token 이 있으면 회원 id 로, 없으면 IP 로 클라이언트 구분
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitProperties.Policy policy = rateLimiter.findPolicy(request.getMethod(), path);
+
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitMillis = rateLimiter.tryAcquire(policy, clientKey(request));
+
+        if (waitMillis > 0) {
+            setErrorResponse(response, waitMillis);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+
+        // JwtValidExceptionHandlerFilter 가 검증 후 저장한 claim
+        if (request.getAttribute(JwtClaims.ATTRIBUTE) instanceof JwtClaims claims && claims.id() != null) {
+            return "m:" + claims.id();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void setErrorResponse(HttpServletResponse response, long waitMillis) {
+        StatusCode statusCode = StatusCode.TOO_MANY_REQUESTS;
+
+        response.setStatus(statusCode.getHttpCode());
+        // Retry-After 는 초 단위, 1초 미만이면 1초
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        CommonResponse errorResponse = CommonResponse.fail(statusCode);
+        try {
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        } catch (IOException e) {
+            log.error("[{}] 요청 수 제한 응답 작성 실패, message: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), e.getMessage());
+        }
+    }
+}
@@ -35,7 +35,7 @@ public class ApplePublicKeyGenerator {
         ApplePublicKey publicKey = applePublicKeys.getMatchedKey(tokenHeaders.get("kid"), tokenHeaders.get("alg"));
 
         //해당 키의 n, e를 가져와 PK 생성
-        return getPublicKey(publicKey);
+        return generatePublicKey(publicKey);
     }
 
     /**
@@ -45,7 +45,7 @@ public class ApplePublicKeyGenerator {
      * @throws NoSuchAlgorithmException
      * @throws InvalidKeySpecException
      */
-    private PublicKey getPublicKey(ApplePublicKey publicKey)
+    public PublicKey generatePublicKey(ApplePublicKey publicKey)
             throws NoSuchAlgorithmException, InvalidKeySpecException {
         byte[] nBytes = Base64.getUrlDecoder().decode(publicKey.n());
         byte[] eBytes = Base64.getUrlDecoder().decode(publicKey.e());
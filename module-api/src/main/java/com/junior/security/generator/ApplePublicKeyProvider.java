@@ -0,0 +1,168 @@
+package com.junior.security.generator;
+
+import com.junior.dto.oauth2.ApplePublicKey;
+import com.junior.dto.oauth2.ApplePublicKeyResponse;
+import com.junior.exception.JwtErrorException;
+import com.junior.exception.StatusCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 애플 로그인 공개 키(JWKS) 캐시
+ * 애플의 공개 키 목록을 주기적으로 받아와 kid 별 PublicKey 로 미리 변환해 두고, 로그인 시에는 네트워크 요청 없이 조회
+ * 캐시에 없는 kid 는 애플이 키를 교체한 경우이므로 한 번만 즉시 갱신, 동시에 요청되어도 갱신은 한 스레드만 수행
+ */
+@Slf4j
+@Component
+public class ApplePublicKeyProvider {
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final WebClient webClient;
+    private final ApplePublicKeyGenerator applePublicKeyGenerator;
+    private final Clock clock;
+    private final String pkHost;
+    private final long minRefreshIntervalMillis;
+    private final Counter refreshCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter unknownKidCounter;
+
+    // 갱신 시 통째로 교체, 조회는 잠금 없이 수행
+    private volatile Map<String, KeyEntry> keys = Map.of();
+
+    // 마지막으로 갱신을 시도한 시각, 알 수 없는 kid 로 인한 갱신이 몰리지 않도록 사용
+    private volatile long lastRefreshAt = Long.MIN_VALUE;
+
+    private final Object refreshLock = new Object();
+
+    public ApplePublicKeyProvider(WebClient webClient,
+                                  ApplePublicKeyGenerator applePublicKeyGenerator,
+                                  Clock clock,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${oauth2.apple.pk-host}") String pkHost,
+                                  @Value("${oauth2.apple.jwks.min-refresh-interval-ms:10000}") long minRefreshIntervalMillis) {
+        this.webClient = webClient;
+        this.applePublicKeyGenerator = applePublicKeyGenerator;
+        this.clock = clock;
+        this.pkHost = pkHost;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+
+        this.refreshCounter = Counter.builder("oauth2.apple.jwks.refresh")
+                .tag("result", "success")
+                .description("애플 공개 키 갱신 결과")
+                .register(meterRegistry);
+        this.refreshFailureCounter = Counter.builder("oauth2.apple.jwks.refresh")
+                .tag("result", "failure")
+                .description("애플 공개 키 갱신 결과")
+                .register(meterRegistry);
+
+        this.unknownKidCounter = Counter.builder("oauth2.apple.jwks.unknown.kid")
+                .description("캐시에 없는 kid 로 요청된 애플 로그인 수")
+                .register(meterRegistry);
+
+        Gauge.builder("oauth2.apple.jwks.keys", this, provider -> provider.keys.size())
+                .description("캐시된 애플 공개 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 헤더의 kid, alg 와 일치하는 공개 키 조회
+     * 캐시에 없으면 한 번 갱신한 뒤 다시 조회하고, 그래도 없으면 유효하지 않은 토큰으로 처리
+     */
+    public PublicKey getPublicKey(String kid, String alg) {
+
+        PublicKey publicKey = find(kid, alg);
+
+        if (publicKey != null) {
+            return publicKey;
+        }
+
+        unknownKidCounter.increment();
+        refreshForUnknownKid(kid, alg);
+
+        publicKey = find(kid, alg);
+
+        if (publicKey == null) {
+            throw new JwtErrorException(StatusCode.INVALID_TOKEN);
+        }
+
+        return publicKey;
+    }
+
+    /**
+     * 애플의 공개 키 목록을 받아와 캐시 교체, 실패하면 기존 키를 유지
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            lastRefreshAt = clock.millis();
+
+            try {
+                keys = decode(fetch());
+                refreshCounter.increment();
+            } catch (RuntimeException | GeneralSecurityException e) {
+                refreshFailureCounter.increment();
+                log.error("[{}] 애플 공개 키 갱신 실패", Thread.currentThread().getStackTrace()[1].getMethodName(), e);
+            }
+        }
+    }
+
+    private void refreshForUnknownKid(String kid, String alg) {
+        synchronized (refreshLock) {
+            // 기다리는 동안 다른 스레드가 갱신했으면 다시 요청하지 않음
+            if (find(kid, alg) != null || clock.millis() < lastRefreshAt + minRefreshIntervalMillis) {
+                return;
+            }
+
+            refresh();
+        }
+    }
+
+    private PublicKey find(String kid, String alg) {
+
+        KeyEntry entry = keys.get(kid);
+
+        if (entry == null || !entry.alg().equals(alg)) {
+            return null;
+        }
+
+        return entry.publicKey();
+    }
+
+    //애플에 직접 요청해서 PK 받아오기
+    ApplePublicKeyResponse fetch() {
+        return webClient.get()
+                .uri(pkHost + "/auth/keys")
+                .retrieve()
+                .bodyToMono(ApplePublicKeyResponse.class)
+                .block(FETCH_TIMEOUT);
+    }
+
+    private Map<String, KeyEntry> decode(ApplePublicKeyResponse response) throws GeneralSecurityException {
+
+        if (response == null || response.keys() == null || response.keys().isEmpty()) {
+            throw new IllegalStateException("애플 공개 키 목록이 비어 있음");
+        }
+
+        Map<String, KeyEntry> decoded = new HashMap<>();
+        for (ApplePublicKey key : response.keys()) {
+            decoded.put(key.kid(), new KeyEntry(key.alg(), applePublicKeyGenerator.generatePublicKey(key)));
+        }
+
+        return Map.copyOf(decoded);
+    }
+
+    private record KeyEntry(String alg, PublicKey publicKey) {
+    }
+}
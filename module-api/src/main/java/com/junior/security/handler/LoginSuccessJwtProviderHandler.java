@@ -7,7 +7,7 @@ import com.junior.exception.StatusCode;
 import com.junior.response.CommonResponse;
 import com.junior.security.JwtUtil;
 import com.junior.security.UserPrincipal;
-import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -25,7 +25,7 @@ import java.time.LocalDateTime;
 public class LoginSuccessJwtProviderHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtUtil jwtUtil;
-    private final RedisUtil redisUtil;
+    private final RefreshTokenStore refreshTokenStore;
 
 
     @Override
@@ -49,15 +49,15 @@ public class LoginSuccessJwtProviderHandler extends SimpleUrlAuthenticationSucce
                 .username(member.getUsername())
                 .role(member.getRole().toString())
                 .requestTimeMs(LocalDateTime.now())
+                .sessionId(refreshTokenStore.createSessionId())
                 .build();
 
         String accessToken = jwtUtil.createJwt(loginCreateJwtDto, "access");
         String refreshToken = jwtUtil.createJwt(loginCreateJwtDto, "refresh");
         log.info("[{}} JWT 토큰 생성 access: {}, refresh: {}", Thread.currentThread().getStackTrace()[1].getClassName(), accessToken, refreshToken);
 
-        //redis에 refreshToken 저장하기((key, value): (token, username))
-        //Bearer을 포함하지 않음
-        redisUtil.setDataExpire(refreshToken, member.getUsername(), 15778800);
+        //redis에 refreshToken 저장하기, 토큰 원문 대신 세션 id 키에 digest 저장
+        refreshTokenStore.save(member.getId(), loginCreateJwtDto.sessionId(), refreshToken);
 
 
         //응답에 JWT 추가
@@ -4,13 +4,16 @@ import com.junior.domain.member.Member;
 import com.junior.domain.member.MemberStatus;
 import com.junior.domain.story.Comment;
 import com.junior.dto.comment.CommentAdminDto;
+import com.junior.event.story.StoryEngagementEvent;
 import com.junior.exception.CommentNotFoundException;
 import com.junior.exception.StatusCode;
 import com.junior.page.PageCustom;
 import com.junior.repository.comment.CommentRepository;
 import com.junior.repository.member.MemberRepository;
+import com.junior.repository.story.StoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +31,8 @@ public class CommentAdminService {
 
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
+    private final StoryRepository storyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PageCustom<CommentAdminDto> findComment(Pageable pageable) {
 
@@ -54,6 +59,16 @@ public class CommentAdminService {
 
         log.info("[{}] 관리자 댓글 삭제 id: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), commentId);
 
+        // 이미 삭제된 댓글은 스토리 댓글 수, 부모 댓글의 답글 수에서 빠져 있음
+        if (!comment.getIsDeleted()) {
+            storyRepository.decreaseCommentCnt(comment.getStory().getId());
+            eventPublisher.publishEvent(StoryEngagementEvent.comment(comment.getStory().getId(), -1));
+
+            if (comment.getParent() != null) {
+                commentRepository.decreaseReplyCnt(comment.getParent().getId());
+            }
+        }
+
         comment.deleteComment();
     }
 
@@ -6,12 +6,15 @@ import com.junior.domain.story.Comment;
 import com.junior.domain.story.Story;
 import com.junior.dto.comment.CreateCommentDto;
 import com.junior.dto.comment.ResponseChildCommentDto;
+import com.junior.dto.comment.ResponseCommentThreadDto;
 import com.junior.dto.comment.ResponseMyCommentDto;
 import com.junior.dto.comment.ResponseParentCommentDto;
-import com.junior.event.comment.CommentFcmEvent;
+import com.junior.dto.notification.NotificationPushDto;
+import com.junior.event.story.StoryEngagementEvent;
 import com.junior.exception.CommentNotFoundException;
 import com.junior.exception.StatusCode;
 import com.junior.exception.StoryNotFoundException;
+import com.junior.repository.comment.CommentJdbcRepository;
 import com.junior.repository.comment.CommentRepository;
 import com.junior.repository.story.StoryRepository;
 import com.junior.security.UserPrincipal;
@@ -21,16 +24,24 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+
+    // 댓글 스레드에서 부모 댓글당 함께 조회할 수 있는 최대 답글 수
+    private static final int MAX_REPLY_SIZE = 20;
+
     private final CommentRepository commentRepository;
+    private final CommentJdbcRepository commentJdbcRepository;
     private final StoryRepository storyRepository;
 
     private final NotificationService notificationService;
@@ -63,12 +74,18 @@ public class CommentService {
         }
 
         commentRepository.save(comment);
+        storyRepository.increaseCommentCnt(findStory.getId());
+        eventPublisher.publishEvent(StoryEngagementEvent.comment(findStory.getId(), 1));
 
-        // 스토리 작성자 != 댓글 작성자 -> 알림 생성
-        if (!findStory.getMember().getId().equals(findMember.getId())) {
-            notificationService.saveNotification(findStory.getMember(), findMember.getProfileImage(), comment.getContent(), findStory.getId(), NotificationType.COMMENT);
+        // 부모 댓글의 답글 수는 동시 작성 시 유실되지 않도록 DB 에서 증가
+        if (comment.getParent() != null) {
+            commentRepository.increaseReplyCnt(comment.getParent().getId());
+        }
 
-            eventPublisher.publishEvent(new CommentFcmEvent(comment, findMember));
+        // 스토리 작성자 != 댓글 작성자 -> 알림 생성, 푸시 전송
+        if (!findStory.getMember().getId().equals(findMember.getId())) {
+            notificationService.saveNotification(findStory.getMember(), findMember.getProfileImage(), comment.getContent(), findStory.getId(), NotificationType.COMMENT,
+                    new NotificationPushDto(findMember.getNickname(), findStory.getTitle()));
         }
     }
 
@@ -90,6 +107,57 @@ public class CommentService {
         return commentRepository.findChildCommentByParentCommendId(member, parentCommentId, pageable, cursorId);
     }
 
+    /**
+     * 부모 댓글 한 페이지와 각 부모 댓글의 앞쪽 답글을 함께 조회
+     * 답글은 부모 댓글 수와 관계없이 한 번의 쿼리로 조회
+     * @param cursorId: 이전 페이지 마지막 부모 댓글 id
+     * @param size: 부모 댓글 수
+     * @param replySize: 부모 댓글당 답글 수, 0 ~ MAX_REPLY_SIZE 로 제한
+     */
+    public Slice<ResponseCommentThreadDto> findCommentThreads(UserPrincipal userPrincipal, Long storyId, Long cursorId, int size, int replySize) {
+
+        int limitedReplySize = Math.max(0, Math.min(replySize, MAX_REPLY_SIZE));
+
+        Member member = (userPrincipal != null) ? userPrincipal.getMember() : null;
+
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<ResponseParentCommentDto> parents = commentRepository.findThreadParentComments(member, storyId, pageable, cursorId);
+
+        List<Long> parentIds = parents.getContent().stream()
+                .map(ResponseParentCommentDto::id)
+                .toList();
+
+        // 다음 답글 존재 여부 판단을 위해 부모 댓글당 1개 더 조회
+
+        Map<Long, List<ResponseChildCommentDto>> repliesByParentId = commentJdbcRepository.findFirstReplies(
+                (member != null) ? member.getId() : null, parentIds, limitedReplySize + 1);
+
+        List<ResponseCommentThreadDto> threads = parents.getContent().stream()
+                .map(parent -> {
+                    List<ResponseChildCommentDto> replies = repliesByParentId.getOrDefault(parent.id(), List.of());
+                    boolean hasNextReply = replies.size() > limitedReplySize;
+
+                    return new ResponseCommentThreadDto(parent, hasNextReply ? replies.subList(0, limitedReplySize) : replies, hasNextReply);
+                })
+                .toList();
+
+        return new SliceImpl<>(threads, pageable, parents.hasNext());
+    }
+
+    /**
+     * 댓글 스레드의 다음 답글 조회
+     * @param cursorId: 이전에 조회한 마지막 답글 id
+     */
+    public Slice<ResponseChildCommentDto> findThreadReplies(UserPrincipal userPrincipal, Long parentCommentId, Long cursorId, int size) {
+
+        Member member = (userPrincipal != null) ? userPrincipal.getMember() : null;
+
+        Pageable pageable = PageRequest.of(0, size);
+
+        return commentRepository.findThreadReplies(member, parentCommentId, pageable, cursorId);
+    }
+
     @Transactional
     public void editComment(UserPrincipal userPrincipal, Long commentId, String content) {
         Member findMember = userPrincipal.getMember();
@@ -113,6 +181,15 @@ public class CommentService {
                 .orElseThrow(() -> new CommentNotFoundException(StatusCode.COMMENT_NOT_FOUND));
 
         if (Objects.equals(findComment.getMember().getId(), findMember.getId())) {
+            if (!findComment.getIsDeleted()) {
+                storyRepository.decreaseCommentCnt(findComment.getStory().getId());
+                eventPublisher.publishEvent(StoryEngagementEvent.comment(findComment.getStory().getId(), -1));
+
+                if (findComment.getParent() != null) {
+                    commentRepository.decreaseReplyCnt(findComment.getParent().getId());
+                }
+            }
+
             findComment.deleteComment();
         } else {
             //FIXME : 권한 문제로 예외 바꾸기
@@ -131,6 +208,7 @@ public class CommentService {
 
     public Long findCommentCntByStoryId(UserPrincipal userPrincipal, Long storyId) {
 
-        return commentRepository.countByStoryIdAndIsDeletedFalse(storyId);
+        // 댓글을 매번 세지 않고 스토리에 유지되는 댓글 수를 조회
+        return storyRepository.findCommentCntById(storyId).orElse(0L);
     }
 }
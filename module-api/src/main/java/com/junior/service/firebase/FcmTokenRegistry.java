@@ -0,0 +1,222 @@
+package com.junior.service.firebase;
+
+import com.junior.domain.firebase.FcmNotificationToken;
+import com.junior.event.firebase.FcmTokenChangedEvent;
+import com.junior.repository.firebase.FcmNotificationTokenJdbcRepository;
+import com.junior.repository.firebase.FcmNotificationTokenJdbcRepository.IdleToken;
+import com.junior.repository.firebase.FcmNotificationTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 FCM 토큰 목록 캐시
+ * 토큰 등록/삭제는 DB 에 먼저 반영하고 커밋 후 해당 회원의 캐시를 무효화,
+ * 다른 서버에서 발생한 변경은 ttl 이내로만 지연되어 보임
+ */
+@Slf4j
+@Component
+public class FcmTokenRegistry {
+
+    // 오래된 토큰을 한 번에 삭제할 최대 수
+    static final int PRUNE_CHUNK_SIZE = 1000;
+
+    private final FcmNotificationTokenRepository fcmNotificationTokenRepository;
+    private final FcmNotificationTokenJdbcRepository fcmNotificationTokenJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final int idleDays;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter prunedCounter;
+
+    private final ConcurrentHashMap<Long, TokenEntry> entries = new ConcurrentHashMap<>();
+
+    // 무효화할 때마다 증가, 조회 도중 무효화된 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLong version = new AtomicLong();
+
+    public FcmTokenRegistry(FcmNotificationTokenRepository fcmNotificationTokenRepository,
+                            FcmNotificationTokenJdbcRepository fcmNotificationTokenJdbcRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            Clock clock,
+                            MeterRegistry meterRegistry,
+                            @Value("${notification.push.token-cache.ttl-ms:600000}") long ttlMillis,
+                            @Value("${notification.push.token-cache.max-entries:10000}") int maxEntries,
+                            @Value("${notification.push.token-idle-days:60}") int idleDays) {
+        this.fcmNotificationTokenRepository = fcmNotificationTokenRepository;
+        this.fcmNotificationTokenJdbcRepository = fcmNotificationTokenJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.idleDays = idleDays;
+
+        this.hitCounter = Counter.builder("push.fcm.token.cache")
+                .tag("result", "hit")
+                .description("FCM 토큰 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("push.fcm.token.cache")
+                .tag("result", "miss")
+                .description("FCM 토큰 캐시 조회 결과")
+                .register(meterRegistry);
+
+        this.prunedCounter = Counter.builder("push.fcm.token.pruned")
+                .description("오래 사용하지 않아 삭제된 FCM 토큰 수")
+                .register(meterRegistry);
+
+        Gauge.builder("push.fcm.token.cache.size", entries, ConcurrentHashMap::size)
+                .description("토큰 목록이 캐시된 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 FCM 토큰 목록, 캐시에 없거나 만료되었으면 DB 에서 조회한 뒤 캐시
+     */
+    public List<String> getTokens(Long memberId) {
+
+        long now = clock.millis();
+        TokenEntry entry = entries.get(memberId);
+
+        if (entry != null && entry.expiresAt() > now) {
+            hitCounter.increment();
+            return entry.tokens();
+        }
+
+        missCounter.increment();
+
+        long loadVersion = version.get();
+        List<String> tokens = fcmNotificationTokenRepository.findByMemberId(memberId)
+                .stream()
+                .map(FcmNotificationToken::getToken)
+                .toList();
+
+        put(memberId, new TokenEntry(tokens, now + ttlMillis), loadVersion);
+
+        return tokens;
+    }
+
+    /**
+     * 토큰 등록, 이미 등록한 토큰이면 마지막 사용 시각만 갱신
+     * 다른 회원이 등록한 토큰이면 현재 회원으로 옮기고 두 회원의 캐시를 무효화
+     */
+    public void register(Long memberId, String token) {
+
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // 앱 실행마다 호출되므로 토큰 목록이 바뀌지 않는 경우는 UPDATE 한 번으로 끝냄
+        if (fcmNotificationTokenJdbcRepository.touch(memberId, token, now)) {
+            return;
+        }
+
+        Set<Long> changedMemberIds = new HashSet<>();
+        changedMemberIds.add(memberId);
+        fcmNotificationTokenJdbcRepository.upsert(memberId, token, now).ifPresent(changedMemberIds::add);
+
+        eventPublisher.publishEvent(new FcmTokenChangedEvent(changedMemberIds));
+    }
+
+    /**
+     * 유효하지 않은 토큰을 한 번에 삭제
+     * @param tokensByMemberId: (memberId, 삭제할 토큰 목록)
+     */
+    public void remove(Map<Long, List<String>> tokensByMemberId) {
+
+        if (tokensByMemberId.isEmpty()) {
+            return;
+        }
+
+        List<String> tokens = tokensByMemberId.values().stream()
+                .flatMap(List::stream)
+                .toList();
+
+        fcmNotificationTokenRepository.deleteAllByTokenIn(tokens);
+        eventPublisher.publishEvent(new FcmTokenChangedEvent(tokensByMemberId.keySet()));
+    }
+
+    /**
+     * idleDays 일 넘게 사용하지 않은 토큰을 PRUNE_CHUNK_SIZE 개씩 나누어 삭제
+     * @return 삭제된 토큰 수
+     */
+    public int pruneIdleTokens() {
+
+        LocalDateTime before = LocalDateTime.now(clock).minusDays(idleDays);
+        int pruned = 0;
+        List<IdleToken> chunk;
+
+        do {
+            chunk = fcmNotificationTokenJdbcRepository.findIdleTokens(before, PRUNE_CHUNK_SIZE);
+
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> tokenIds = new ArrayList<>(chunk.size());
+            Set<Long> memberIds = new HashSet<>();
+            for (IdleToken idleToken : chunk) {
+                tokenIds.add(idleToken.tokenId());
+                memberIds.add(idleToken.memberId());
+            }
+
+            pruned += fcmNotificationTokenJdbcRepository.deleteIdleTokens(tokenIds, before);
+            eventPublisher.publishEvent(new FcmTokenChangedEvent(memberIds));
+        } while (chunk.size() == PRUNE_CHUNK_SIZE);
+
+        prunedCounter.increment(pruned);
+
+        if (pruned > 0) {
+            log.info("[{}] 오래된 FCM 토큰 삭제 count: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), pruned);
+        }
+
+        return pruned;
+    }
+
+    // 커밋된 변경만 반영, 트랜잭션 밖에서 발행되면 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTokenChanged(FcmTokenChangedEvent event) {
+        event.getMemberIds().forEach(this::evict);
+    }
+
+    public void evict(Long memberId) {
+        version.incrementAndGet();
+        entries.remove(memberId);
+    }
+
+    private void put(Long memberId, TokenEntry entry, long loadVersion) {
+
+        if (entries.size() >= maxEntries) {
+            long now = clock.millis();
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        entries.put(memberId, entry);
+
+        // 조회 도중 무효화가 일어났으면 무효화 이전 결과일 수 있으므로 제거
+        if (version.get() != loadVersion) {
+            entries.remove(memberId, entry);
+        }
+    }
+
+    private record TokenEntry(List<String> tokens, long expiresAt) {
+    }
+}
@@ -0,0 +1,248 @@
+package com.junior.service.firebase.push;
+
+import com.google.firebase.messaging.Message;
+import com.junior.service.firebase.FcmTokenRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 푸시 전송 파이프라인
+ * 여러 이벤트의 푸시를 큐에 모아 전용 스레드에서 최대 500개씩 한 번에 전송
+ * 일시적인 오류는 지수 백오프로 재전송하고, 유효하지 않은 토큰은 배치 단위로 한 번에 삭제
+ */
+@Slf4j
+@Component
+public class FcmPushDispatcher {
+
+    // FCM 일괄 전송 한 번에 보낼 수 있는 최대 메시지 수
+    static final int BATCH_SIZE = 500;
+
+    // 재전송 간격 상한
+    private static final long MAX_RETRY_DELAY_MILLIS = 60000;
+
+    private final FcmSender fcmSender;
+    private final FcmTokenRegistry fcmTokenRegistry;
+    private final int maxAttempts;
+    private final long retryBaseDelayMillis;
+    private final long dispatchIntervalMillis;
+
+    private final LinkedBlockingQueue<FcmPush> queue;
+    private final DelayQueue<FcmPush> retryQueue = new DelayQueue<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("fcm-push-"));
+
+    private final Timer latencyTimer;
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter droppedCounter;
+    private final Counter deadTokenCounter;
+    private final Counter failedCounter;
+    private final Counter retryExhaustedCounter;
+
+    public FcmPushDispatcher(FcmSender fcmSender,
+                             FcmTokenRegistry fcmTokenRegistry,
+                             MeterRegistry meterRegistry,
+                             @Value("${notification.push.queue-capacity:10000}") int queueCapacity,
+                             @Value("${notification.push.max-attempts:5}") int maxAttempts,
+                             @Value("${notification.push.retry-base-delay-ms:1000}") long retryBaseDelayMillis,
+                             @Value("${notification.push.dispatch-interval-ms:100}") long dispatchIntervalMillis) {
+        this.fcmSender = fcmSender;
+        this.fcmTokenRegistry = fcmTokenRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+        this.dispatchIntervalMillis = dispatchIntervalMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.latencyTimer = Timer.builder("push.fcm.latency")
+                .description("푸시 요청부터 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+
+        this.sendTimer = Timer.builder("push.fcm.send")
+                .description("FCM 일괄 전송 소요 시간")
+                .register(meterRegistry);
+
+        this.sentCounter = Counter.builder("push.fcm.sent")
+                .description("전송에 성공한 푸시 수")
+                .register(meterRegistry);
+
+        this.retryCounter = Counter.builder("push.fcm.retry")
+                .description("일시적인 오류로 다시 전송한 푸시 수")
+                .register(meterRegistry);
+
+        this.droppedCounter = Counter.builder("push.fcm.dropped")
+                .description("큐가 가득 차 전송하지 못한 푸시 수")
+                .register(meterRegistry);
+
+        this.deadTokenCounter = failedCounter(meterRegistry, "dead_token");
+        this.failedCounter = failedCounter(meterRegistry, "failed");
+        this.retryExhaustedCounter = failedCounter(meterRegistry, "retry_exhausted");
+
+        Gauge.builder("push.fcm.pending", this, FcmPushDispatcher::getPendingCnt)
+                .description("전송 대기 중인 푸시 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter failedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("push.fcm.failed")
+                .description("전송에 실패한 푸시 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        executor.scheduleWithFixedDelay(this::dispatchAll, dispatchIntervalMillis, dispatchIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 푸시를 전송 큐에 적재, 큐가 가득 차면 버림
+     * @param memberId: 토큰을 등록한 회원 id, 유효하지 않은 토큰 삭제 시 캐시 무효화에 사용
+     */
+    public void enqueue(Long memberId, String token, Message message) {
+
+        if (!queue.offer(new FcmPush(memberId, token, message, System.nanoTime(), 0, 0))) {
+            droppedCounter.increment();
+        }
+    }
+
+    public int getPendingCnt() {
+        return queue.size() + retryQueue.size();
+    }
+
+    /**
+     * 보낼 푸시가 남지 않을 때까지 전송
+     */
+    public void dispatchAll() {
+        try {
+            while (dispatch() == BATCH_SIZE) {
+                // 가득 찬 배치를 보냈으면 남은 푸시가 있을 수 있으므로 계속 전송
+            }
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기가 실행되지 않음
+            log.error("[{}] 푸시 전송 실패", Thread.currentThread().getStackTrace()[1].getMethodName(), e);
+        }
+    }
+
+    /**
+     * 재전송 시간이 된 푸시를 먼저, 새 푸시를 이어서 최대 BATCH_SIZE 개 전송
+     * @return 전송한 푸시 수
+     */
+    int dispatch() {
+
+        List<FcmPush> batch = new ArrayList<>(BATCH_SIZE);
+        retryQueue.drainTo(batch, BATCH_SIZE);
+        queue.drainTo(batch, BATCH_SIZE - batch.size());
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Message> messages = batch.stream().map(FcmPush::message).toList();
+        List<FcmSendResult> results = sendTimer.record(() -> fcmSender.sendEach(messages));
+
+        Map<Long, List<String>> deadTokens = new HashMap<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            FcmPush push = batch.get(i);
+
+            switch (results.get(i)) {
+                case SUCCESS -> {
+                    sentCounter.increment();
+                    latencyTimer.record(System.nanoTime() - push.enqueuedNanos(), TimeUnit.NANOSECONDS);
+                }
+                case RETRY -> retry(push);
+                case DEAD_TOKEN -> {
+                    deadTokenCounter.increment();
+                    deadTokens.computeIfAbsent(push.memberId(), id -> new ArrayList<>()).add(push.token());
+                }
+                case FAILED -> failedCounter.increment();
+            }
+        }
+
+        deleteDeadTokens(deadTokens);
+
+        return batch.size();
+    }
+
+    private void retry(FcmPush push) {
+
+        int attempt = push.attempt() + 1;
+
+        if (attempt >= maxAttempts) {
+            retryExhaustedCounter.increment();
+            return;
+        }
+
+        // base, base * 2, base * 4 ... 간격으로 재전송
+        long delayMillis = Math.min(retryBaseDelayMillis << (attempt - 1), MAX_RETRY_DELAY_MILLIS);
+
+        retryQueue.offer(new FcmPush(push.memberId(), push.token(), push.message(), push.enqueuedNanos(), attempt,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis)));
+        retryCounter.increment();
+    }
+
+    private void deleteDeadTokens(Map<Long, List<String>> deadTokens) {
+
+        if (deadTokens.isEmpty()) {
+            return;
+        }
+
+        try {
+            fcmTokenRegistry.remove(deadTokens);
+        } catch (RuntimeException e) {
+            log.error("[{}] 유효하지 않은 토큰 삭제 실패 member 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), deadTokens.size(), e);
+        }
+    }
+
+    /**
+     * 종료 시 큐에 남은 푸시 전송, 재전송 대기 중인 푸시는 버림
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        dispatchAll();
+
+        if (!retryQueue.isEmpty()) {
+            log.warn("[{}] 재전송하지 못한 푸시 count: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), retryQueue.size());
+        }
+    }
+
+    /**
+     * @param attempt: 실패한 횟수
+     * @param readyNanos: 재전송 가능 시각, 새 푸시는 0
+     */
+    private record FcmPush(Long memberId, String token, Message message, long enqueuedNanos, int attempt, long readyNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.junior.service.firebase.push;
+
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.junior.event.comment.CommentFcmEvent;
+import com.junior.event.like.LikeFcmEvent;
+import com.junior.service.firebase.FcmTokenRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요/댓글 푸시를 토큰별 메시지로 만들어 FcmPushDispatcher 에 적재
+ * 전송은 FcmPushDispatcher 전용 스레드에서 처리하므로 공용 @Async 스레드를 사용하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class FcmPushEventListener {
+
+    private final FcmTokenRegistry fcmTokenRegistry;
+    private final FcmPushDispatcher fcmPushDispatcher;
+    private final MessageSource ms;
+
+    @EventListener
+    public void sendToStoryAuthor(LikeFcmEvent event) {
+
+        // 묶인 좋아요는 "OO님 외 N명" 으로 표시
+        String body = event.getLikeCnt() > 1
+                ? ms.getMessage("push.like.coalesced.content", new Object[]{event.getLikeMemberNickname(), event.getLikeCnt() - 1}, null, null)
+                : ms.getMessage("push.like.content", new Object[]{event.getLikeMemberNickname()}, null, null);
+
+        enqueue(event.getStoryAuthorId(), event.getStoryId(), event.getStoryTitle(), body);
+    }
+
+    @EventListener
+    public void sendToStoryAuthor(CommentFcmEvent event) {
+
+        // 묶인 댓글은 "OO님 외 N명" 으로 표시
+        String body = event.getCommentCnt() > 1
+                ? ms.getMessage("push.comment.coalesced.content", new Object[]{event.getAuthorNickname(), event.getCommentCnt() - 1}, null, null)
+                : ms.getMessage("push.comment.content", new Object[]{event.getAuthorNickname()}, null, null);
+
+        enqueue(event.getStoryAuthorId(), event.getStoryId(), event.getStoryTitle(), body);
+    }
+
+    private void enqueue(Long memberId, Long storyId, String title, String body) {
+
+        for (String token : fcmTokenRegistry.getTokens(memberId)) {
+            fcmPushDispatcher.enqueue(memberId, token, getMessage(token, storyId, title, body));
+        }
+    }
+
+    private Message getMessage(String token, Long storyId, String title, String body) {
+
+        Notification notification = Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build();
+
+        ApnsConfig apnsConfig = ApnsConfig.builder()
+                .setAps(Aps.builder()
+                        .setSound("default")
+                        .setCategory("NEW_COMMENT")
+                        .setThreadId("story-thread-" + storyId)
+                        .build()
+
+                )
+                .putCustomData("storyId", String.valueOf(storyId))
+                .build();
+
+        return Message.builder()
+                .setToken(token)
+                .setNotification(notification)
+                .setApnsConfig(apnsConfig)
+                .putData("storyId", String.valueOf(storyId))
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.junior.service.firebase.push;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * FCM 메시지 한 건의 전송 결과
+ */
+public enum FcmSendResult {
+
+    SUCCESS,
+    // 일시적인 오류, 잠시 후 다시 전송
+    RETRY,
+    // 더 이상 유효하지 않은 토큰, 토큰 삭제
+    DEAD_TOKEN,
+    // 다시 보내도 실패하는 오류
+    FAILED;
+
+    public static FcmSendResult from(MessagingErrorCode errorCode) {
+
+        if (errorCode == null) {
+            return RETRY;
+        }
+
+        return switch (errorCode) {
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> RETRY;
+            case UNREGISTERED, SENDER_ID_MISMATCH, INVALID_ARGUMENT -> DEAD_TOKEN;
+            default -> FAILED;
+        };
+    }
+}
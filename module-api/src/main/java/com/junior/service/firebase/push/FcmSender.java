@@ -0,0 +1,18 @@
+package com.junior.service.firebase.push;
+
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * FCM 전송 방식
+ * 운영에서는 FirebaseFcmSender 를 사용하고, 테스트에서는 로컬 대체 구현으로 바꿔 끼움
+ */
+public interface FcmSender {
+
+    /**
+     * @param messages: 최대 500개
+     * @return 메시지별 전송 결과, messages 와 같은 순서
+     */
+    List<FcmSendResult> sendEach(List<Message> messages);
+}
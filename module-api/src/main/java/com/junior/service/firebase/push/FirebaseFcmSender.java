@@ -0,0 +1,42 @@
+package com.junior.service.firebase.push;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@Component
+public class FirebaseFcmSender implements FcmSender {
+
+    @Override
+    public List<FcmSendResult> sendEach(List<Message> messages) {
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+
+            return response.getResponses().stream()
+                    .map(this::toResult)
+                    .toList();
+        } catch (FirebaseMessagingException e) {
+            // 요청 전체가 실패한 경우 모든 메시지에 같은 결과 적용
+            log.warn("[{}] FCM 일괄 전송 실패 count: {}, code: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), messages.size(), e.getMessagingErrorCode(), e);
+            return Collections.nCopies(messages.size(), FcmSendResult.from(e.getMessagingErrorCode()));
+        }
+    }
+
+    private FcmSendResult toResult(SendResponse response) {
+
+        if (response.isSuccessful()) {
+            return FcmSendResult.SUCCESS;
+        }
+
+        return FcmSendResult.from(response.getException().getMessagingErrorCode());
+    }
+}
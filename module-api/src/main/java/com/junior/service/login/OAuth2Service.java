@@ -17,6 +17,7 @@ import com.junior.repository.member.MemberRepository;
 import com.junior.security.JwtUtil;
 import com.junior.strategy.oauth2.OAuth2MemberStrategy;
 import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletResponse;
@@ -36,6 +37,7 @@ public class OAuth2Service {
     private final MemberRepository memberRepository;
     private final JwtUtil jwtUtil;
     private final RedisUtil redisUtil;
+    private final RefreshTokenStore refreshTokenStore;
     private final List<OAuth2MemberStrategy> oAuth2MemberStrategies;
 
 
@@ -88,8 +90,15 @@ public class OAuth2Service {
             throw new JwtErrorException(StatusCode.INVALID_TOKEN);
         }
 
+        String sessionId = jwtUtil.getSessionId(refreshToken);
 
-        redisUtil.deleteData(refreshToken);
+        if (sessionId == null) {
+            //세션 id 없이 발급된 이전 형식의 토큰
+            redisUtil.deleteData(refreshToken);
+            return;
+        }
+
+        refreshTokenStore.delete(jwtUtil.getId(refreshToken), sessionId, refreshToken);
 
     }
 
@@ -112,15 +121,15 @@ public class OAuth2Service {
                 .username(member.getUsername())
                 .role(member.getRole().toString())
                 .requestTimeMs(LocalDateTime.now())
+                .sessionId(refreshTokenStore.createSessionId())
                 .build();
 
         String accessToken = jwtUtil.createJwt(loginCreateJwtDto, "access");
         String refreshToken = jwtUtil.createJwt(loginCreateJwtDto, "refresh");
         log.info("[{}} JWT 토큰 생성 access: {}, refresh: {}", Thread.currentThread().getStackTrace()[1].getClassName(), accessToken, refreshToken);
 
-        //redis에 refreshToken 저장하기((key, value): (token, username))
-        //Bearer을 포함하지 않음
-        redisUtil.setDataExpire(refreshToken, member.getUsername(), 15778800);
+        //redis에 refreshToken 저장하기, 토큰 원문 대신 세션 id 키에 digest 저장
+        refreshTokenStore.save(member.getId(), loginCreateJwtDto.sessionId(), refreshToken);
 
 
         //응답에 JWT 추가
@@ -6,6 +6,7 @@ import com.junior.exception.JwtErrorException;
 import com.junior.exception.StatusCode;
 import com.junior.security.JwtUtil;
 import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,7 @@ public class ReissueService {
 
     private final JwtUtil jwtUtil;
     private final RedisUtil redisUtil;
+    private final RefreshTokenStore refreshTokenStore;
 
 
     public void reissue(RefreshTokenDto refreshTokenDto, HttpServletResponse response) {
@@ -38,20 +40,23 @@ public class ReissueService {
             throw new JwtErrorException(StatusCode.NOT_REFRESH_TOKEN);
         }
 
-        //oldRefreshToken 존재 여부 확인
-        if (!redisUtil.existsByKey(oldRefreshToken)) {
+        Long memberId = jwtUtil.getId(oldRefreshToken);
+        String sessionId = jwtUtil.getSessionId(oldRefreshToken);
+
+        //세션 id 없이 발급된 이전 형식의 토큰은 토큰 원문 키로 존재 여부 확인
+        if (sessionId == null && !redisUtil.existsByKey(oldRefreshToken)) {
             //예외 처리: 존재하지 않는 토큰
             throw new JwtErrorException(StatusCode.TOKEN_NOT_EXIST);
         }
 
         log.info("[{}] refresh token 검증 완료, 새 토큰 생성", Thread.currentThread().getStackTrace()[1].getMethodName());
-        String username = jwtUtil.getUsername(oldRefreshToken);
 
         LoginCreateJwtDto loginCreateJwtDto = LoginCreateJwtDto.builder()
-                .id(jwtUtil.getId(oldRefreshToken))
+                .id(memberId)
                 .username(jwtUtil.getUsername(oldRefreshToken))
                 .role(jwtUtil.getRole(oldRefreshToken))
                 .requestTimeMs(LocalDateTime.now())
+                .sessionId(sessionId != null ? sessionId : refreshTokenStore.createSessionId())
                 .build();
 
         String newAccessToken = jwtUtil.createJwt(loginCreateJwtDto, "access");
@@ -59,9 +64,25 @@ public class ReissueService {
 
         log.info("[{}} JWT 토큰 생성 access: {}, refresh: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), newAccessToken, newRefreshToken);
 
-        //이전 토큰을 삭제하고 새 토큰 생성
-        redisUtil.deleteData(oldRefreshToken);
-        redisUtil.setDataExpire(newRefreshToken, username, 15778800);
+        if (sessionId == null) {
+            //이전 형식의 토큰을 삭제하고 새 저장소에 세션 생성
+            redisUtil.deleteData(oldRefreshToken);
+            refreshTokenStore.save(memberId, loginCreateJwtDto.sessionId(), newRefreshToken);
+        } else {
+            //세션의 현재 토큰일 때만 새 토큰으로 교체
+            RefreshTokenStore.RotateResult result = refreshTokenStore.rotate(memberId, sessionId, oldRefreshToken, newRefreshToken);
+
+            if (result == RefreshTokenStore.RotateResult.NOT_FOUND) {
+                //예외 처리: 존재하지 않는 토큰
+                throw new JwtErrorException(StatusCode.TOKEN_NOT_EXIST);
+            }
+
+            if (result == RefreshTokenStore.RotateResult.REUSED) {
+                //예외 처리: 이미 재발급에 사용된 토큰, 탈취 가능성이 있어 세션 폐기됨
+                log.warn("[{}] 재사용된 refresh token, 세션 폐기 memberId: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), memberId);
+                throw new JwtErrorException(StatusCode.REUSED_REFRESH_TOKEN);
+            }
+        }
 
         //새 토큰을 응답에 추가
         response.addHeader("Authorization", "Bearer " + newAccessToken);
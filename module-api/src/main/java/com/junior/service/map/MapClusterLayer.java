@@ -0,0 +1,93 @@
+package com.junior.service.map;
+
+import com.junior.dto.map.MapClusterDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.junior.service.map.MapGridClusterer.*;
+
+/**
+ * 배율별로 미리 계산해 둔 클러스터 묶음
+ * 조회 시에는 화면에 걸친 셀만 꺼내므로 응답 크기가 데이터 수가 아닌 화면 크기에 비례함
+ */
+public class MapClusterLayer {
+
+    private final List<MapPoint> points;
+    // index: 배율(0 ~ MAX_CLUSTER_ZOOM)
+    private final List<Map<Long, MapClusterDto>> clustersByZoom;
+
+    private MapClusterLayer(List<MapPoint> points, List<Map<Long, MapClusterDto>> clustersByZoom) {
+        this.points = points;
+        this.clustersByZoom = clustersByZoom;
+    }
+
+    public static MapClusterLayer empty() {
+        return of(new ArrayList<>());
+    }
+
+    public static MapClusterLayer of(List<MapPoint> points) {
+        List<Map<Long, MapClusterDto>> clustersByZoom = new ArrayList<>();
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            clustersByZoom.add(clusterByCell(points, zoom));
+        }
+
+        return new MapClusterLayer(List.copyOf(points), clustersByZoom);
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 화면 안의 클러스터 조회
+     * MAX_CLUSTER_ZOOM 보다 확대해도 화면 안의 좌표가 MAX_MARKERS 를 넘으면 MAX_CLUSTER_ZOOM 배율의 클러스터 반환
+     */
+    public List<MapClusterDto> find(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+
+        if (zoom > MAX_CLUSTER_ZOOM) {
+            List<MapClusterDto> markers = points.stream()
+                    .filter(point -> point.latitude() >= minLat && point.latitude() <= maxLat
+                            && point.longitude() >= minLng && point.longitude() <= maxLng)
+                    .limit(MAX_MARKERS + 1)
+                    .map(MapGridClusterer::toMarker)
+                    .toList();
+
+            if (markers.size() <= MAX_MARKERS) {
+                return markers;
+            }
+
+            zoom = MAX_CLUSTER_ZOOM;
+        }
+
+        Map<Long, MapClusterDto> clusters = clustersByZoom.get(zoom);
+
+        long minX = cellX(minLng, zoom), maxX = cellX(maxLng, zoom);
+        long minY = cellY(maxLat, zoom), maxY = cellY(minLat, zoom);
+
+        List<MapClusterDto> result = new ArrayList<>();
+
+        // 화면 셀 수와 클러스터 수 중 적은 쪽을 순회
+        if ((maxX - minX + 1) * (maxY - minY + 1) <= clusters.size()) {
+            for (long x = minX; x <= maxX; x++) {
+                for (long y = minY; y <= maxY; y++) {
+                    MapClusterDto cluster = clusters.get(cellKey(x, y));
+
+                    if (cluster != null) {
+                        result.add(cluster);
+                    }
+                }
+            }
+        } else {
+            clusters.forEach((key, cluster) -> {
+                if (keyX(key) >= minX && keyX(key) <= maxX && keyY(key) >= minY && keyY(key) <= maxY) {
+                    result.add(cluster);
+                }
+            });
+        }
+
+        return result;
+    }
+}
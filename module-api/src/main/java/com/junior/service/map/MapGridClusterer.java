@@ -0,0 +1,124 @@
+package com.junior.service.map;
+
+import com.junior.dto.map.MapClusterDto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 격자 기반 지도 마커 클러스터링
+ * 웹 메르카토르 좌표계에서 256px 타일을 CELLS_PER_TILE x CELLS_PER_TILE 셀로 나누고, 같은 셀의 좌표를 하나의 클러스터(평균 좌표, 개수)로 묶음
+ */
+public final class MapGridClusterer {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 22;
+    // 이 배율보다 확대하면 클러스터링 없이 개별 마커 반환
+    public static final int MAX_CLUSTER_ZOOM = 16;
+    // 개별 마커 최대 반환 수, 넘으면 MAX_CLUSTER_ZOOM 배율로 클러스터링
+    public static final int MAX_MARKERS = 500;
+    // 한 셀이 약 64px
+    private static final int CELLS_PER_TILE = 4;
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private MapGridClusterer() {
+    }
+
+    public static int normalizeZoom(int zoom) {
+        return Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+    }
+
+    /**
+     * 좌표 목록을 배율에 맞게 클러스터링
+     * MAX_CLUSTER_ZOOM 보다 확대해도 좌표가 MAX_MARKERS 를 넘으면 개별 마커 대신 MAX_CLUSTER_ZOOM 배율의 클러스터 반환
+     */
+    public static List<MapClusterDto> cluster(List<MapPoint> points, int zoom) {
+        if (zoom > MAX_CLUSTER_ZOOM && points.size() <= MAX_MARKERS) {
+            return points.stream()
+                    .map(MapGridClusterer::toMarker)
+                    .toList();
+        }
+
+        return new ArrayList<>(clusterByCell(points, Math.min(zoom, MAX_CLUSTER_ZOOM)).values());
+    }
+
+    /**
+     * 셀 key 별 클러스터
+     */
+    static Map<Long, MapClusterDto> clusterByCell(List<MapPoint> points, int zoom) {
+        Map<Long, Accumulator> accumulators = new LinkedHashMap<>();
+
+        for (MapPoint point : points) {
+            long key = cellKey(cellX(point.longitude(), zoom), cellY(point.latitude(), zoom));
+            accumulators.computeIfAbsent(key, k -> new Accumulator()).add(point);
+        }
+
+        Map<Long, MapClusterDto> clusters = new LinkedHashMap<>();
+        accumulators.forEach((key, accumulator) -> clusters.put(key, accumulator.toCluster()));
+
+        return clusters;
+    }
+
+    static MapClusterDto toMarker(MapPoint point) {
+        return MapClusterDto.builder()
+                .latitude(point.latitude())
+                .longitude(point.longitude())
+                .count(1L)
+                .id(point.id())
+                .build();
+    }
+
+    static long cellX(double longitude, int zoom) {
+        double x = (longitude + 180) / 360;
+        return toCell(x, zoom);
+    }
+
+    // 위도가 높을수록(북쪽) 작은 값
+    static long cellY(double latitude, int zoom) {
+        double lat = Math.toRadians(Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, latitude)));
+        double y = (1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2;
+        return toCell(y, zoom);
+    }
+
+    static long cellKey(long x, long y) {
+        return (x << 32) | y;
+    }
+
+    static long keyX(long key) {
+        return key >>> 32;
+    }
+
+    static long keyY(long key) {
+        return key & 0xFFFFFFFFL;
+    }
+
+    private static long toCell(double ratio, int zoom) {
+        long cells = (1L << zoom) * CELLS_PER_TILE;
+        return Math.max(0, Math.min(cells - 1, (long) (ratio * cells)));
+    }
+
+    private static class Accumulator {
+        private double latitudeSum;
+        private double longitudeSum;
+        private long count;
+        private Long id;
+
+        void add(MapPoint point) {
+            latitudeSum += point.latitude();
+            longitudeSum += point.longitude();
+            count++;
+            id = point.id();
+        }
+
+        MapClusterDto toCluster() {
+            return MapClusterDto.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .id(count == 1 ? id : null)
+                    .build();
+        }
+    }
+}
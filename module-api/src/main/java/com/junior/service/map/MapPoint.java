@@ -0,0 +1,8 @@
+package com.junior.service.map;
+
+public record MapPoint(
+        Long id,
+        double latitude,
+        double longitude
+) {
+}
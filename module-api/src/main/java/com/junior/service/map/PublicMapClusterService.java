@@ -0,0 +1,72 @@
+package com.junior.service.map;
+
+import com.junior.dto.map.MapClusterDto;
+import com.junior.dto.story.GeoPointDto;
+import com.junior.repository.festival.FestivalRepository;
+import com.junior.repository.popUpEvent.PopUpEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원과 관계없이 모두에게 같은 데이터가 보이는 지도 레이어(축제, 팝업 이벤트)의 클러스터 조회
+ * 스케줄러가 주기적으로 배율별 클러스터를 다시 계산하고, 조회는 계산된 결과만 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublicMapClusterService {
+
+    // 전체 영역
+    private static final GeoPointDto WORLD_LT = new GeoPointDto(90, -180);
+    private static final GeoPointDto WORLD_RB = new GeoPointDto(-90, 180);
+
+    private final FestivalRepository festivalRepository;
+    private final PopUpEventRepository popUpEventRepository;
+    private final Clock clock;
+
+    private volatile MapClusterLayer festivalLayer = MapClusterLayer.empty();
+    private volatile MapClusterLayer popUpEventLayer = MapClusterLayer.empty();
+
+    public void refresh() {
+        List<MapPoint> festivals = festivalRepository.findFestivalByMap(WORLD_LT.latitude(), WORLD_LT.longitude(), WORLD_RB.latitude(), WORLD_RB.longitude())
+                .stream()
+                .filter(festival -> festival.lat() != null && festival.logt() != null)
+                .map(festival -> new MapPoint(festival.id(), festival.lat(), festival.logt()))
+                .toList();
+
+        List<MapPoint> popUpEvents = popUpEventRepository.findEventByPos(WORLD_LT, WORLD_RB, LocalDateTime.now(clock))
+                .stream()
+                .map(popUpEvent -> new MapPoint(popUpEvent.getId(), popUpEvent.getLatitude(), popUpEvent.getLongitude()))
+                .toList();
+
+        festivalLayer = MapClusterLayer.of(festivals);
+        popUpEventLayer = MapClusterLayer.of(popUpEvents);
+
+        log.debug("[{}] 지도 클러스터 갱신 축제: {}, 팝업 이벤트: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), festivals.size(), popUpEvents.size());
+    }
+
+    public List<MapClusterDto> findFestivalClusters(Double geoPointLtY, Double geoPointLtX, Double geoPointRbY, Double geoPointRbX, int zoom) {
+        return festivalLayer.find(
+                Math.min(geoPointLtY, geoPointRbY),
+                Math.max(geoPointLtY, geoPointRbY),
+                Math.min(geoPointLtX, geoPointRbX),
+                Math.max(geoPointLtX, geoPointRbX),
+                MapGridClusterer.normalizeZoom(zoom)
+        );
+    }
+
+    public List<MapClusterDto> findPopUpEventClusters(GeoPointDto geoPointLt, GeoPointDto geoPointRb, int zoom) {
+        return popUpEventLayer.find(
+                Math.min(geoPointLt.latitude(), geoPointRb.latitude()),
+                Math.max(geoPointLt.latitude(), geoPointRb.latitude()),
+                Math.min(geoPointLt.longitude(), geoPointRb.longitude()),
+                Math.max(geoPointLt.longitude(), geoPointRb.longitude()),
+                MapGridClusterer.normalizeZoom(zoom)
+        );
+    }
+}
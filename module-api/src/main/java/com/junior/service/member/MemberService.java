@@ -3,6 +3,7 @@ package com.junior.service.member;
 import com.junior.domain.member.Member;
 import com.junior.domain.member.MemberStatus;
 import com.junior.dto.member.*;
+import com.junior.event.member.MemberChangedEvent;
 import com.junior.exception.NotValidMemberException;
 import com.junior.exception.StatusCode;
 import com.junior.page.PageCustom;
@@ -11,6 +12,7 @@ import com.junior.security.UserPrincipal;
 import com.junior.service.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +28,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void activateMember(UserPrincipal principal, ActivateMemberDto activateMemberDto) {
@@ -41,6 +44,7 @@ public class MemberService {
 
         log.info("[{}] 회원 활성화 target: {} nickname: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), member.getUsername(), activateMemberDto.nickname());
         member.activateMember(activateMemberDto);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
 
     }
 
@@ -91,6 +95,8 @@ public class MemberService {
             member.updateProfile(profileUrl);
         }
 
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
+
     }
 
 
@@ -132,6 +138,7 @@ public class MemberService {
         }
 
         member.updateNickname(updateNicknameDto);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
     }
 
     @Transactional
@@ -148,5 +155,8 @@ public class MemberService {
         log.info("[{}] 회원 탈퇴 target: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), member.getUsername());
         member.deleteMember();
 
+        //커밋된 뒤 모든 기기의 로그인 세션 삭제
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getId(), true));
+
     }
 }
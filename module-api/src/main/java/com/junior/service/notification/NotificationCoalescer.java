@@ -0,0 +1,179 @@
+package com.junior.service.notification;
+
+import com.junior.domain.notification.NotificationType;
+import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.dto.notification.NotificationPushDto;
+import com.junior.event.comment.CommentFcmEvent;
+import com.junior.event.like.LikeFcmEvent;
+import com.junior.event.notification.NotificationCreateEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 묶기
+ * 같은 (받는 회원, 스토리, 알림 종류) 의 알림을 window 동안 모아 알림 하나와 푸시 하나로 저장/전송
+ * 묶인 알림에는 가장 최근 알림의 내용과 프로필 이미지, 묶인 알림 수를 저장
+ * 묶인 알림들의 아웃박스 이벤트 id 를 함께 넘겨 알림 저장과 같은 트랜잭션에서 처리 완료로 기록
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationWriteBuffer notificationWriteBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long windowMillis;
+    private final int maxGroups;
+    private final Counter receivedCounter;
+    private final Counter emittedCounter;
+
+    private final ConcurrentHashMap<Key, Group> groups = new ConcurrentHashMap<>();
+
+    public NotificationCoalescer(NotificationWriteBuffer notificationWriteBuffer,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${notification.coalesce.window-ms:30000}") long windowMillis,
+                                 @Value("${notification.coalesce.max-groups:10000}") int maxGroups) {
+        this.notificationWriteBuffer = notificationWriteBuffer;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.windowMillis = windowMillis;
+        this.maxGroups = maxGroups;
+
+        this.receivedCounter = Counter.builder("notification.coalesce.received")
+                .description("묶기 전 알림 수")
+                .register(meterRegistry);
+
+        this.emittedCounter = Counter.builder("notification.coalesce.emitted")
+                .description("묶은 뒤 저장한 알림 수")
+                .register(meterRegistry);
+
+        Gauge.builder("notification.coalesce.pending", groups, ConcurrentHashMap::size)
+                .description("묶는 중인 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림을 묶음에 추가, 아웃박스 릴레이가 커밋된 알림 생성 요청만 전달
+     */
+    public void collect(NotificationCreateEvent event) {
+
+        receivedCounter.increment();
+
+        Key key = Key.from(event.getNotification());
+
+        // 묶기를 끄거나 묶음이 너무 많으면 묶지 않고 바로 저장
+        if (windowMillis <= 0 || (groups.size() >= maxGroups && !groups.containsKey(key))) {
+            emit(new Group(clock.millis()).add(event));
+            return;
+        }
+
+        long windowEnd = clock.millis() + windowMillis;
+        groups.compute(key, (k, group) -> (group != null ? group : new Group(windowEnd)).add(event));
+    }
+
+    /**
+     * window 가 끝난 묶음을 저장하고 푸시 전송
+     */
+    public void flush() {
+        flush(clock.millis());
+    }
+
+    public int getPendingCnt() {
+        return groups.size();
+    }
+
+    private void flush(long now) {
+        // 제거에 성공한 묶음만 저장, 제거 이후 들어온 알림은 새 묶음으로 모임
+        groups.forEach((key, group) -> {
+            if (group.windowEnd <= now && groups.remove(key, group)) {
+                emit(group);
+            }
+        });
+    }
+
+    private void emit(Group group) {
+
+        CreateNotificationDto latest = group.latest.getNotification();
+
+        CreateNotificationDto notification = CreateNotificationDto.builder()
+                .content(latest.content())
+                .profileImgPath(latest.profileImgPath())
+                .memberId(latest.memberId())
+                .storyId(latest.storyId())
+                .notificationType(latest.notificationType())
+                .actorCnt(group.cnt)
+                .build();
+
+        notificationWriteBuffer.enqueue(new NotificationCreateEvent(notification, group.latest.getCreatedDate(), null, group.outboxEventIds));
+        emittedCounter.increment();
+
+        if (group.push != null) {
+            publishPush(notification, group.push, group.pushCnt);
+        }
+    }
+
+    private void publishPush(CreateNotificationDto notification, NotificationPushDto push, long pushCnt) {
+
+        if (notification.notificationType() == NotificationType.LIKED) {
+            eventPublisher.publishEvent(new LikeFcmEvent(notification.memberId(), notification.storyId(), push.storyTitle(), push.actorNickname(), pushCnt));
+        } else if (notification.notificationType() == NotificationType.COMMENT) {
+            eventPublisher.publishEvent(new CommentFcmEvent(notification.memberId(), notification.storyId(), push.storyTitle(), push.actorNickname(), pushCnt));
+        }
+    }
+
+    /**
+     * 종료 시 window 와 관계없이 남은 묶음 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush(Long.MAX_VALUE);
+    }
+
+    private record Key(Long memberId, Long storyId, NotificationType notificationType) {
+
+        static Key from(CreateNotificationDto notification) {
+            return new Key(notification.memberId(), notification.storyId(), notification.notificationType());
+        }
+    }
+
+    // ConcurrentHashMap.compute 안에서만 변경됨
+    private static class Group {
+
+        private final long windowEnd;
+        private NotificationCreateEvent latest;
+        private long cnt;
+        private NotificationPushDto push;
+        private long pushCnt;
+        private final List<Long> outboxEventIds = new ArrayList<>();
+
+        private Group(long windowEnd) {
+            this.windowEnd = windowEnd;
+        }
+
+        private Group add(NotificationCreateEvent event) {
+            latest = event;
+            cnt++;
+            outboxEventIds.addAll(event.getOutboxEventIds());
+
+            if (event.getPush() != null) {
+                push = event.getPush();
+                pushCnt++;
+            }
+
+            return this;
+        }
+    }
+}
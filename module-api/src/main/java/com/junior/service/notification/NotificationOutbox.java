@@ -0,0 +1,71 @@
+package com.junior.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.dto.notification.NotificationPushDto;
+import com.junior.event.notification.NotificationCreateEvent;
+import com.junior.repository.outbox.OutboxEventJdbcRepository;
+import com.junior.repository.outbox.OutboxEventJdbcRepository.OutboxEventRow;
+import com.junior.service.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 생성 요청을 아웃박스로 전달
+ * 요청 트랜잭션에서 알림과 푸시 정보를 저장하고, 릴레이가 읽어 NotificationCoalescer 에 전달
+ * 아웃박스 이벤트는 알림이 저장되는 트랜잭션에서 처리 완료로 기록됨
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox implements OutboxEventHandler {
+
+    static final String AGGREGATE_TYPE = "STORY";
+    static final String EVENT_TYPE = "NOTIFICATION_CREATED";
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final NotificationCoalescer notificationCoalescer;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 알림 생성 요청을 호출한 트랜잭션에서 아웃박스에 저장
+     * @param push: 푸시 정보, 푸시를 보내지 않으면 null
+     */
+    public void append(CreateNotificationDto notification, NotificationPushDto push, LocalDateTime createdDate) {
+
+        String payload;
+
+        try {
+            payload = objectMapper.writeValueAsString(new Payload(notification, push));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 이벤트 직렬화 실패", e);
+        }
+
+        outboxEventJdbcRepository.save(AGGREGATE_TYPE, notification.storyId(), EVENT_TYPE, payload, createdDate);
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEventRow row) {
+
+        Payload payload;
+
+        try {
+            payload = objectMapper.readValue(row.payload(), Payload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 이벤트 역직렬화 실패 id: " + row.id(), e);
+        }
+
+        notificationCoalescer.collect(new NotificationCreateEvent(payload.notification(), row.createdDate(), payload.push(), List.of(row.id())));
+    }
+
+    record Payload(CreateNotificationDto notification, NotificationPushDto push) {
+    }
+}
@@ -4,11 +4,14 @@ import com.junior.domain.member.Member;
 import com.junior.domain.notification.Notification;
 import com.junior.domain.notification.NotificationType;
 import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.dto.notification.NotificationPushDto;
 import com.junior.dto.notification.ResponseNotificationDto;
 import com.junior.exception.NotificationNotFoundException;
 import com.junior.exception.PermissionException;
 import com.junior.exception.StatusCode;
+import com.junior.repository.notification.NotificationJdbcRepository;
 import com.junior.repository.notification.NotificationRepository;
+import com.junior.repository.notification.NotificationUnreadCountRepository;
 import com.junior.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -17,6 +20,8 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -25,9 +30,25 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final Clock clock;
+
+    /**
+     * 알림 생성 요청, 호출한 트랜잭션에서 아웃박스에 저장하고 커밋된 뒤 NotificationCoalescer 가 같은 알림끼리 묶어서 저장
+     */
     @Transactional
     public void saveNotification(Member member, String profilePath, String content, Long storyId, NotificationType notificationType) {
+        saveNotification(member, profilePath, content, storyId, notificationType, null);
+    }
+
+    /**
+     * 푸시를 함께 보내는 알림 생성 요청, 푸시도 알림과 같은 단위로 묶어서 한 번만 전송
+     * @param push: 푸시 정보, 푸시를 보내지 않으면 null
+     */
+    @Transactional
+    public void saveNotification(Member member, String profilePath, String content, Long storyId, NotificationType notificationType, NotificationPushDto push) {
 
         CreateNotificationDto createNotificationDto = CreateNotificationDto.builder()
                 .content(content)
@@ -37,9 +58,7 @@ public class NotificationService {
                 .notificationType(notificationType)
                 .build();
 
-        Notification notification = Notification.from(createNotificationDto);
-
-        notificationRepository.save(notification);
+        notificationOutbox.append(createNotificationDto, push, LocalDateTime.now(clock));
     }
 
     public Slice<ResponseNotificationDto> getNotification(UserPrincipal userPrincipal, Long cursorId, int size) {
@@ -51,10 +70,26 @@ public class NotificationService {
         return notificationRepository.findAllNotificationByMemberAndIsReadFalse(findMember.getId(), pageable, cursorId);
     }
 
+    /**
+     * 읽지 않은 알림 수 조회, 알림을 세지 않고 회원별 카운터를 조회
+     * 카운터가 없는 회원(카운터 도입 전 알림만 있는 회원)은 알림을 세어서 반환하고, 카운터는 다음 알림 저장/읽음/삭제 시 생성
+     */
+    public Long getUnreadNotificationCnt(UserPrincipal userPrincipal) {
+
+        Member findMember = userPrincipal.getMember();
+
+        return notificationUnreadCountRepository.findUnreadCntByMemberId(findMember.getId())
+                .orElseGet(() -> notificationRepository.countUnreadNotification(findMember.getId()));
+    }
+
     @Transactional
     public void readNotification(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId).orElseThrow(() -> new NotificationNotFoundException(StatusCode.NOTIFICATION_NOT_FOUND));
-        notification.readNotification();
+
+        // 동시에 읽음 처리되어도 한 번만 감소하도록 조건부 UPDATE 결과로 판단
+        if (notificationRepository.readNotification(notificationId) > 0) {
+            decreaseUnreadCnt(notification.getMemberId(), 1);
+        }
     }
 
     @Transactional
@@ -62,8 +97,12 @@ public class NotificationService {
 
         Member findMember = userPrincipal.getMember();
 
-        List<Notification> notifications = notificationRepository.findByMemberIdAndIsReadFalse(findMember.getId());
-        notifications.forEach(Notification::readNotification);
+        // 알림을 조회하지 않고 한 번에 읽음 처리, 그 사이 저장된 알림은 카운터에 남도록 읽음 처리한 수만큼만 감소
+        int readCnt = notificationRepository.readAllNotification(findMember.getId());
+
+        if (readCnt > 0) {
+            decreaseUnreadCnt(findMember.getId(), readCnt);
+        }
     }
 
     @Transactional
@@ -74,10 +113,26 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new NotificationNotFoundException(StatusCode.NOTIFICATION_NOT_FOUND));
 
-        if (notification.getMemberId().equals(findMember.getId())) {
-            notification.deleteNotification();
-        } else {
+        if (!notification.getMemberId().equals(findMember.getId())) {
             throw new PermissionException(StatusCode.NOTIFICATION_NOT_PERMISSION);
         }
+
+        // 동시에 읽음/삭제 처리되어도 한 번만 감소하도록 읽지 않은 알림을 삭제했을 때만 감소
+        if (notificationRepository.deleteUnreadNotification(notificationId) > 0) {
+            decreaseUnreadCnt(findMember.getId(), 1);
+        } else {
+            notificationRepository.deleteNotification(notificationId);
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수 감소, 카운터가 없는 회원은 이번 읽음/삭제 처리가 반영된 알림 수로 생성
+     */
+    private void decreaseUnreadCnt(Long memberId, long cnt) {
+        if (notificationUnreadCountRepository.decreaseUnreadCnt(memberId, cnt) == 0
+                && !notificationJdbcRepository.createUnreadCnt(memberId)) {
+            // 다른 트랜잭션이 먼저 생성한 경우, 아직 커밋되지 않은 이번 처리는 반영되지 않았으므로 감소
+            notificationUnreadCountRepository.decreaseUnreadCnt(memberId, cnt);
+        }
     }
 }
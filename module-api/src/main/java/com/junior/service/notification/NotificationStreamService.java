@@ -0,0 +1,178 @@
+package com.junior.service.notification;
+
+import com.junior.dto.notification.ResponseNotificationDto;
+import com.junior.event.notification.NotificationStreamEvent;
+import com.junior.repository.notification.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 실시간 알림 스트림(SSE)
+ * 알림이 저장되면 NotificationBroadcaster 가 모든 서버에 전달하고, 회원이 연결된 서버에서만 알림을 조회해 전송
+ * 재연결 시 Last-Event-ID(마지막으로 받은 알림 id) 이후 알림을 먼저 전송
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String CONNECT_EVENT = "connect";
+
+    // 재연결 시 한 번에 다시 보낼 최대 알림 수
+    static final int REPLAY_LIMIT = 100;
+
+    // 연결이 끊겼을 때 클라이언트가 재연결을 시도할 간격
+    private static final long RECONNECT_MILLIS = 3000;
+
+    private final NotificationRepository notificationRepository;
+    private final long timeoutMillis;
+    private final Counter sentCounter;
+
+    // 회원별 연결, 여러 기기에서 동시에 연결할 수 있음
+    private final ConcurrentHashMap<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public NotificationStreamService(NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.notificationRepository = notificationRepository;
+        this.timeoutMillis = timeoutMillis;
+
+        this.sentCounter = Counter.builder("notification.stream.sent")
+                .description("실시간 알림 스트림으로 전송한 알림 수")
+                .register(meterRegistry);
+
+        Gauge.builder("notification.stream.connections", this, NotificationStreamService::getConnectionCnt)
+                .description("실시간 알림 스트림 연결 수")
+                .register(meterRegistry);
+
+        Gauge.builder("notification.stream.members", emitters, ConcurrentHashMap::size)
+                .description("실시간 알림 스트림에 연결된 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실시간 알림 스트림 연결
+     * @param lastEventId: 재연결 시 마지막으로 받은 알림 id, 최초 연결이면 null
+     */
+    public SseEmitter subscribe(Long memberId, String lastEventId) {
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        // 마지막 연결을 제거하며 SET 을 지우는 remove 와 겹쳐도 연결이 누락되지 않도록 같은 compute 안에서 추가
+        emitters.compute(memberId, (id, memberEmitters) -> {
+            Set<SseEmitter> result = memberEmitters != null ? memberEmitters : ConcurrentHashMap.newKeySet();
+            result.add(emitter);
+            return result;
+        });
+
+        emitter.onCompletion(() -> remove(memberId, emitter));
+        emitter.onTimeout(() -> remove(memberId, emitter));
+        emitter.onError(e -> remove(memberId, emitter));
+
+        // 연결 직후 이벤트를 보내지 않으면 일부 프록시가 응답을 지연시킴
+        if (!send(memberId, emitter, SseEmitter.event().name(CONNECT_EVENT).data("connected").reconnectTime(RECONNECT_MILLIS))) {
+            return emitter;
+        }
+
+        Long lastNotificationId = parseLastEventId(lastEventId);
+        if (lastNotificationId != null) {
+            sendAll(memberId, notificationRepository.findStreamNotificationsAfter(memberId, lastNotificationId, REPLAY_LIMIT));
+        }
+
+        log.info("[{}] 실시간 알림 연결 member id: {}, lastEventId: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), memberId, lastEventId);
+
+        return emitter;
+    }
+
+    /**
+     * 저장된 알림을 이 서버에 연결된 회원에게 전송
+     */
+    @EventListener
+    public void onNotificationStream(NotificationStreamEvent event) {
+
+        if (!emitters.containsKey(event.getMemberId())) {
+            return;
+        }
+
+        sendAll(event.getMemberId(), notificationRepository.findStreamNotifications(event.getMemberId(), event.getNotificationIds()));
+    }
+
+    /**
+     * 연결 유지를 위해 모든 연결에 주석 이벤트 전송, 끊어진 연결은 정리
+     */
+    public void heartbeat() {
+        emitters.forEach((memberId, memberEmitters) ->
+                memberEmitters.forEach(emitter -> send(memberId, emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getConnectionCnt() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void sendAll(Long memberId, List<ResponseNotificationDto> notifications) {
+
+        Set<SseEmitter> memberEmitters = emitters.get(memberId);
+
+        if (memberEmitters == null || notifications.isEmpty()) {
+            return;
+        }
+
+        for (SseEmitter emitter : memberEmitters) {
+            for (ResponseNotificationDto notification : notifications) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                        .id(String.valueOf(notification.id()))
+                        .name(NOTIFICATION_EVENT)
+                        .data(notification);
+
+                if (!send(memberId, emitter, event)) {
+                    break;
+                }
+
+                sentCounter.increment();
+            }
+        }
+    }
+
+    // 전송에 실패한 연결은 종료하고 제거
+    private boolean send(Long memberId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            remove(memberId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void remove(Long memberId, SseEmitter emitter) {
+        emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+            memberEmitters.remove(emitter);
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
+    }
+
+    private Long parseLastEventId(String lastEventId) {
+
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
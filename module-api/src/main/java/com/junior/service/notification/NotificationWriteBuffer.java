@@ -0,0 +1,182 @@
+package com.junior.service.notification;
+
+import com.junior.event.notification.NotificationBroadcaster;
+import com.junior.event.notification.NotificationCreateEvent;
+import com.junior.repository.notification.NotificationJdbcRepository;
+import com.junior.repository.outbox.OutboxEventJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * 알림 write-behind 버퍼
+ * NotificationCoalescer 가 묶은 알림을 메모리 큐에 적재하고, 스케줄러가 모아서 multi-row INSERT 로 저장
+ * 큐가 가득 차면 호출한 스레드에서 바로 저장해 알림을 버리지 않음
+ * 알림 저장과 아웃박스 이벤트 처리 완료 기록을 한 트랜잭션으로 반영해, 저장되지 않은 알림은 아웃박스에서 다시 처리됨
+ */
+@Slf4j
+@Component
+public class NotificationWriteBuffer {
+
+    // 한 번에 저장할 최대 알림 수
+    static final int BATCH_SIZE = 500;
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationBroadcaster notificationBroadcaster;
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LinkedBlockingDeque<NotificationCreateEvent> queue;
+    private final Timer flushTimer;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+
+    public NotificationWriteBuffer(NotificationJdbcRepository notificationJdbcRepository,
+                                   NotificationBroadcaster notificationBroadcaster,
+                                   OutboxEventJdbcRepository outboxEventJdbcRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.write.queue-capacity:10000}") int queueCapacity) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.notificationBroadcaster = notificationBroadcaster;
+        this.outboxEventJdbcRepository = outboxEventJdbcRepository;
+        // 커밋 후 리스너에서 호출되면 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new LinkedBlockingDeque<>(queueCapacity);
+
+        this.flushTimer = Timer.builder("notification.write.flush")
+                .description("알림 일괄 저장 소요 시간")
+                .register(meterRegistry);
+
+        this.overflowCounter = Counter.builder("notification.write.overflow")
+                .description("큐가 가득 차 요청 스레드에서 바로 저장한 알림 수")
+                .register(meterRegistry);
+
+        this.droppedCounter = Counter.builder("notification.write.dropped")
+                .description("저장 실패 후 큐에 되돌리지 못한 알림 수")
+                .register(meterRegistry);
+
+        Gauge.builder("notification.write.pending", queue, LinkedBlockingDeque::size)
+                .description("저장되지 않은 알림 수")
+                .register(meterRegistry);
+
+        Gauge.builder("notification.write.remaining.capacity", queue, LinkedBlockingDeque::remainingCapacity)
+                .description("알림 큐의 남은 용량")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림을 큐에 적재
+     */
+    public void enqueue(NotificationCreateEvent event) {
+
+        if (queue.offer(event)) {
+            return;
+        }
+
+        // 큐가 가득 찬 경우 요청 지연을 감수하고 바로 저장
+        overflowCounter.increment();
+        List<NotificationCreateEvent> notifications = List.of(event);
+        broadcast(notifications, save(notifications));
+    }
+
+    /**
+     * 큐에 쌓인 알림을 BATCH_SIZE 단위로 저장
+     * 저장에 실패한 알림은 큐 앞쪽에 되돌려 다음 주기에 다시 저장
+     */
+    public void flush() {
+
+        while (!queue.isEmpty()) {
+            List<NotificationCreateEvent> batch = new ArrayList<>(BATCH_SIZE);
+            queue.drainTo(batch, BATCH_SIZE);
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<Long> notificationIds;
+
+            try {
+                notificationIds = flushTimer.record(() -> save(batch));
+            } catch (RuntimeException e) {
+                log.error("[{}] 알림 일괄 저장 실패 count: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), batch.size(), e);
+                requeue(batch);
+                return;
+            }
+
+            broadcast(batch, notificationIds);
+        }
+    }
+
+    public int getPendingCnt() {
+        return queue.size();
+    }
+
+    // 알림 저장, 읽지 않은 알림 수 증가, 아웃박스 이벤트 처리 완료 기록을 한 트랜잭션으로 반영
+    private List<Long> save(List<NotificationCreateEvent> notifications) {
+
+        List<Long> outboxEventIds = notifications.stream()
+                .flatMap(notification -> notification.getOutboxEventIds().stream())
+                .toList();
+
+        return transactionTemplate.execute(status -> {
+            List<Long> notificationIds = notificationJdbcRepository.saveAll(notifications);
+            outboxEventJdbcRepository.markPublished(outboxEventIds);
+            return notificationIds;
+        });
+    }
+
+    // 커밋된 알림을 실시간 알림 스트림으로 전달, 이미 저장되었으므로 실패해도 다시 저장하지 않음
+    private void broadcast(List<NotificationCreateEvent> notifications, List<Long> notificationIds) {
+
+        if (notificationIds == null || notificationIds.size() != notifications.size()) {
+            return;
+        }
+
+        Map<Long, List<Long>> notificationIdsByMemberId = new LinkedHashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            notificationIdsByMemberId.computeIfAbsent(notifications.get(i).getNotification().memberId(), id -> new ArrayList<>())
+                    .add(notificationIds.get(i));
+        }
+
+        try {
+            notificationBroadcaster.broadcast(notificationIdsByMemberId);
+        } catch (RuntimeException e) {
+            log.error("[{}] 실시간 알림 전달 실패 count: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), notifications.size(), e);
+        }
+    }
+
+    private void requeue(List<NotificationCreateEvent> batch) {
+
+        // 순서를 유지하도록 뒤에서부터 앞쪽에 넣음
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            if (!queue.offerFirst(batch.get(i))) {
+                droppedCounter.increment(i + 1);
+                log.error("[{}] 알림 큐가 가득 차 되돌리지 못함 count: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), i + 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 알림 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,18 @@
+package com.junior.service.outbox;
+
+import com.junior.repository.outbox.OutboxEventJdbcRepository.OutboxEventRow;
+
+/**
+ * 아웃박스 이벤트 처리기, eventType 별로 하나씩 등록
+ * 처리 완료(publishedDate) 기록은 처리 결과를 저장하는 트랜잭션에서 직접 수행
+ */
+public interface OutboxEventHandler {
+
+    String eventType();
+
+    /**
+     * 이벤트 처리, 예외가 발생하면 다음 주기에 다시 처리
+     * 같은 이벤트가 두 번 이상 전달될 수 있음(at-least-once)
+     */
+    void handle(OutboxEventRow row);
+}
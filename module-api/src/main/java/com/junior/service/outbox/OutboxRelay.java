@@ -0,0 +1,186 @@
+package com.junior.service.outbox;
+
+import com.junior.repository.outbox.OutboxEventJdbcRepository;
+import com.junior.repository.outbox.OutboxEventJdbcRepository.OutboxEventRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아웃박스 릴레이
+ * 처리되지 않은 이벤트를 batchSize 개씩 선점해 저장 순서대로 처리기에 전달
+ * 같은 aggregate 의 앞선 이벤트가 실패하면 뒤의 이벤트도 처리하지 않고 다음 주기에 함께 다시 처리해 순서를 유지
+ * 선점한 서버가 처리 도중 종료되면 lease 가 지난 뒤 다른 서버가 다시 처리
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // 처리된 이벤트를 한 번에 삭제할 최대 수
+    static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final Map<String, OutboxEventHandler> handlers = new HashMap<>();
+    private final Clock clock;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final int maxAttempts;
+    private final int retentionDays;
+    private final Timer relayTimer;
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxEventJdbcRepository outboxEventJdbcRepository,
+                       List<OutboxEventHandler> handlers,
+                       Clock clock,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.lease-ms:300000}") long leaseMillis,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventJdbcRepository = outboxEventJdbcRepository;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.leaseMillis = leaseMillis;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+
+        for (OutboxEventHandler handler : handlers) {
+            if (this.handlers.put(handler.eventType(), handler) != null) {
+                throw new IllegalStateException("중복된 아웃박스 이벤트 처리기: " + handler.eventType());
+            }
+        }
+
+        this.relayTimer = Timer.builder("outbox.relay")
+                .description("아웃박스 이벤트 한 배치 처리 소요 시간")
+                .register(meterRegistry);
+
+        this.relayedCounter = Counter.builder("outbox.relay.relayed")
+                .description("처리기에 전달한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+                .description("처리에 실패한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리할 이벤트가 남지 않을 때까지 처리
+     */
+    public void relayAll() {
+        try {
+            while (relayTimer.record(this::relay) == batchSize) {
+                // 가득 찬 배치를 처리했으면 남은 이벤트가 있을 수 있으므로 계속 처리
+            }
+        } catch (RuntimeException e) {
+            log.error("[{}] 아웃박스 이벤트 처리 실패", Thread.currentThread().getStackTrace()[1].getMethodName(), e);
+        }
+    }
+
+    /**
+     * 이벤트를 최대 batchSize 개 선점해 처리
+     * @return 선점한 이벤트 수
+     */
+    int relay() {
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxEventRow> rows = outboxEventJdbcRepository.claim(now, now.plusNanos(leaseMillis * 1_000_000), maxAttempts, batchSize);
+
+        Set<Aggregate> blockedAggregates = new HashSet<>();
+        List<Long> failedIds = new ArrayList<>();
+        List<Long> skippedIds = new ArrayList<>();
+
+        for (OutboxEventRow row : rows) {
+            Aggregate aggregate = new Aggregate(row.aggregateType(), row.aggregateId());
+
+            // 앞선 이벤트가 실패한 aggregate 는 순서를 지키기 위해 건너뜀
+            if (blockedAggregates.contains(aggregate)) {
+                skippedIds.add(row.id());
+                continue;
+            }
+
+            if (!handle(row)) {
+                blockedAggregates.add(aggregate);
+                failedIds.add(row.id());
+            }
+        }
+
+        release(failedIds, false);
+        release(skippedIds, true);
+
+        return rows.size();
+    }
+
+    private boolean handle(OutboxEventRow row) {
+
+        OutboxEventHandler handler = handlers.get(row.eventType());
+
+        if (handler == null) {
+            failedCounter.increment();
+            log.error("[{}] 처리기가 없는 아웃박스 이벤트 id: {}, eventType: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), row.id(), row.eventType());
+            return false;
+        }
+
+        try {
+            handler.handle(row);
+            relayedCounter.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("[{}] 아웃박스 이벤트 처리 실패 id: {}, eventType: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), row.id(), row.eventType(), e);
+            return false;
+        }
+    }
+
+    // lease 가 끝나기를 기다리지 않고 다음 주기에 다시 처리하도록 선점 해제
+    private void release(List<Long> outboxEventIds, boolean refundAttempt) {
+
+        if (outboxEventIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            outboxEventJdbcRepository.release(outboxEventIds, refundAttempt);
+        } catch (RuntimeException e) {
+            // 해제하지 못해도 lease 가 지나면 다시 처리됨
+            log.error("[{}] 아웃박스 이벤트 선점 해제 실패 count: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), outboxEventIds.size(), e);
+        }
+    }
+
+    /**
+     * 처리된 지 retentionDays 일이 지난 이벤트를 PURGE_CHUNK_SIZE 개씩 나누어 삭제
+     * @return 삭제된 이벤트 수
+     */
+    public int purge() {
+
+        LocalDateTime before = LocalDateTime.now(clock).minusDays(retentionDays);
+        int purged = 0;
+        int deleted;
+
+        do {
+            deleted = outboxEventJdbcRepository.deletePublishedBefore(before, PURGE_CHUNK_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+
+        if (purged > 0) {
+            log.info("[{}] 처리된 아웃박스 이벤트 삭제 count: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), purged);
+        }
+
+        return purged;
+    }
+
+    private record Aggregate(String aggregateType, Long aggregateId) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.junior.service.ratelimit;
+
+import com.junior.config.RateLimitProperties;
+import com.junior.util.RedisTokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경로별 정책에 따라 클라이언트(회원 id 또는 IP)별 요청 수를 토큰 버킷으로 제한
+ * 기본은 서버별 메모리 버킷, redis-enabled 면 Redis 버킷으로 모든 서버의 요청을 합산해 제한
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    // 버킷 수가 최대치를 넘었을 때 가득 찬 버킷 정리를 시도하는 최소 간격
+    private static final long EVICT_ON_OVERFLOW_INTERVAL_MILLIS = 1000;
+
+    // 가득 찬 버킷이 없을 때 정리할 오래 사용하지 않은 버킷 비율(%)
+    private static final int EVICT_LEAST_RECENTLY_USED_PERCENT = 10;
+
+    private final RedisTokenBucket redisTokenBucket;
+    private final Clock clock;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final int maxBuckets;
+    private final List<RateLimitProperties.Policy> policies;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // 정책 이름 + 클라이언트 키 -> 버킷
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastEvictAt = new AtomicLong();
+
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> throttledCounters = new HashMap<>();
+    private final Map<String, Counter> overflowCounters = new HashMap<>();
+    private final Counter redisFailureCounter;
+
+    public RateLimiter(RateLimitProperties properties,
+                       RedisTokenBucket redisTokenBucket,
+                       Clock clock,
+                       MeterRegistry meterRegistry) {
+        this.redisTokenBucket = redisTokenBucket;
+        this.clock = clock;
+        this.enabled = properties.enabled();
+        this.redisEnabled = properties.redisEnabled();
+        this.maxBuckets = properties.maxBuckets();
+        this.policies = properties.policies();
+
+        for (RateLimitProperties.Policy policy : policies) {
+            if (policy.name() == null || policy.pattern() == null || policy.capacity() < 1 || policy.refillPerSecond() <= 0) {
+                throw new IllegalArgumentException("잘못된 요청 수 제한 정책: " + policy);
+            }
+
+            allowedCounters.put(policy.name(), Counter.builder("ratelimit.requests")
+                    .tag("policy", policy.name())
+                    .tag("result", "allowed")
+                    .description("요청 수 제한 정책별 처리 결과")
+                    .register(meterRegistry));
+            throttledCounters.put(policy.name(), Counter.builder("ratelimit.requests")
+                    .tag("policy", policy.name())
+                    .tag("result", "throttled")
+                    .description("요청 수 제한 정책별 처리 결과")
+                    .register(meterRegistry));
+            overflowCounters.put(policy.name(), Counter.builder("ratelimit.overflow")
+                    .tag("policy", policy.name())
+                    .description("버킷 수가 최대치라 제한하지 않은 요청 수")
+                    .register(meterRegistry));
+        }
+
+        this.redisFailureCounter = Counter.builder("ratelimit.redis.failure")
+                .description("Redis 버킷 사용 실패 수, 실패 시 서버별 버킷 사용")
+                .register(meterRegistry);
+
+        Gauge.builder("ratelimit.buckets", buckets, ConcurrentHashMap::size)
+                .description("서버별 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청에 적용할 정책, 앞에 있는 정책부터 검사해 처음 일치한 정책 반환
+     * @return 적용할 정책, 없거나 제한이 꺼져 있으면 null
+     */
+    public RateLimitProperties.Policy findPolicy(String method, String path) {
+
+        if (!enabled) {
+            return null;
+        }
+
+        for (RateLimitProperties.Policy policy : policies) {
+            if ((policy.method() == null || policy.method().equalsIgnoreCase(method)) && pathMatcher.match(policy.pattern(), path)) {
+                return policy;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 클라이언트의 버킷에서 토큰 하나 사용
+     * @param clientKey: 회원 id 또는 IP 로 만든 클라이언트 키
+     * @return 0 이면 허용, 0 보다 크면 다음 요청이 허용될 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(RateLimitProperties.Policy policy, String clientKey) {
+
+        long waitMillis = redisEnabled ? tryAcquireOnRedis(policy, clientKey) : tryAcquireOnLocal(policy, clientKey);
+
+        if (waitMillis > 0) {
+            throttledCounters.get(policy.name()).increment();
+        } else {
+            allowedCounters.get(policy.name()).increment();
+        }
+
+        return waitMillis;
+    }
+
+    /**
+     * 가득 찬 버킷 정리, 가득 찬 버킷은 새로 만든 버킷과 같아 제한 결과에 영향 없음
+     * 정리 중 다른 스레드가 사용한 버킷이 함께 정리되면 해당 클라이언트에 토큰 하나가 더 허용될 수 있음
+     * @return 정리한 버킷 수
+     */
+    public int evictFullBuckets() {
+
+        long now = clock.millis();
+        int before = buckets.size();
+
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+
+        return before - buckets.size();
+    }
+
+    private long tryAcquireOnRedis(RateLimitProperties.Policy policy, String clientKey) {
+        try {
+            return redisTokenBucket.tryAcquire(policy.name() + ":" + clientKey, policy.capacity(), policy.refillPerSecond());
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 요청을 막지 않고 서버별 버킷으로 제한
+            redisFailureCounter.increment();
+            log.warn("[{}] Redis 버킷 사용 실패, 서버별 버킷 사용 policy: {}, message: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), policy.name(), e.getMessage());
+            return tryAcquireOnLocal(policy, clientKey);
+        }
+    }
+
+    private long tryAcquireOnLocal(RateLimitProperties.Policy policy, String clientKey) {
+        long now = clock.millis();
+        TokenBucket bucket = getBucket(policy, clientKey, now);
+
+        if (bucket == null) {
+            // 버킷을 만들 수 없으면 다른 클라이언트에 영향을 주지 않도록 제한하지 않고 집계만 함
+            overflowCounters.get(policy.name()).increment();
+            return 0L;
+        }
+
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * 클라이언트의 버킷, 없으면 생성
+     * @return 버킷 수가 최대치라 새 버킷을 만들 수 없으면 null
+     */
+    private TokenBucket getBucket(RateLimitProperties.Policy policy, String clientKey, long now) {
+
+        String key = policy.name() + ":" + clientKey;
+        TokenBucket bucket = buckets.get(key);
+
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (buckets.size() >= maxBuckets) {
+            long lastEvict = lastEvictAt.get();
+
+            if (now - lastEvict >= EVICT_ON_OVERFLOW_INTERVAL_MILLIS && lastEvictAt.compareAndSet(lastEvict, now)) {
+                if (evictFullBuckets() == 0) {
+                    evictLeastRecentlyUsedBuckets();
+                }
+            }
+
+            if (buckets.size() >= maxBuckets) {
+                return null;
+            }
+        }
+
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(policy.capacity(), policy.refillPerSecond(), now));
+    }
+
+    /**
+     * 마지막 요청 시각이 오래된 버킷부터 전체의 EVICT_LEAST_RECENTLY_USED_PERCENT 만큼 정리
+     * @return 정리한 버킷 수
+     */
+    private int evictLeastRecentlyUsedBuckets() {
+
+        long[] accessedAt = buckets.values().stream()
+                .mapToLong(TokenBucket::lastAccessAt)
+                .sorted()
+                .toArray();
+
+        if (accessedAt.length == 0) {
+            return 0;
+        }
+
+        long threshold = accessedAt[Math.max(1, accessedAt.length * EVICT_LEAST_RECENTLY_USED_PERCENT / 100) - 1];
+        int before = buckets.size();
+
+        buckets.values().removeIf(bucket -> bucket.lastAccessAt() <= threshold);
+
+        return before - buckets.size();
+    }
+}
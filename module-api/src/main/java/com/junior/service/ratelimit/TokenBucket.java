@@ -0,0 +1,70 @@
+package com.junior.service.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 서버 메모리에 저장하는 토큰 버킷
+ * 상태(남은 토큰, 갱신 시각)를 하나의 불변 객체로 두고 CAS 로 교체해 락 없이 여러 스레드에서 사용
+ */
+class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerSecond;
+
+    private final AtomicReference<State> state;
+
+    // 제한된 요청을 포함해 마지막으로 요청한 시각, 오래 사용하지 않은 버킷 정리에 사용
+    private volatile long lastAccessAt;
+
+    TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.state = new AtomicReference<>(new State(capacity, now));
+        this.lastAccessAt = now;
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 0 이면 허용, 0 보다 크면 다음 요청이 허용될 때까지 남은 시간(ms)
+     */
+    long tryAcquire(long now) {
+
+        lastAccessAt = now;
+
+        while (true) {
+            State current = state.get();
+
+            // 다른 스레드가 더 늦은 시각으로 갱신했으면 그 시각 기준으로 계산
+            long updatedAt = Math.max(current.updatedAt(), now);
+            double tokens = Math.min(capacity, current.tokens() + refill(updatedAt - current.updatedAt()));
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) * 1000 / refillPerSecond);
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1, updatedAt))) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * now 시각에 버킷이 가득 찼는지 여부, 가득 찬 버킷은 새 버킷과 같아 제거해도 제한 결과가 달라지지 않음
+     */
+    boolean isFull(long now) {
+        State current = state.get();
+        return current.tokens() + refill(Math.max(0, now - current.updatedAt())) >= capacity;
+    }
+
+    long lastAccessAt() {
+        return lastAccessAt;
+    }
+
+    // elapsedMillis 동안 채워지는 토큰 수
+    private double refill(long elapsedMillis) {
+        return elapsedMillis * refillPerSecond / 1000;
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+}
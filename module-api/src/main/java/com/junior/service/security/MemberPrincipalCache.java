@@ -0,0 +1,155 @@
+package com.junior.service.security;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.member.MemberStatus;
+import com.junior.event.member.MemberChangeBroadcaster;
+import com.junior.event.member.MemberChangedEvent;
+import com.junior.event.member.MemberEvictEvent;
+import com.junior.repository.member.MemberRepository;
+import com.junior.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증된 회원(UserPrincipal) 캐시
+ * JWTFilter 가 요청마다 회원을 조회하지 않도록 JWT 의 id claim 으로 캐시
+ * 회원 정보가 바뀌면 커밋 후 캐시를 무효화하고 Redis pub/sub 으로 다른 서버에도 전달, 전달에 실패해도 ttl 이내로만 지연됨
+ * 캐시된 Member 는 준영속 상태이므로 변경이 필요한 서비스는 기존처럼 id 로 다시 조회해야 함
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private final MemberRepository memberRepository;
+    private final MemberChangeBroadcaster memberChangeBroadcaster;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private final ConcurrentHashMap<Long, PrincipalEntry> entries = new ConcurrentHashMap<>();
+
+    // 무효화할 때마다 증가, 조회 도중 무효화된 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLong version = new AtomicLong();
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                MemberChangeBroadcaster memberChangeBroadcaster,
+                                Clock clock,
+                                MeterRegistry meterRegistry,
+                                @Value("${security.principal-cache.ttl-ms:300000}") long ttlMillis,
+                                @Value("${security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.memberRepository = memberRepository;
+        this.memberChangeBroadcaster = memberChangeBroadcaster;
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+
+        this.hitCounter = Counter.builder("security.principal.cache")
+                .tag("result", "hit")
+                .description("인증 회원 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.principal.cache")
+                .tag("result", "miss")
+                .description("인증 회원 캐시 조회 결과")
+                .register(meterRegistry);
+
+        Gauge.builder("security.principal.cache.size", entries, ConcurrentHashMap::size)
+                .description("캐시된 인증 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * JWT 의 회원 정보로 인증 회원 조회, 캐시에 없거나 만료되었으면 DB 에서 조회한 뒤 캐시
+     * 탈퇴했거나 토큰의 username 과 다른 회원이면 기존 username 조회와 같이 예외 발생
+     */
+    public UserPrincipal getPrincipal(Long memberId, String username) {
+
+        // id claim 이 없는 토큰은 캐시하지 않고 username 으로 조회
+        if (memberId == null) {
+            return memberRepository.findByUsername(username)
+                    .map(UserPrincipal::new)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        }
+
+        long now = clock.millis();
+        PrincipalEntry entry = entries.get(memberId);
+
+        if (entry != null && entry.expiresAt() > now) {
+            hitCounter.increment();
+            return validate(entry.principal(), username);
+        }
+
+        missCounter.increment();
+
+        long loadVersion = version.get();
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+
+        UserPrincipal principal = validate(new UserPrincipal(member), username);
+        put(memberId, new PrincipalEntry(principal, now + ttlMillis), loadVersion);
+
+        return principal;
+    }
+
+    // 커밋된 변경만 반영, 트랜잭션 밖에서 발행되면 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evict(event.getMemberId());
+        memberChangeBroadcaster.broadcast(event.getMemberId());
+    }
+
+    @EventListener
+    public void onMemberEvicted(MemberEvictEvent event) {
+        evict(event.getMemberId());
+    }
+
+    public void evict(Long memberId) {
+        version.incrementAndGet();
+        entries.remove(memberId);
+    }
+
+    private UserPrincipal validate(UserPrincipal principal, String username) {
+
+        Member member = principal.getMember();
+
+        // 탈퇴한 회원은 username 이 삭제되어 기존 username 조회에서도 찾을 수 없었음
+        if (member.getStatus() == MemberStatus.DELETE || !Objects.equals(member.getUsername(), username)) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        return principal;
+    }
+
+    private void put(Long memberId, PrincipalEntry entry, long loadVersion) {
+
+        if (entries.size() >= maxEntries) {
+            long now = clock.millis();
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        entries.put(memberId, entry);
+
+        // 조회 도중 무효화가 일어났으면 무효화 이전 결과일 수 있으므로 제거
+        if (version.get() != loadVersion) {
+            entries.remove(memberId, entry);
+        }
+    }
+
+    private record PrincipalEntry(UserPrincipal principal, long expiresAt) {
+    }
+}
@@ -3,12 +3,14 @@ package com.junior.service.story;
 import com.junior.domain.story.Story;
 import com.junior.dto.story.AdminStoryDetailDto;
 import com.junior.dto.story.AdminStoryDto;
+import com.junior.event.story.StoryChangedEvent;
 import com.junior.exception.StatusCode;
 import com.junior.exception.StoryNotFoundException;
 import com.junior.page.PageCustom;
 import com.junior.repository.story.StoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminStoryService {
 
     private final StoryRepository storyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PageCustom<AdminStoryDto> findStory(Pageable pageable, String keyword) {
 
@@ -54,6 +57,8 @@ public class AdminStoryService {
         log.info("[{}] 스토리 삭제 id: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), storyId);
 
         findStory.deleteStory();
+
+        eventPublisher.publishEvent(new StoryChangedEvent(findStory));
     }
 
 
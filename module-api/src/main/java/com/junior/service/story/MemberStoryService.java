@@ -1,20 +1,28 @@
 package com.junior.service.story;
 
-import com.junior.domain.like.Like;
 import com.junior.domain.member.Member;
 import com.junior.domain.notification.NotificationType;
 import com.junior.domain.story.Story;
+import com.junior.dto.map.MapClusterDto;
+import com.junior.dto.notification.NotificationPushDto;
 import com.junior.dto.story.*;
-import com.junior.event.like.LikeFcmEvent;
+import com.junior.event.story.StoryChangedEvent;
+import com.junior.event.story.StoryEngagementEvent;
 import com.junior.exception.DeletedStoryException;
 import com.junior.exception.PermissionException;
 import com.junior.exception.StatusCode;
 import com.junior.exception.StoryNotFoundException;
-import com.junior.repository.comment.CommentRepository;
+import com.junior.repository.story.LikeJdbcRepository;
 import com.junior.repository.story.LikeRepository;
 import com.junior.repository.story.StoryRepository;
+import com.junior.repository.story.geo.StoryGeoIndex;
 import com.junior.security.UserPrincipal;
+import com.junior.service.map.MapGridClusterer;
+import com.junior.service.map.MapPoint;
 import com.junior.service.notification.NotificationService;
+import com.junior.service.story.detail.StoryDetailCache;
+import com.junior.service.story.search.StorySearchIndexService;
+import com.junior.service.story.view.StoryViewCountService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
@@ -31,9 +39,13 @@ import java.util.List;
 public class MemberStoryService {
     private final StoryRepository storyRepository;
     private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
+    private final LikeJdbcRepository likeJdbcRepository;
     private final NotificationService notificationService;
     private final ApplicationEventPublisher eventPublisher;
+    private final StoryViewCountService storyViewCountService;
+    private final StorySearchIndexService storySearchIndexService;
+    private final StoryGeoIndex storyGeoIndex;
+    private final StoryDetailCache storyDetailCache;
 
     @Transactional
     public void createStory(UserPrincipal userPrincipal, CreateStoryDto createStoryDto) {
@@ -43,6 +55,10 @@ public class MemberStoryService {
         Story story = Story.from(member, createStoryDto);
 
         storyRepository.save(story);
+
+        storySearchIndexService.index(story);
+
+        eventPublisher.publishEvent(new StoryChangedEvent(story));
     }
 
     @Transactional
@@ -58,6 +74,10 @@ public class MemberStoryService {
         if (isAuthor) {
             // 더티 체킹을 통해 수정쿼리가 자동으로 발생
             findStory.updateStory(createStoryDto);
+
+            storySearchIndexService.index(findStory);
+
+            eventPublisher.publishEvent(new StoryChangedEvent(findStory));
         } else {
             throw new PermissionException(StatusCode.STORY_NOT_PERMISSION);
         }
@@ -95,67 +115,142 @@ public class MemberStoryService {
         return storyRepository.findStoryByMap(findMember, geoPointLt, geoPointRb);
     }
 
-    //    @Transactional
+    /**
+     * 지도 영역의 회원 스토리를 배율에 맞게 클러스터링해서 조회
+     * 좌표 색인이 적재되기 전에는 지도 조회 결과(최대 조회 수 제한)를 클러스터링
+     * 배율별 개수가 맞도록 영역 안의 좌표는 모두 조회하고, 응답 크기는 클러스터링에서 제한
+     */
+    public List<MapClusterDto> findStoryClustersByMap(UserPrincipal userPrincipal, GeoPointDto geoPointLt, GeoPointDto geoPointRb, int zoom) {
+
+        Member findMember = userPrincipal.getMember();
+
+        List<MapPoint> points;
+
+        if (storyGeoIndex.isLoaded()) {
+            points = storyGeoIndex.findPoints(findMember.getId(),
+                            Math.min(geoPointLt.latitude(), geoPointRb.latitude()),
+                            Math.max(geoPointLt.latitude(), geoPointRb.latitude()),
+                            Math.min(geoPointLt.longitude(), geoPointRb.longitude()),
+                            Math.max(geoPointLt.longitude(), geoPointRb.longitude()))
+                    .stream()
+                    .map(point -> new MapPoint(point.storyId(), point.latitude(), point.longitude()))
+                    .toList();
+        } else {
+            points = storyRepository.findStoryByMap(findMember, geoPointLt, geoPointRb)
+                    .stream()
+                    .map(story -> new MapPoint(story.storyId(), story.latitude(), story.longitude()))
+                    .toList();
+        }
+
+        return MapGridClusterer.cluster(points, MapGridClusterer.normalizeZoom(zoom));
+    }
+
+    /**
+     * 스토리 상세 조회
+     * 조회자와 관계없는 정보는 캐시를 사용하고, 좋아요 여부만 조회자별로 조회
+     */
     public ResponseStoryDto findOneStory(UserPrincipal userPrincipal, Long storyId) {
 //        Member findMember = userPrincipal.getMember();
 
         Member findMember = (userPrincipal != null) ? userPrincipal.getMember() : null;
 
-        Story findStory = storyRepository.findById(storyId)
-                .orElseThrow(() -> new StoryNotFoundException(StatusCode.STORY_NOT_FOUND));
+        StoryDetailDto storyDetail = storyDetailCache.get(storyId, () -> storyRepository.findStoryDetail(storyId)
+                .orElseThrow(() -> new StoryNotFoundException(StatusCode.STORY_NOT_FOUND)));
 
-        if (findStory.getIsDeleted()) {
+        if (storyDetail.isDeleted()) {
             throw new DeletedStoryException(StatusCode.STORY_DELETED);
         }
 
-        Long commentCntByStoryId = commentRepository.countByStoryIdAndIsDeletedFalse(findStory.getId());
+        boolean isAuthor = (findMember != null) && storyDetail.authorId().equals(findMember.getId());
 
-        boolean isLikeStory = (findMember != null) && likeRepository.isLikeStory(findMember, findStory);
-
-        boolean isAuthor = (findMember != null) && findStory.getMember().getId().equals(findMember.getId());
-        boolean isHidden = findStory.isHidden();
-
-        if (isHidden && !isAuthor) {
+        if (storyDetail.isHidden() && !isAuthor) {
             throw new StoryNotFoundException(StatusCode.STORY_NOT_PERMISSION);
         }
 
-        findStory.increaseViewCnt();
+        boolean isLikeStory = (findMember != null) && likeRepository.isLikeStory(findMember.getId(), storyId);
+
+        // 조회수는 버퍼에 누적 후 스케줄러가 일괄 반영
+        storyViewCountService.increaseViewCnt(storyId);
 
-        return ResponseStoryDto.from(findStory, isLikeStory, isAuthor, commentCntByStoryId
-        );
+        return ResponseStoryDto.from(storyDetail, isLikeStory, isAuthor);
     }
 
+    /**
+     * 좋아요 토글
+     * @deprecated 멱등한 {@link #like(UserPrincipal, Long)}, {@link #unlike(UserPrincipal, Long)} 사용
+     */
+    @Deprecated
     @Transactional
     public void clickLike(UserPrincipal userPrincipal, Long storyId) {
         Member findMember = userPrincipal.getMember();
 
-        Story findStory = storyRepository.findById(storyId)
+        Story findStory = findStoryForLike(storyId);
+
+        if (!addLike(findMember, findStory)) {
+            removeLike(findMember, findStory);
+        }
+    }
+
+    /**
+     * 좋아요 등록, 이미 좋아요한 스토리면 아무 변화 없음
+     */
+    @Transactional
+    public void like(UserPrincipal userPrincipal, Long storyId) {
+        Member findMember = userPrincipal.getMember();
+
+        Story findStory = findStoryForLike(storyId);
+
+        addLike(findMember, findStory);
+    }
+
+    /**
+     * 좋아요 취소, 좋아요하지 않은 스토리면 아무 변화 없음
+     */
+    @Transactional
+    public void unlike(UserPrincipal userPrincipal, Long storyId) {
+        Member findMember = userPrincipal.getMember();
+
+        Story findStory = findStoryForLike(storyId);
+
+        removeLike(findMember, findStory);
+    }
+
+    // 같은 스토리에 대한 좋아요 변경은 스토리 row 락으로 직렬화
+    private Story findStoryForLike(Long storyId) {
+        Story findStory = storyRepository.findByIdForUpdate(storyId)
                 .orElseThrow(() -> new StoryNotFoundException(StatusCode.STORY_NOT_FOUND));
 
-        // is clicked like?
-        Boolean isLiked = storyRepository.isLikedMember(findMember, findStory);
+        if (findStory.getIsDeleted()) {
+            throw new DeletedStoryException(StatusCode.STORY_DELETED);
+        }
 
-        if (!isLiked) {
-            Like like = Like.builder()
-                    .member(findMember)
-                    .story(findStory)
-                    .build();
+        return findStory;
+    }
 
-            likeRepository.save(like);
+    private boolean addLike(Member findMember, Story findStory) {
 
-            findStory.increaseLikeCnt();
+        // (member_id, story_id) 유니크 제약으로 중복 저장 방지
+        if (!likeJdbcRepository.insertIfAbsent(findMember.getId(), findStory.getId())) {
+            return false;
+        }
 
-            //좋아요 누른 사람 != 스토리 주인 -> 알림 저장
-            if (!findStory.getMember().getId().equals(findMember.getId())) {
-                notificationService.saveNotification(findStory.getMember(), findMember.getProfileImage(), findStory.getTitle(), findStory.getId(), NotificationType.LIKED);
-                eventPublisher.publishEvent(new LikeFcmEvent(findMember, findStory));
-            }
+        storyRepository.increaseLikeCnt(findStory.getId());
+        eventPublisher.publishEvent(StoryEngagementEvent.like(findStory.getId(), 1));
 
-        } else {
-            Like findLike = likeRepository.findLikeByMemberAndStory(findMember, findStory);
-            likeRepository.delete(findLike);
+        //좋아요 누른 사람 != 스토리 주인 -> 알림 저장, 푸시 전송
+        if (!findStory.getMember().getId().equals(findMember.getId())) {
+            notificationService.saveNotification(findStory.getMember(), findMember.getProfileImage(), findStory.getTitle(), findStory.getId(), NotificationType.LIKED,
+                    new NotificationPushDto(findMember.getNickname(), findStory.getTitle()));
+        }
+
+        return true;
+    }
 
-            findStory.decreaseLikeCnt();
+    private void removeLike(Member findMember, Story findStory) {
+
+        if (likeRepository.deleteLikeByStoryAndMember(findMember, findStory) > 0) {
+            storyRepository.decreaseLikeCnt(findStory.getId());
+            eventPublisher.publishEvent(StoryEngagementEvent.like(findStory.getId(), -1));
         }
     }
 
@@ -176,6 +271,8 @@ public class MemberStoryService {
 
         if (findMember.getId().equals(findStory.getMember().getId())) {
             findStory.deleteStory();
+
+            eventPublisher.publishEvent(new StoryChangedEvent(findStory));
         } else {
             throw new PermissionException(StatusCode.STORY_NOT_PERMISSION);
         }
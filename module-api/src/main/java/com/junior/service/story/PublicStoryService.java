@@ -2,8 +2,10 @@ package com.junior.service.story;
 
 import com.junior.domain.member.Member;
 import com.junior.dto.story.ResponseStoryListDto;
+import com.junior.dto.story.ScoreCursorSlice;
 import com.junior.repository.story.StoryRepository;
 import com.junior.security.UserPrincipal;
+import com.junior.service.story.feed.StoryFeedCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +21,7 @@ import java.util.Optional;
 public class PublicStoryService {
 
     private final StoryRepository storyRepository;
+    private final StoryFeedCache storyFeedCache;
 
     public Slice<ResponseStoryListDto> findStoriesByFilter(UserPrincipal userPrincipal, Long cursorId, int size, String city, String search) {
 
@@ -27,6 +30,11 @@ public class PublicStoryService {
 
         Pageable pageable = PageRequest.of(0, size);
 
+        // 앱 진입 시 조회되는 첫 페이지만 캐시, 검색 결과는 캐시하지 않음
+        if (cursorId == null && (search == null || search.isBlank())) {
+            return storyFeedCache.get(city, pageable, () -> storyRepository.findAllStories(member, null, pageable, city, null));
+        }
+
         return storyRepository.findAllStories(member, cursorId, pageable, city, search);
     }
 
@@ -42,13 +50,13 @@ public class PublicStoryService {
         return recommendedRecentPopularCity.orElse("");
     }
 
-    public Slice<ResponseStoryListDto> getRecentPopularStories(UserPrincipal userPrincipal, Long cursorId, int size) {
+    public ScoreCursorSlice<ResponseStoryListDto> getRecentPopularStories(UserPrincipal userPrincipal, Double cursorScore, Long cursorId, int size) {
 
 //        Member member = userPrincipal.getMember();
         Member member = (userPrincipal != null) ? userPrincipal.getMember() : null;
 
         Pageable pageable = PageRequest.of(0, size);
 
-        return storyRepository.getRecentPopularStories(member, cursorId, pageable);
+        return storyRepository.getRecentPopularStories(member, cursorScore, cursorId, pageable);
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.junior.service.story.comment;
+
+import com.junior.repository.story.StoryJdbcRepository;
+import com.junior.repository.story.StoryJdbcRepository.StoryCommentCnt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * story.comment_cnt 보정
+ * 댓글 수는 댓글 작성/삭제 시 단일 UPDATE문으로 갱신하고, 누락되거나 어긋난 값은 주기적으로 실제 댓글 수와 비교해 보정
+ */
+@Slf4j
+@Service
+public class StoryCommentCountService {
+
+    // 한 번에 비교할 스토리 수
+    private static final int CHUNK_SIZE = 1000;
+
+    private final StoryJdbcRepository storyJdbcRepository;
+    private final Timer reconcileTimer;
+    private final Counter driftedStoryCounter;
+    private final Counter driftCounter;
+
+    public StoryCommentCountService(StoryJdbcRepository storyJdbcRepository, MeterRegistry meterRegistry) {
+        this.storyJdbcRepository = storyJdbcRepository;
+
+        this.reconcileTimer = Timer.builder("story.comment.reconcile")
+                .description("스토리 댓글 수 보정 소요 시간")
+                .register(meterRegistry);
+
+        this.driftedStoryCounter = Counter.builder("story.comment.drift.stories")
+                .description("댓글 수가 실제와 달라 보정된 스토리 수")
+                .register(meterRegistry);
+
+        this.driftCounter = Counter.builder("story.comment.drift")
+                .description("보정 시 발견된 댓글 수 차이의 합")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모든 스토리의 댓글 수를 story_id 순으로 나누어 비교하고 어긋난 값을 보정
+     * @return 보정된 스토리 수
+     */
+    public int reconcile() {
+
+        Timer.Sample sample = Timer.start();
+
+        long afterStoryId = 0;
+        int repaired = 0;
+        long drift = 0;
+        List<StoryCommentCnt> chunk;
+
+        try {
+            do {
+                chunk = storyJdbcRepository.findCommentCnt(afterStoryId, CHUNK_SIZE);
+
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                List<StoryCommentCnt> drifts = chunk.stream()
+                        .filter(StoryCommentCnt::isDrifted)
+                        .toList();
+
+                if (!drifts.isEmpty()) {
+                    repaired += storyJdbcRepository.repairCommentCnt(drifts);
+                    drift += drifts.stream().mapToLong(StoryCommentCnt::drift).sum();
+                }
+
+                afterStoryId = chunk.get(chunk.size() - 1).storyId();
+            } while (chunk.size() == CHUNK_SIZE);
+        } finally {
+            sample.stop(reconcileTimer);
+            driftedStoryCounter.increment(repaired);
+            driftCounter.increment(drift);
+        }
+
+        if (repaired > 0) {
+            log.warn("[{}] 스토리 댓글 수 보정 story 수: {}, 차이 합: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), repaired, drift);
+        }
+
+        return repaired;
+    }
+}
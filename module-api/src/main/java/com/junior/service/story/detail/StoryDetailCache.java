@@ -0,0 +1,127 @@
+package com.junior.service.story.detail;
+
+import com.junior.dto.story.StoryDetailDto;
+import com.junior.event.story.StoryChangedEvent;
+import com.junior.event.story.StoryEngagementEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 스토리 상세 중 조회자와 관계없는 정보 캐시
+ * 스토리 수정/삭제, 좋아요/댓글 수 변경이 커밋되면 해당 스토리만 무효화하고,
+ * 다른 서버에서 발생한 변경은 ttl 이내로만 지연되어 보임
+ */
+@Component
+public class StoryDetailCache {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private final ConcurrentHashMap<Long, DetailEntry> entries = new ConcurrentHashMap<>();
+
+    // 무효화할 때마다 증가, 조회 도중 무효화된 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLong version = new AtomicLong();
+
+    public StoryDetailCache(Clock clock,
+                            MeterRegistry meterRegistry,
+                            @Value("${story.detail-cache.ttl-ms:30000}") long ttlMillis,
+                            @Value("${story.detail-cache.max-entries:10000}") int maxEntries) {
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+
+        this.hitCounter = Counter.builder("story.detail.cache")
+                .tag("result", "hit")
+                .description("스토리 상세 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("story.detail.cache")
+                .tag("result", "miss")
+                .description("스토리 상세 캐시 조회 결과")
+                .register(meterRegistry);
+
+        Gauge.builder("story.detail.cache.size", entries, ConcurrentHashMap::size)
+                .description("캐시된 스토리 상세 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 스토리 상세를 반환, 없거나 만료되었으면 loader 로 조회한 뒤 캐시
+     * loader 에서 발생한 예외(스토리 없음 등)는 캐시하지 않고 그대로 전달
+     */
+    public StoryDetailDto get(Long storyId, Supplier<StoryDetailDto> loader) {
+
+        long now = clock.millis();
+        DetailEntry entry = entries.get(storyId);
+
+        if (entry != null && entry.expiresAt() > now) {
+            hitCounter.increment();
+            return entry.storyDetail();
+        }
+
+        missCounter.increment();
+
+        long loadVersion = version.get();
+        StoryDetailDto storyDetail = loader.get();
+
+        put(storyId, new DetailEntry(storyDetail, now + ttlMillis), loadVersion);
+
+        return storyDetail;
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener
+    public void onStoryChanged(StoryChangedEvent event) {
+        evict(event.getStory().getId());
+    }
+
+    // 조회수는 상세 응답에 포함되지 않으므로 무시
+    @TransactionalEventListener
+    public void onStoryEngagement(StoryEngagementEvent event) {
+        if (event.getLikeDelta() != 0 || event.getCommentDelta() != 0) {
+            evict(event.getStoryId());
+        }
+    }
+
+    public void evict(Long storyId) {
+        version.incrementAndGet();
+        entries.remove(storyId);
+    }
+
+    private void put(Long storyId, DetailEntry entry, long loadVersion) {
+
+        if (entries.size() >= maxEntries) {
+            long now = clock.millis();
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+
+            // 만료된 상세가 없으면 가장 먼저 캐시된(가장 먼저 만료될) 상세를 제거
+            if (entries.size() >= maxEntries) {
+                entries.entrySet().stream()
+                        .min(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                        .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+            }
+        }
+
+        entries.put(storyId, entry);
+
+        // 조회 도중 무효화가 일어났으면 무효화 이전 결과일 수 있으므로 제거
+        if (version.get() != loadVersion) {
+            entries.remove(storyId, entry);
+        }
+    }
+
+    private record DetailEntry(StoryDetailDto storyDetail, long expiresAt) {
+    }
+}
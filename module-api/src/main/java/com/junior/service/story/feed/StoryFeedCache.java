@@ -0,0 +1,153 @@
+package com.junior.service.story.feed;
+
+import com.junior.domain.story.Story;
+import com.junior.dto.story.ResponseStoryListDto;
+import com.junior.event.story.StoryChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 스토리 피드 첫 페이지(커서와 검색어 없는 요청) 캐시
+ * 검색어는 종류가 많아 재사용되지 않고 캐시를 채우기만 하므로 캐시하지 않음
+ * 스토리 작성/수정/삭제/숨김이 커밋되면 영향을 받을 수 있는 페이지만 무효화하고,
+ * 좋아요 수처럼 이벤트가 없는 변경은 ttl 이내로만 지연되어 보임
+ */
+@Slf4j
+@Component
+public class StoryFeedCache {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private final ConcurrentHashMap<FeedKey, FeedEntry> entries = new ConcurrentHashMap<>();
+
+    // 무효화할 때마다 증가, 조회 도중 무효화된 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLong version = new AtomicLong();
+
+    public StoryFeedCache(Clock clock,
+                          MeterRegistry meterRegistry,
+                          @Value("${story.feed-cache.ttl-ms:30000}") long ttlMillis,
+                          @Value("${story.feed-cache.max-entries:1000}") int maxEntries) {
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+
+        this.hitCounter = Counter.builder("story.feed.cache")
+                .tag("result", "hit")
+                .description("공개 스토리 피드 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("story.feed.cache")
+                .tag("result", "miss")
+                .description("공개 스토리 피드 캐시 조회 결과")
+                .register(meterRegistry);
+
+        Gauge.builder("story.feed.cache.size", entries, ConcurrentHashMap::size)
+                .description("캐시된 공개 스토리 피드 페이지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 첫 페이지를 반환, 없거나 만료되었으면 loader 로 조회한 뒤 캐시
+     */
+    public Slice<ResponseStoryListDto> get(String city, Pageable pageable, Supplier<Slice<ResponseStoryListDto>> loader) {
+
+        FeedKey key = new FeedKey(normalize(city), pageable.getPageSize());
+        long now = clock.millis();
+
+        FeedEntry entry = entries.get(key);
+
+        if (entry != null && entry.expiresAt() > now) {
+            hitCounter.increment();
+            return new SliceImpl<>(entry.stories(), pageable, entry.hasNext());
+        }
+
+        missCounter.increment();
+
+        long loadVersion = version.get();
+        Slice<ResponseStoryListDto> stories = loader.get();
+
+        put(key, new FeedEntry(List.copyOf(stories.getContent()), stories.hasNext(), now + ttlMillis), loadVersion);
+
+        return stories;
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener
+    public void onStoryChanged(StoryChangedEvent event) {
+        Story story = event.getStory();
+
+        version.incrementAndGet();
+
+        // 스토리가 포함된 페이지(수정 전 도시의 페이지 포함)와 스토리가 새로 나타날 수 있는 페이지(전체, 같은 도시) 무효화
+        entries.entrySet().removeIf(e -> e.getKey().city() == null
+                || e.getKey().city().equals(story.getCity())
+                || e.getValue().storyIds().contains(story.getId()));
+    }
+
+    public void clear() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    private void put(FeedKey key, FeedEntry entry, long loadVersion) {
+
+        if (entries.size() >= maxEntries) {
+            long now = clock.millis();
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+
+            // 만료된 페이지가 없으면 가장 먼저 캐시된(가장 먼저 만료될) 페이지를 제거
+            if (entries.size() >= maxEntries) {
+                entries.entrySet().stream()
+                        .min(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                        .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+
+                log.debug("[{}] 피드 캐시가 가득 차서 가장 오래된 페이지 제거 key: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), key);
+            }
+        }
+
+        entries.put(key, entry);
+
+        // 조회 도중 무효화가 일어났으면 무효화 이전 결과일 수 있으므로 제거
+        if (version.get() != loadVersion) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private record FeedKey(String city, int size) {
+    }
+
+    private record FeedEntry(List<ResponseStoryListDto> stories, boolean hasNext, long expiresAt) {
+
+        Set<Long> storyIds() {
+            return stories.stream()
+                    .map(ResponseStoryListDto::storyId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.junior.service.story.search;
+
+import com.junior.domain.story.Story;
+import com.junior.repository.story.StorySearchIndexRepository;
+import com.junior.repository.story.StorySearchIndexRepository.IndexSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 스토리 검색 역색인 관리
+ * 스토리 작성/수정 트랜잭션 안에서 색인을 함께 갱신하므로 스토리와 색인이 어긋나지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorySearchIndexService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final StorySearchIndexRepository storySearchIndexRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${story.search.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public void index(Story story) {
+        storySearchIndexRepository.index(story.getId(), story.getTitle(), story.getContent());
+    }
+
+    /**
+     * 색인 도입 이전에 작성된 스토리를 위해 전체 색인을 다시 생성
+     * 색인이 비어 있으면(색인 도입 후 첫 배포) 자동으로 생성하고, 그 외에는 story.search.rebuild-on-startup=true 일 때만 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup || storySearchIndexRepository.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+
+        long lastStoryId = 0L;
+        int indexedCnt = 0;
+
+        while (true) {
+            List<IndexSource> sources = storySearchIndexRepository.findIndexSources(lastStoryId, REBUILD_CHUNK_SIZE);
+
+            if (sources.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> sources.forEach(
+                    source -> storySearchIndexRepository.index(source.storyId(), source.title(), source.content())
+            ));
+
+            lastStoryId = sources.get(sources.size() - 1).storyId();
+            indexedCnt += sources.size();
+        }
+
+        log.info("[{}] 스토리 검색 색인 재생성 완료 story 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), indexedCnt);
+    }
+}
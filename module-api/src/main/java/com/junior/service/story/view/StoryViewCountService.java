@@ -0,0 +1,139 @@
+package com.junior.service.story.view;
+
+import com.junior.event.story.StoryEngagementEvent;
+import com.junior.repository.story.StoryJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스토리 조회수 write-behind 버퍼
+ * 상세 조회 시에는 메모리에만 누적하고, 스케줄러가 주기적으로 모아서 DB에 반영
+ */
+@Slf4j
+@Service
+public class StoryViewCountService {
+
+    private final StoryJdbcRepository storyJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Timer flushTimer;
+
+    // 스토리별 미반영 조회수, 인기 스토리에 조회가 몰려도 경합이 적도록 LongAdder 사용
+    private final ConcurrentHashMap<Long, LongAdder> pendingViewCnt = new ConcurrentHashMap<>();
+
+    // 미반영 조회 중 가장 오래된 조회 시각(ms), 미반영 조회가 없으면 0
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    public StoryViewCountService(StoryJdbcRepository storyJdbcRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry) {
+        this.storyJdbcRepository = storyJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+
+        this.flushTimer = Timer.builder("story.view.flush")
+                .description("스토리 조회수 DB 반영 소요 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("story.view.pending", this, StoryViewCountService::getPendingViewCnt)
+                .description("DB에 반영되지 않은 조회수")
+                .register(meterRegistry);
+
+        Gauge.builder("story.view.flush.lag.seconds", this, StoryViewCountService::getFlushLagSeconds)
+                .description("가장 오래된 미반영 조회가 대기한 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가, DB에는 다음 flush 때 반영
+     * @param storyId
+     */
+    public void increaseViewCnt(Long storyId) {
+        pendingViewCnt.computeIfAbsent(storyId, id -> new LongAdder()).increment();
+        oldestPendingMillis.compareAndSet(0, clock.millis());
+    }
+
+    /**
+     * 누적된 조회수를 batch update로 반영
+     * 반영에 실패하면 버퍼에 되돌려 다음 주기에 다시 시도
+     */
+    public void flush() {
+
+        long oldest = oldestPendingMillis.getAndSet(0);
+        Map<Long, Long> viewCntByStoryId = drain();
+
+        if (viewCntByStoryId.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                storyJdbcRepository.increaseViewCnt(viewCntByStoryId);
+                viewCntByStoryId.forEach((storyId, viewCnt) -> eventPublisher.publishEvent(StoryEngagementEvent.view(storyId, viewCnt)));
+            }));
+            log.debug("[{}] 조회수 반영 story 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), viewCntByStoryId.size());
+        } catch (RuntimeException e) {
+            log.error("[{}] 조회수 반영 실패, 다음 주기에 재시도 story 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), viewCntByStoryId.size(), e);
+
+            viewCntByStoryId.forEach((storyId, viewCnt) ->
+                    pendingViewCnt.computeIfAbsent(storyId, id -> new LongAdder()).add(viewCnt));
+            oldestPendingMillis.accumulateAndGet(oldest, (current, previous) -> current == 0 ? previous : Math.min(current, previous));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+
+        // story_id 순으로 갱신하여 여러 서버가 동시에 반영해도 락 순서가 같도록 함
+        Map<Long, Long> viewCntByStoryId = new TreeMap<>();
+
+        pendingViewCnt.forEach((storyId, adder) -> {
+            long viewCnt = adder.sumThenReset();
+
+            if (viewCnt > 0) {
+                viewCntByStoryId.put(storyId, viewCnt);
+            } else if (pendingViewCnt.remove(storyId, adder)) {
+                // 한 주기 동안 조회가 없던 스토리는 버퍼에서 제거, 제거 직전에 들어온 조회는 함께 반영
+                long lateViewCnt = adder.sumThenReset();
+
+                if (lateViewCnt > 0) {
+                    viewCntByStoryId.merge(storyId, lateViewCnt, Long::sum);
+                }
+            }
+        });
+
+        return viewCntByStoryId;
+    }
+
+    private double getPendingViewCnt() {
+        return pendingViewCnt.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    private double getFlushLagSeconds() {
+        long oldest = oldestPendingMillis.get();
+        return oldest == 0 ? 0 : (clock.millis() - oldest) / 1000.0;
+    }
+}
@@ -1,7 +1,6 @@
 package com.junior.strategy.oauth2;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.junior.dto.oauth2.ApplePublicKeyResponse;
 import com.junior.dto.oauth2.OAuth2LoginDto;
 import com.junior.dto.oauth2.OAuth2Provider;
 import com.junior.dto.oauth2.OAuth2UserInfo;
@@ -9,17 +8,14 @@ import com.junior.exception.CustomException;
 import com.junior.exception.JwtErrorException;
 import com.junior.exception.StatusCode;
 import com.junior.security.JwtUtil;
-import com.junior.security.generator.ApplePublicKeyGenerator;
+import com.junior.security.generator.ApplePublicKeyProvider;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
-import java.security.spec.InvalidKeySpecException;
 import java.util.Map;
 
 import static com.junior.dto.oauth2.OAuth2Provider.APPLE;
@@ -29,7 +25,7 @@ import static com.junior.dto.oauth2.OAuth2Provider.APPLE;
 @RequiredArgsConstructor
 public class AppleOAuth2LoginStrategy implements OAuth2MemberStrategy {
 
-    private final ApplePublicKeyGenerator applePublicKeyGenerator;
+    private final ApplePublicKeyProvider applePublicKeyProvider;
     private final JwtUtil jwtUtil;
     @Value("${oauth2.apple.client-id}")
     private String clientId;
@@ -64,15 +60,9 @@ public class AppleOAuth2LoginStrategy implements OAuth2MemberStrategy {
             log.error("[{}] error: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), e.getMessage());
             throw new CustomException(StatusCode.OAUTH2_LOGIN_FAILURE);
         }
-        // 공개키를 생성한다
-        PublicKey publicKey = null;
-        try {
-            log.debug("[{}] 공개 키 생성", Thread.currentThread().getStackTrace()[1].getMethodName());
-            publicKey = applePublicKeyGenerator.generatePublicKey(headers, getAppleAuthPublicKey());
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            log.error("[{}] error: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), e.getMessage());
-            throw new CustomException(StatusCode.OAUTH2_LOGIN_FAILURE);
-        }
+        // 캐시된 공개키 중 헤더의 kid, alg와 같은 키를 가져온다
+        log.debug("[{}] 공개 키 조회", Thread.currentThread().getStackTrace()[1].getMethodName());
+        PublicKey publicKey = applePublicKeyProvider.getPublicKey(headers.get("kid"), headers.get("alg"));
         // 토큰의 signature를 검사하고 Claim 을 반환받는다.
         log.debug("[{}] 애플 토큰 검증 및 claim 생성", Thread.currentThread().getStackTrace()[1].getMethodName());
         Claims tokenClaims = jwtUtil.getTokenClaims(identityToken, publicKey);
@@ -89,16 +79,4 @@ public class AppleOAuth2LoginStrategy implements OAuth2MemberStrategy {
 
         return tokenClaims.getSubject();
     }
-
-    //애플에 직접 요청해서 PK 받아오기 -> 3개의 PK가 리턴
-    private ApplePublicKeyResponse getAppleAuthPublicKey() {
-        return WebClient.create(pkHost).get()
-                .uri(uribuilder -> uribuilder
-                        .scheme("https")
-                        .path("/auth/keys")
-                        .build(true))
-                .retrieve()
-                .bodyToMono(ApplePublicKeyResponse.class)
-                .block();
-    }
 }
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.junior.config.SecurityConfig;
 import com.junior.security.JwtUtil;
 import com.junior.security.exceptionhandler.CustomAuthenticationEntryPoint;
+import com.junior.service.security.MemberPrincipalCache;
 import com.junior.service.security.UserDetailsServiceImpl;
 import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -23,12 +25,18 @@ public class BaseControllerTest {
     @MockBean
     protected RedisUtil redisUtil;
 
+    @MockBean
+    protected RefreshTokenStore refreshTokenStore;
+
     @MockBean
     protected JwtUtil jwtUtil;
 
     @MockBean
     protected UserDetailsServiceImpl userDetailsService;
 
+    @MockBean
+    protected MemberPrincipalCache memberPrincipalCache;
+
     @MockBean
     protected CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
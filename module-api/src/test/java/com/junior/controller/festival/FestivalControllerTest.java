@@ -7,6 +7,7 @@ import com.junior.page.PageCustom;
 import com.junior.security.WithMockCustomAdmin;
 import com.junior.security.WithMockCustomUser;
 import com.junior.service.festival.FestivalService;
+import com.junior.service.map.PublicMapClusterService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -36,6 +37,9 @@ class FestivalControllerTest extends BaseControllerTest {
     @MockBean
     public FestivalService festivalService;
 
+    @MockBean
+    public PublicMapClusterService publicMapClusterService;
+
     @Test
     @DisplayName("축제 저장 - 응답이 정상적으로 반환되어야 함")
     @WithMockCustomAdmin
@@ -12,6 +12,7 @@ import com.junior.repository.member.MemberRepository;
 import com.junior.security.JwtUtil;
 import com.junior.security.WithMockCustomUser;
 import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ClaimsBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +52,9 @@ public class OAuth2IntegrationTest extends BaseIntegrationTest {
     @MockBean
     private RedisUtil redisUtil;
 
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -112,7 +116,7 @@ public class OAuth2IntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.nickname").value(""))
                 .andExpect(jsonPath("$.data.isActivate").value(false));
 
-        verify(redisUtil).setDataExpire(anyString(), anyString(), anyLong());
+        verify(refreshTokenStore).save(anyLong(), any(), eq(sampleRefresh));
 
     }
 
@@ -172,7 +176,7 @@ public class OAuth2IntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.nickname").value("테스트사용자닉네임"))
                 .andExpect(jsonPath("$.data.isActivate").value(true));
 
-        verify(redisUtil).setDataExpire(anyString(), anyString(), anyLong());
+        verify(refreshTokenStore).save(anyLong(), any(), eq(sampleRefresh));
 
     }
 
@@ -0,0 +1,102 @@
+package com.junior.integration.story;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.story.Story;
+import com.junior.dto.story.ResponseStoryDto;
+import com.junior.integration.BaseIntegrationTest;
+import com.junior.repository.member.MemberRepository;
+import com.junior.repository.story.StoryRepository;
+import com.junior.security.UserPrincipal;
+import com.junior.service.story.MemberStoryService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class StoryDetailIntegrationTest extends BaseIntegrationTest {
+
+    // 캐시가 없을 때: 스토리 상세 2번 + 좋아요 여부 1번
+    private static final long MISS_QUERY_BUDGET = 3;
+    // 캐시가 있을 때: 좋아요 여부 1번
+    private static final long HIT_QUERY_BUDGET = 1;
+
+    @Autowired
+    private MemberStoryService memberStoryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+    private Member author;
+    private Story story;
+
+    @BeforeEach
+    void init() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        author = memberRepository.save(createActiveTestMember());
+        story = storyRepository.save(createStory(author));
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("스토리 상세 조회 - 정해진 쿼리 수 이내로 조회되어야 함")
+    void findOneStory_queryCount() {
+
+        //given
+        UserPrincipal principal = new UserPrincipal(author);
+
+        //when
+        ResponseStoryDto first = memberStoryService.findOneStory(principal, story.getId());
+        long missQueryCnt = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        ResponseStoryDto second = memberStoryService.findOneStory(principal, story.getId());
+        long hitQueryCnt = statistics.getPrepareStatementCount();
+
+        //then
+        assertThat(missQueryCnt).isLessThanOrEqualTo(MISS_QUERY_BUDGET);
+        assertThat(hitQueryCnt).isLessThanOrEqualTo(HIT_QUERY_BUDGET);
+
+        assertThat(first.isAuthor()).isTrue();
+        assertThat(first.imgUrls()).hasSize(3);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("스토리 상세 조회 - 비회원은 캐시된 스토리를 쿼리 없이 조회해야 함")
+    void findOneStory_anonymous() {
+
+        //given
+        memberStoryService.findOneStory(null, story.getId());
+        statistics.clear();
+
+        //when
+        ResponseStoryDto result = memberStoryService.findOneStory(null, story.getId());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(result.isAuthor()).isFalse();
+        assertThat(result.isLikeStory()).isFalse();
+    }
+}
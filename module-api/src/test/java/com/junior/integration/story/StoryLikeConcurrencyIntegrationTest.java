@@ -0,0 +1,144 @@
+package com.junior.integration.story;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.member.MemberRole;
+import com.junior.domain.member.MemberStatus;
+import com.junior.domain.member.SignUpType;
+import com.junior.domain.story.Story;
+import com.junior.integration.BaseIntegrationTest;
+import com.junior.repository.member.MemberRepository;
+import com.junior.repository.notification.NotificationRepository;
+import com.junior.repository.story.LikeRepository;
+import com.junior.repository.story.StoryRepository;
+import com.junior.security.UserPrincipal;
+import com.junior.service.story.MemberStoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션을 사용하지 않음
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class StoryLikeConcurrencyIntegrationTest extends BaseIntegrationTest {
+
+    private static final int MEMBER_CNT = 1000;
+    private static final int THREAD_CNT = 16;
+
+    @Autowired
+    private MemberStoryService memberStoryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private Story story;
+    private List<Member> members;
+
+    @BeforeEach
+    void init() {
+        Member author = memberRepository.save(createActiveTestMember());
+        story = storyRepository.save(createStory(author));
+
+        members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_CNT; i++) {
+            members.add(Member.builder()
+                    .nickname("좋아요닉네임" + i)
+                    .username("좋아요유저네임" + i)
+                    .role(MemberRole.USER)
+                    .signUpType(SignUpType.KAKAO)
+                    .profileImage("s3.com/testProfile")
+                    .recommendLocation("서울")
+                    .status(MemberStatus.ACTIVE)
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+    }
+
+    @AfterEach
+    void clear() {
+        likeRepository.deleteAllInBatch();
+        notificationRepository.deleteAllInBatch();
+        storyRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("스토리 좋아요 동시 요청 - 중복 요청이 섞여도 좋아요 수가 정확해야 함")
+    void like_concurrently() throws Exception {
+
+        //given
+        List<Member> requests = new ArrayList<>(members);
+        requests.addAll(members);
+
+        //when
+        runConcurrently(requests, member -> memberStoryService.like(new UserPrincipal(member), story.getId()));
+
+        //then
+        assertThat(storyRepository.findById(story.getId()).get().getLikeCnt()).isEqualTo(MEMBER_CNT);
+        assertThat(likeRepository.count()).isEqualTo(MEMBER_CNT);
+    }
+
+    @Test
+    @DisplayName("스토리 좋아요 취소 동시 요청 - 중복 요청이 섞여도 좋아요 수가 정확해야 함")
+    void unlike_concurrently() throws Exception {
+
+        //given
+        runConcurrently(members, member -> memberStoryService.like(new UserPrincipal(member), story.getId()));
+
+        List<Member> requests = new ArrayList<>(members.subList(0, MEMBER_CNT / 2));
+        requests.addAll(members.subList(0, MEMBER_CNT / 2));
+
+        //when
+        runConcurrently(requests, member -> memberStoryService.unlike(new UserPrincipal(member), story.getId()));
+
+        //then
+        assertThat(storyRepository.findById(story.getId()).get().getLikeCnt()).isEqualTo(MEMBER_CNT - MEMBER_CNT / 2);
+        assertThat(likeRepository.count()).isEqualTo(MEMBER_CNT - MEMBER_CNT / 2);
+    }
+
+    private void runConcurrently(List<Member> requests, Consumer<Member> task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_CNT);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Member member : requests) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    task.accept(member);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            // 요청 중 예외가 발생하면 테스트 실패
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
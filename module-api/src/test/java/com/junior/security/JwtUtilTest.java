@@ -0,0 +1,94 @@
+package com.junior.security;
+
+import com.junior.dto.jwt.LoginCreateJwtDto;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-test-0123456789";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(SECRET, 100, meterRegistry);
+    }
+
+    private String createAccessToken(LocalDateTime requestTime) {
+        return jwtUtil.createJwt(LoginCreateJwtDto.builder()
+                .id(1L)
+                .username("username")
+                .role("USER")
+                .requestTimeMs(requestTime)
+                .build(), "access");
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("jwt.verify.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("JWT 검증 - claim 을 반환하고, 같은 토큰은 서명을 다시 검증하지 않아야 함")
+    void verify() {
+
+        //given
+        String token = createAccessToken(LocalDateTime.now());
+
+        //when
+        JwtClaims first = jwtUtil.verify(token);
+        JwtClaims second = jwtUtil.verify(token);
+
+        //then
+        assertThat(first.id()).isEqualTo(1L);
+        assertThat(first.username()).isEqualTo("username");
+        assertThat(first.role()).isEqualTo("USER");
+        assertThat(first.category()).isEqualTo("access");
+        assertThat(second).isSameAs(first);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+        assertThat(cacheCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JWT 검증 - 만료된 토큰은 ExpiredJwtException 이 발생해야 함")
+    void verify_expired() {
+
+        //given
+        String token = createAccessToken(LocalDateTime.now().minusHours(2));
+
+        //when, then
+        assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("JWT 검증 - 다른 키로 서명한 토큰은 캐시된 토큰과 payload 가 같아도 예외가 발생해야 함")
+    void verify_invalidSignature() {
+
+        //given
+        String token = createAccessToken(LocalDateTime.now());
+        jwtUtil.verify(token);
+
+        String forged = new JwtUtil("other-secret-key-for-jwt-util-test-0123456789", 100, new SimpleMeterRegistry())
+                .createJwt(LoginCreateJwtDto.builder()
+                        .id(1L)
+                        .username("username")
+                        .role("USER")
+                        .requestTimeMs(LocalDateTime.now())
+                        .build(), "access");
+
+        //when, then
+        assertThatThrownBy(() -> jwtUtil.verify(forged)).isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package com.junior.security.filter;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.member.MemberRole;
+import com.junior.domain.member.MemberStatus;
+import com.junior.domain.member.SignUpType;
+import com.junior.dto.jwt.LoginCreateJwtDto;
+import com.junior.security.JwtUtil;
+import com.junior.security.UserPrincipal;
+import com.junior.service.security.MemberPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * JWT 인증 필터 체인(JwtValidExceptionHandlerFilter -> JWTFilter) 벤치마크
+ * 검증된 토큰 캐시를 끈 경우와 켠 경우의 요청당 소요 시간 비교
+ * 실행: ./gradlew :module-api:test --tests "*JwtFilterBenchmarkTest" -Dbenchmark=true -Dbenchmark.requests=200000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtFilterBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-filter-0123456789";
+    private static final int WARMUP = 20_000;
+
+    @Test
+    void filterChain() throws Exception {
+        int requestCnt = Integer.getInteger("benchmark.requests", 200_000);
+
+        MemberPrincipalCache memberPrincipalCache = mock(MemberPrincipalCache.class);
+        given(memberPrincipalCache.getPrincipal(anyLong(), anyString())).willReturn(new UserPrincipal(createMember()));
+
+        double uncachedMicros = measure(new JwtUtil(SECRET, 0, new SimpleMeterRegistry()), memberPrincipalCache, requestCnt);
+        double cachedMicros = measure(new JwtUtil(SECRET, 10_000, new SimpleMeterRegistry()), memberPrincipalCache, requestCnt);
+
+        log.info("[{}] requests: {}, uncached: {} us/op, cached: {} us/op", Thread.currentThread().getStackTrace()[1].getMethodName(),
+                requestCnt, String.format("%.2f", uncachedMicros), String.format("%.2f", cachedMicros));
+
+        assertThat(cachedMicros).isLessThan(uncachedMicros);
+    }
+
+    private double measure(JwtUtil jwtUtil, MemberPrincipalCache memberPrincipalCache, int requestCnt) throws Exception {
+
+        JwtValidExceptionHandlerFilter validFilter = new JwtValidExceptionHandlerFilter(jwtUtil);
+        JWTFilter jwtFilter = new JWTFilter(jwtUtil, memberPrincipalCache);
+
+        String accessToken = jwtUtil.createJwt(LoginCreateJwtDto.builder()
+                .id(1L)
+                .username("username")
+                .role("USER")
+                .requestTimeMs(LocalDateTime.now())
+                .build(), "access");
+
+        for (int i = 0; i < WARMUP; i++) {
+            doFilter(validFilter, jwtFilter, accessToken);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requestCnt; i++) {
+            doFilter(validFilter, jwtFilter, accessToken);
+        }
+
+        return (System.nanoTime() - start) / 1000.0 / requestCnt;
+    }
+
+    private void doFilter(JwtValidExceptionHandlerFilter validFilter, JWTFilter jwtFilter, String accessToken) throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/notification");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FilterChain chain = (req, res) -> jwtFilter.doFilter(req, res, (r, s) -> {
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                throw new IllegalStateException("인증되지 않은 요청");
+            }
+        });
+        validFilter.doFilter(request, response, chain);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .id(1L)
+                .nickname("닉네임")
+                .username("username")
+                .role(MemberRole.USER)
+                .signUpType(SignUpType.KAKAO)
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+}
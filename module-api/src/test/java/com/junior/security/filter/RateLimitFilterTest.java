@@ -0,0 +1,130 @@
+package com.junior.security.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junior.config.RateLimitProperties;
+import com.junior.exception.StatusCode;
+import com.junior.security.JwtClaims;
+import com.junior.service.ratelimit.RateLimiter;
+import com.junior.util.RedisTokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    private static final RateLimitProperties.Policy POLICY =
+            new RateLimitProperties.Policy("festivals", "/api/v1/festivals/**", "GET", 10, 5);
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void init() {
+        rateLimitFilter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - 제한을 넘은 요청은 429와 Retry-After 로 응답하고 다음 필터로 넘기지 않아야 함")
+    void throttle() throws Exception {
+
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/festivals/10");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        given(rateLimiter.findPolicy("GET", "/api/v1/festivals/10")).willReturn(POLICY);
+        given(rateLimiter.tryAcquire(POLICY, "ip:10.0.0.1")).willReturn(1500L);
+
+        //when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains(StatusCode.TOO_MANY_REQUESTS.getCustomCode());
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - 인증된 요청은 회원 id 로 구분하고, 허용된 요청은 다음 필터로 넘겨야 함")
+    void allowAuthenticatedRequest() throws Exception {
+
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/festivals/10");
+        request.setAttribute(JwtClaims.ATTRIBUTE, new JwtClaims(2L, "username", "USER", "access", Long.MAX_VALUE, null));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        given(rateLimiter.findPolicy("GET", "/api/v1/festivals/10")).willReturn(POLICY);
+        given(rateLimiter.tryAcquire(POLICY, "m:2")).willReturn(0L);
+
+        //when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - 정책이 없는 경로는 제한하지 않아야 함")
+    void skipWithoutPolicy() throws Exception {
+
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stories/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        //then
+        verify(filterChain).doFilter(request, response);
+        verify(rateLimiter, never()).tryAcquire(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - POST 로 요청하는 팝업 지도 조회도 정책이 적용되어야 함")
+    void throttlePopUpMap() throws Exception {
+
+        //given
+        RateLimitProperties.Policy popUpMap = new RateLimitProperties.Policy("pop-up-map", "/api/v1/pop-up-events/map/**", "POST", 1, 1);
+        RateLimiter popUpMapRateLimiter = new RateLimiter(new RateLimitProperties(true, false, 100, List.of(popUpMap)),
+                mock(RedisTokenBucket.class), Clock.systemUTC(), new SimpleMeterRegistry());
+        RateLimitFilter popUpMapFilter = new RateLimitFilter(popUpMapRateLimiter, new ObjectMapper());
+
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/api/v1/pop-up-events/map");
+        MockHttpServletRequest second = new MockHttpServletRequest("POST", "/api/v1/pop-up-events/map");
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+
+        //when
+        popUpMapFilter.doFilter(first, firstResponse, filterChain);
+        popUpMapFilter.doFilter(second, secondResponse, filterChain);
+
+        //then
+        assertThat(firstResponse.getStatus()).isEqualTo(200);
+        assertThat(secondResponse.getStatus()).isEqualTo(429);
+        assertThat(secondResponse.getHeader("Retry-After")).isEqualTo("1");
+        verify(filterChain).doFilter(first, firstResponse);
+        verify(filterChain, never()).doFilter(second, secondResponse);
+    }
+}
@@ -0,0 +1,177 @@
+package com.junior.security.generator;
+
+import com.junior.dto.oauth2.ApplePublicKey;
+import com.junior.dto.oauth2.ApplePublicKeyResponse;
+import com.junior.exception.JwtErrorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApplePublicKeyProviderTest {
+
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 10000;
+
+    private MutableClock clock;
+
+    private StubApplePublicKeyProvider applePublicKeyProvider;
+
+    @BeforeEach
+    void init() {
+        clock = new MutableClock();
+        applePublicKeyProvider = new StubApplePublicKeyProvider(clock);
+    }
+
+    private static ApplePublicKey createKey(String kid) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        RSAPublicKey publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return new ApplePublicKey("RSA", kid, "RS256",
+                encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                encoder.encodeToString(publicKey.getPublicExponent().toByteArray()));
+    }
+
+    @Test
+    @DisplayName("애플 공개 키 조회 - 갱신된 키는 애플에 요청하지 않고 조회해야 함")
+    void getPublicKey() throws Exception {
+
+        //given
+        applePublicKeyProvider.responses.add(new ApplePublicKeyResponse(List.of(createKey("kid1"), createKey("kid2"))));
+        applePublicKeyProvider.refresh();
+
+        //when
+        PublicKey first = applePublicKeyProvider.getPublicKey("kid1", "RS256");
+        PublicKey second = applePublicKeyProvider.getPublicKey("kid1", "RS256");
+
+        //then
+        assertThat(first).isNotNull().isSameAs(second);
+        assertThat(applePublicKeyProvider.fetchCnt).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("애플 공개 키 조회 - 캐시에 없는 kid 면 한 번 갱신한 뒤 조회해야 함")
+    void getPublicKey_unknownKid() throws Exception {
+
+        //given
+        applePublicKeyProvider.responses.add(new ApplePublicKeyResponse(List.of(createKey("kid1"))));
+        applePublicKeyProvider.refresh();
+        applePublicKeyProvider.responses.add(new ApplePublicKeyResponse(List.of(createKey("kid1"), createKey("rotated"))));
+        clock.advance(MIN_REFRESH_INTERVAL_MILLIS);
+
+        //when
+        PublicKey publicKey = applePublicKeyProvider.getPublicKey("rotated", "RS256");
+
+        //then
+        assertThat(publicKey).isNotNull();
+        assertThat(applePublicKeyProvider.fetchCnt).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("애플 공개 키 조회 - 최근에 갱신했으면 알 수 없는 kid 로 다시 갱신하지 않고 예외가 발생해야 함")
+    void getPublicKey_unknownKidRecentlyRefreshed() throws Exception {
+
+        //given
+        applePublicKeyProvider.responses.add(new ApplePublicKeyResponse(List.of(createKey("kid1"))));
+        applePublicKeyProvider.refresh();
+
+        //when, then
+        assertThatThrownBy(() -> applePublicKeyProvider.getPublicKey("forged", "RS256"))
+                .isInstanceOf(JwtErrorException.class);
+        assertThat(applePublicKeyProvider.fetchCnt).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("애플 공개 키 조회 - alg 가 다르면 예외가 발생해야 함")
+    void getPublicKey_algMismatch() throws Exception {
+
+        //given
+        applePublicKeyProvider.responses.add(new ApplePublicKeyResponse(List.of(createKey("kid1"))));
+        applePublicKeyProvider.refresh();
+
+        //when, then
+        assertThatThrownBy(() -> applePublicKeyProvider.getPublicKey("kid1", "HS256"))
+                .isInstanceOf(JwtErrorException.class);
+    }
+
+    @Test
+    @DisplayName("애플 공개 키 갱신 - 갱신에 실패하면 기존 키를 유지해야 함")
+    void refresh_failure() throws Exception {
+
+        //given
+        applePublicKeyProvider.responses.add(new ApplePublicKeyResponse(List.of(createKey("kid1"))));
+        applePublicKeyProvider.refresh();
+
+        //when
+        applePublicKeyProvider.refresh();
+
+        //then
+        assertThat(applePublicKeyProvider.getPublicKey("kid1", "RS256")).isNotNull();
+        assertThat(applePublicKeyProvider.fetchCnt).isEqualTo(2);
+    }
+
+    // 애플에 요청하는 대신 준비된 응답을 순서대로 반환, 남은 응답이 없으면 요청 실패로 처리
+    private static class StubApplePublicKeyProvider extends ApplePublicKeyProvider {
+
+        private final Deque<ApplePublicKeyResponse> responses = new ArrayDeque<>();
+        private int fetchCnt;
+
+        private StubApplePublicKeyProvider(Clock clock) {
+            super(WebClient.create(), new ApplePublicKeyGenerator(), clock, new SimpleMeterRegistry(),
+                    "https://appleid.apple.com", MIN_REFRESH_INTERVAL_MILLIS);
+        }
+
+        @Override
+        ApplePublicKeyResponse fetch() {
+            fetchCnt++;
+
+            if (responses.isEmpty()) {
+                throw new IllegalStateException("애플 공개 키 요청 실패");
+            }
+
+            return responses.poll();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        private void advance(long amount) {
+            millis += amount;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -7,11 +7,13 @@ import com.junior.dto.comment.CommentAdminDto;
 import com.junior.page.PageCustom;
 import com.junior.repository.comment.CommentRepository;
 import com.junior.repository.member.MemberRepository;
+import com.junior.repository.story.StoryRepository;
 import com.junior.service.BaseServiceTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +26,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 
 class CommentAdminServiceTest extends BaseServiceTest {
@@ -34,6 +38,12 @@ class CommentAdminServiceTest extends BaseServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private StoryRepository storyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -184,5 +194,80 @@ class CommentAdminServiceTest extends BaseServiceTest {
 
     }
 
+    @Test
+    @DisplayName("관리자용 댓글 삭제 - 답글을 삭제하면 스토리 댓글 수와 부모 댓글의 답글 수가 감소해야 함")
+    public void deleteComment_reply() throws Exception {
+        //given
+        Member member = createActiveTestMember();
+
+        Story story = Story.builder()
+                .id(1L)
+                .title("testStoryTitle")
+                .member(member)
+                .content("testStoryContent")
+                .longitude(1.0)
+                .latitude(1.0)
+                .city("city")
+                .isHidden(false)
+                .thumbnailImg("thumbURL")
+                .build();
+
+        Comment parentComment = Comment.builder()
+                .id(1L)
+                .member(member)
+                .content("parentCommentContent")
+                .story(story)
+                .build();
+
+        Comment childComment = Comment.builder()
+                .id(2L)
+                .member(member)
+                .content("childCommentContent")
+                .story(story)
+                .build();
+        childComment.updateParent(parentComment);
+
+        given(commentRepository.findById(2L)).willReturn(Optional.of(childComment));
+
+        //when
+        commentAdminService.deleteComment(2L);
+        commentAdminService.deleteComment(2L);
+
+        //then
+        assertThat(childComment.getIsDeleted()).isTrue();
+        verify(commentRepository).decreaseReplyCnt(1L);
+        verify(storyRepository).decreaseCommentCnt(1L);
+    }
+
+    @Test
+    @DisplayName("관리자용 댓글 삭제 - 부모 댓글을 삭제하면 답글 수를 변경하지 않아야 함")
+    public void deleteComment_parent() throws Exception {
+        //given
+        Member member = createActiveTestMember();
+
+        Story story = Story.builder()
+                .id(1L)
+                .title("testStoryTitle")
+                .member(member)
+                .content("testStoryContent")
+                .city("city")
+                .build();
+
+        Comment comment = Comment.builder()
+                .id(1L)
+                .member(member)
+                .content("testCommentContent")
+                .story(story)
+                .build();
+
+        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+
+        //when
+        commentAdminService.deleteComment(1L);
+
+        //then
+        verify(storyRepository).decreaseCommentCnt(1L);
+        verify(commentRepository, never()).decreaseReplyCnt(anyLong());
+    }
 
-}
\ No newline at end of file
+}
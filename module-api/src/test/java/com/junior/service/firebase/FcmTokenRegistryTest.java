@@ -0,0 +1,175 @@
+package com.junior.service.firebase;
+
+import com.junior.domain.firebase.FcmNotificationToken;
+import com.junior.event.firebase.FcmTokenChangedEvent;
+import com.junior.repository.firebase.FcmNotificationTokenJdbcRepository;
+import com.junior.repository.firebase.FcmNotificationTokenJdbcRepository.IdleToken;
+import com.junior.repository.firebase.FcmNotificationTokenRepository;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class FcmTokenRegistryTest extends BaseServiceTest {
+
+    @Mock
+    private FcmNotificationTokenRepository fcmNotificationTokenRepository;
+
+    @Mock
+    private FcmNotificationTokenJdbcRepository fcmNotificationTokenJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private Clock clock;
+
+    private FcmTokenRegistry fcmTokenRegistry;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+        fcmTokenRegistry = new FcmTokenRegistry(fcmNotificationTokenRepository, fcmNotificationTokenJdbcRepository, eventPublisher,
+                clock, meterRegistry, 600000, 100, 60);
+    }
+
+    private FcmNotificationToken createToken(String token) {
+        return FcmNotificationToken.builder()
+                .member(createActiveTestMember())
+                .token(token)
+                .build();
+    }
+
+    @Test
+    @DisplayName("토큰 조회 - 캐시된 회원의 토큰은 DB 를 다시 조회하지 않아야 함")
+    void getTokens_cache() {
+
+        //given
+        given(fcmNotificationTokenRepository.findByMemberId(2L)).willReturn(List.of(createToken("token")));
+
+        //when
+        List<String> first = fcmTokenRegistry.getTokens(2L);
+        List<String> second = fcmTokenRegistry.getTokens(2L);
+
+        //then
+        assertThat(first).containsExactly("token");
+        assertThat(second).containsExactly("token");
+        verify(fcmNotificationTokenRepository, times(1)).findByMemberId(2L);
+        assertThat(meterRegistry.get("push.fcm.token.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 조회 - 토큰 변경이 커밋되면 해당 회원의 캐시가 무효화되어야 함")
+    void onTokenChanged() {
+
+        //given
+        given(fcmNotificationTokenRepository.findByMemberId(2L))
+                .willReturn(List.of(createToken("token")))
+                .willReturn(List.of(createToken("token"), createToken("newToken")));
+        fcmTokenRegistry.getTokens(2L);
+
+        //when
+        fcmTokenRegistry.onTokenChanged(new FcmTokenChangedEvent(List.of(2L)));
+
+        //then
+        assertThat(fcmTokenRegistry.getTokens(2L)).containsExactly("token", "newToken");
+    }
+
+    @Test
+    @DisplayName("토큰 등록 - 이미 등록한 토큰이면 사용 시각만 갱신하고 캐시를 무효화하지 않아야 함")
+    void register_touch() {
+
+        //given
+        given(fcmNotificationTokenJdbcRepository.touch(eq(2L), eq("token"), any(LocalDateTime.class))).willReturn(true);
+
+        //when
+        fcmTokenRegistry.register(2L, "token");
+
+        //then
+        verify(fcmNotificationTokenJdbcRepository, never()).upsert(anyLong(), anyString(), any(LocalDateTime.class));
+        verify(eventPublisher, never()).publishEvent(any(FcmTokenChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("토큰 등록 - 다른 회원의 토큰이면 두 회원의 캐시를 모두 무효화해야 함")
+    void register_move() {
+
+        //given
+        given(fcmNotificationTokenJdbcRepository.touch(eq(2L), eq("token"), any(LocalDateTime.class))).willReturn(false);
+        given(fcmNotificationTokenJdbcRepository.upsert(eq(2L), eq("token"), any(LocalDateTime.class))).willReturn(Optional.of(3L));
+
+        //when
+        fcmTokenRegistry.register(2L, "token");
+
+        //then
+        ArgumentCaptor<FcmTokenChangedEvent> captor = ArgumentCaptor.forClass(FcmTokenChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getMemberIds()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("토큰 삭제 - 유효하지 않은 토큰을 한 번에 삭제하고 해당 회원의 캐시를 무효화해야 함")
+    void remove() {
+
+        //when
+        fcmTokenRegistry.remove(Map.of(2L, List.of("token0", "token1")));
+
+        //then
+        verify(fcmNotificationTokenRepository).deleteAllByTokenIn(List.of("token0", "token1"));
+
+        ArgumentCaptor<FcmTokenChangedEvent> captor = ArgumentCaptor.forClass(FcmTokenChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getMemberIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("오래된 토큰 정리 - 기준일 이전 토큰을 나누어 삭제해야 함")
+    void pruneIdleTokens() {
+
+        //given
+        List<IdleToken> fullChunk = new ArrayList<>();
+        for (long i = 0; i < FcmTokenRegistry.PRUNE_CHUNK_SIZE; i++) {
+            fullChunk.add(new IdleToken(i, i % 10));
+        }
+        LocalDateTime before = LocalDateTime.now(clock).minusDays(60);
+
+        given(fcmNotificationTokenJdbcRepository.findIdleTokens(before, FcmTokenRegistry.PRUNE_CHUNK_SIZE))
+                .willReturn(fullChunk)
+                .willReturn(List.of(new IdleToken(5000L, 1L)))
+                .willReturn(Collections.emptyList());
+        given(fcmNotificationTokenJdbcRepository.deleteIdleTokens(anyList(), eq(before)))
+                .willReturn(FcmTokenRegistry.PRUNE_CHUNK_SIZE)
+                .willReturn(1);
+
+        //when
+        int pruned = fcmTokenRegistry.pruneIdleTokens();
+
+        //then
+        assertThat(pruned).isEqualTo(FcmTokenRegistry.PRUNE_CHUNK_SIZE + 1);
+        verify(fcmNotificationTokenJdbcRepository, times(2)).findIdleTokens(before, FcmTokenRegistry.PRUNE_CHUNK_SIZE);
+        verify(eventPublisher, times(2)).publishEvent(any(FcmTokenChangedEvent.class));
+        assertThat(meterRegistry.get("push.fcm.token.pruned").counter().count()).isEqualTo(FcmTokenRegistry.PRUNE_CHUNK_SIZE + 1);
+    }
+}
@@ -0,0 +1,201 @@
+package com.junior.service.firebase.push;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.junior.service.firebase.FcmTokenRegistry;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class FcmPushDispatcherTest extends BaseServiceTest {
+
+    @Mock
+    private FcmTokenRegistry fcmTokenRegistry;
+
+    private StandInFcmSender fcmSender;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private FcmPushDispatcher fcmPushDispatcher;
+
+    @BeforeEach
+    void init() {
+        fcmSender = new StandInFcmSender();
+        meterRegistry = new SimpleMeterRegistry();
+        fcmPushDispatcher = createDispatcher(10000, 3);
+    }
+
+    private FcmPushDispatcher createDispatcher(int queueCapacity, int maxAttempts) {
+        // 재전송 간격 0 -> 실패한 푸시를 다음 전송에 바로 포함
+        return new FcmPushDispatcher(fcmSender, fcmTokenRegistry, meterRegistry, queueCapacity, maxAttempts, 0, 100);
+    }
+
+    private void enqueue(String token) {
+        enqueue(1L, token);
+    }
+
+    private void enqueue(Long memberId, String token) {
+        fcmPushDispatcher.enqueue(memberId, token, Message.builder().setToken(token).build());
+    }
+
+    private double failedCount(String reason) {
+        return meterRegistry.get("push.fcm.failed").tag("reason", reason).counter().count();
+    }
+
+    /**
+     * 로컬 FCM 대체 구현, 지정한 결과를 순서대로 반환하고 지정하지 않으면 성공
+     */
+    static class StandInFcmSender implements FcmSender {
+
+        private final Deque<List<FcmSendResult>> scripted = new ArrayDeque<>();
+        private final List<List<Message>> batches = new ArrayList<>();
+
+        void willReturn(FcmSendResult... results) {
+            scripted.add(List.of(results));
+        }
+
+        @Override
+        public List<FcmSendResult> sendEach(List<Message> messages) {
+            batches.add(messages);
+
+            List<FcmSendResult> results = scripted.poll();
+            return results != null ? results : Collections.nCopies(messages.size(), FcmSendResult.SUCCESS);
+        }
+    }
+
+    @Test
+    @DisplayName("푸시 전송 - 여러 이벤트의 푸시를 최대 500개씩 묶어 전송해야 함")
+    void dispatchAll_batch() {
+
+        //given
+        for (int i = 0; i < 600; i++) {
+            enqueue("token" + i);
+        }
+
+        //when
+        fcmPushDispatcher.dispatchAll();
+
+        //then
+        assertThat(fcmSender.batches).extracting(List::size).containsExactly(500, 100);
+        assertThat(meterRegistry.get("push.fcm.sent").counter().count()).isEqualTo(600);
+        assertThat(meterRegistry.get("push.fcm.latency").timer().count()).isEqualTo(600);
+        assertThat(fcmPushDispatcher.getPendingCnt()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 - 일시적인 오류로 실패한 푸시는 다시 전송해야 함")
+    void dispatch_retry() {
+
+        //given
+        enqueue("token0");
+        enqueue("token1");
+        fcmSender.willReturn(FcmSendResult.SUCCESS, FcmSendResult.RETRY);
+
+        //when
+        fcmPushDispatcher.dispatch();
+        fcmPushDispatcher.dispatch();
+
+        //then
+        assertThat(fcmSender.batches).hasSize(2);
+        assertThat(fcmSender.batches.get(1)).hasSize(1);
+        assertThat(meterRegistry.get("push.fcm.retry").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("push.fcm.sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 - 최대 시도 횟수를 넘으면 더 이상 전송하지 않아야 함")
+    void dispatch_retryExhausted() {
+
+        //given
+        enqueue("token0");
+        fcmSender.willReturn(FcmSendResult.RETRY);
+        fcmSender.willReturn(FcmSendResult.RETRY);
+        fcmSender.willReturn(FcmSendResult.RETRY);
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            fcmPushDispatcher.dispatch();
+        }
+
+        //then
+        assertThat(fcmSender.batches).hasSize(3);
+        assertThat(failedCount("retry_exhausted")).isEqualTo(1);
+        assertThat(fcmPushDispatcher.getPendingCnt()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 - 유효하지 않은 토큰은 배치마다 회원별로 모아 한 번에 삭제해야 함")
+    void dispatch_deadToken() {
+
+        //given
+        enqueue(1L, "token0");
+        enqueue(1L, "token1");
+        enqueue(1L, "token2");
+        enqueue(2L, "token3");
+        fcmSender.willReturn(FcmSendResult.DEAD_TOKEN, FcmSendResult.SUCCESS, FcmSendResult.DEAD_TOKEN, FcmSendResult.DEAD_TOKEN);
+
+        //when
+        fcmPushDispatcher.dispatch();
+
+        //then
+        verify(fcmTokenRegistry).remove(Map.of(1L, List.of("token0", "token2"), 2L, List.of("token3")));
+        assertThat(failedCount("dead_token")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 - 유효하지 않은 토큰이 없으면 토큰을 삭제하지 않아야 함")
+    void dispatch_noDeadToken() {
+
+        //given
+        enqueue("token0");
+        fcmSender.willReturn(FcmSendResult.FAILED);
+
+        //when
+        fcmPushDispatcher.dispatch();
+
+        //then
+        verify(fcmTokenRegistry, never()).remove(anyMap());
+        assertThat(failedCount("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("푸시 전송 - 큐가 가득 차면 푸시를 버려야 함")
+    void enqueue_overflow() {
+
+        //given
+        fcmPushDispatcher = createDispatcher(1, 3);
+
+        //when
+        enqueue("token0");
+        enqueue("token1");
+
+        //then
+        assertThat(fcmPushDispatcher.getPendingCnt()).isEqualTo(1);
+        assertThat(meterRegistry.get("push.fcm.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 결과 - FCM 오류 코드에 따라 재전송/토큰 삭제/실패로 구분해야 함")
+    void fcmSendResult_from() {
+
+        assertThat(FcmSendResult.from(MessagingErrorCode.UNAVAILABLE)).isEqualTo(FcmSendResult.RETRY);
+        assertThat(FcmSendResult.from(MessagingErrorCode.QUOTA_EXCEEDED)).isEqualTo(FcmSendResult.RETRY);
+        assertThat(FcmSendResult.from(MessagingErrorCode.UNREGISTERED)).isEqualTo(FcmSendResult.DEAD_TOKEN);
+        assertThat(FcmSendResult.from(MessagingErrorCode.THIRD_PARTY_AUTH_ERROR)).isEqualTo(FcmSendResult.FAILED);
+    }
+}
@@ -18,6 +18,7 @@ import com.junior.strategy.oauth2.AppleOAuth2LoginStrategy;
 import com.junior.strategy.oauth2.KakaoOAuth2LoginStrategy;
 import com.junior.strategy.oauth2.OAuth2MemberStrategy;
 import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +39,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +53,8 @@ class OAuth2ServiceTest {
     private JwtUtil jwtUtil;
     @Mock
     private RedisUtil redisUtil;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
     @Spy
     private List<OAuth2MemberStrategy> strategyList = new ArrayList<>();
     @Mock
@@ -221,6 +225,28 @@ class OAuth2ServiceTest {
         verify(redisUtil).deleteData(realRefresh);     //해당 메서드가 동작하였는지 검증
     }
 
+    @Test
+    @DisplayName("로그아웃 - 세션 id가 있는 토큰은 해당 세션을 삭제해야 함")
+    void logoutWithSession() {
+
+        //given
+        String refreshToken = "Bearer test_refresh";
+        String realRefresh = refreshToken.split(" ")[1];
+
+        RefreshTokenDto refreshTokenDto = new RefreshTokenDto(refreshToken);
+
+        given(jwtUtil.getCategory(realRefresh)).willReturn("refresh");
+        given(jwtUtil.getSessionId(realRefresh)).willReturn("session");
+        given(jwtUtil.getId(realRefresh)).willReturn(1L);
+
+        //when
+        oAuth2Service.logout(refreshTokenDto);
+
+        //then
+        verify(refreshTokenStore).delete(1L, "session", realRefresh);
+        verify(redisUtil, never()).deleteData(anyString());
+    }
+
     @Test
     @DisplayName("로그아웃 - 유효한 토큰이 아닐 경우(Bearer를 접두어로 붙이지 않음) 관련 예외처리를 해야 함")
     void failToLogoutIfNotPrefixBearer() {
@@ -6,6 +6,7 @@ import com.junior.exception.JwtErrorException;
 import com.junior.exception.StatusCode;
 import com.junior.security.JwtUtil;
 import com.junior.util.RedisUtil;
+import com.junior.util.RefreshTokenStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +31,9 @@ class ReissueServiceTest {
     @Mock
     private RedisUtil redisUtil;
 
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
     @InjectMocks
     private ReissueService reissueService;
 
@@ -44,12 +49,54 @@ class ReissueServiceTest {
         RefreshTokenDto refreshTokenDto = new RefreshTokenDto(oldRefreshToken);
 
 
+        String sampleAccess = "sample_access_token";
+        String sampleRefresh = "sample_refresh_token";
+
+        given(jwtUtil.isExpired(anyString())).willReturn(false);
+        given(jwtUtil.getCategory(anyString())).willReturn("refresh");
+        given(jwtUtil.getSessionId(anyString())).willReturn("session");
+        given(refreshTokenStore.rotate(1L, "session", "testRefresh", sampleRefresh)).willReturn(RefreshTokenStore.RotateResult.ROTATED);
+        given(jwtUtil.createJwt(any(LoginCreateJwtDto.class), eq("access"))).willReturn(sampleAccess);
+        given(jwtUtil.createJwt(any(LoginCreateJwtDto.class), eq("refresh"))).willReturn(sampleRefresh);
+        given(jwtUtil.getId(anyString())).willReturn(1L);
+        given(jwtUtil.getUsername(anyString())).willReturn("username");
+        given(jwtUtil.getRole(anyString())).willReturn("USER");
+
+
+        //when
+        reissueService.reissue(refreshTokenDto, response);
+
+        //then
+
+        verify(refreshTokenStore).rotate(1L, "session", "testRefresh", sampleRefresh);
+        verify(redisUtil, never()).existsByKey(anyString());
+
+        //토큰이 헤더에 정상적으로 들어가야 함
+        assertThat(response.getHeader("Authorization")).isEqualTo("Bearer " + sampleAccess);
+        assertThat(response.getHeader("refresh_token")).isEqualTo("Bearer " + sampleRefresh);
+
+
+    }
+
+    @Test
+    @DisplayName("reissue - 세션 id 없는 이전 형식의 토큰은 삭제 후 새 저장소에 저장해야 함")
+    void reissueLegacyToken() {
+
+        //given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        String oldRefreshToken = "Bearer testRefresh";
+
+        RefreshTokenDto refreshTokenDto = new RefreshTokenDto(oldRefreshToken);
+
+
         String sampleAccess = "sample_access_token";
         String sampleRefresh = "sample_refresh_token";
 
         given(jwtUtil.isExpired(anyString())).willReturn(false);
         given(jwtUtil.getCategory(anyString())).willReturn("refresh");
         given(redisUtil.existsByKey(anyString())).willReturn(true);
+        given(refreshTokenStore.createSessionId()).willReturn("session");
         given(jwtUtil.createJwt(any(LoginCreateJwtDto.class), eq("access"))).willReturn(sampleAccess);
         given(jwtUtil.createJwt(any(LoginCreateJwtDto.class), eq("refresh"))).willReturn(sampleRefresh);
         given(jwtUtil.getId(anyString())).willReturn(1L);
@@ -63,7 +110,7 @@ class ReissueServiceTest {
         //then
 
         verify(redisUtil).deleteData(oldRefreshToken.split(" ")[1]);
-        verify(redisUtil).setDataExpire(sampleRefresh, "username", 15778800);
+        verify(refreshTokenStore).save(1L, "session", sampleRefresh);
 
         //토큰이 헤더에 정상적으로 들어가야 함
         assertThat(response.getHeader("Authorization")).isEqualTo("Bearer " + sampleAccess);
@@ -142,4 +189,58 @@ class ReissueServiceTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("reissue - 로그아웃 등으로 삭제된 세션에 대해 예외 처리를 해야 함")
+    void failToReissueIfSessionNotExist() {
+
+        //given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        RefreshTokenDto refreshTokenDto = new RefreshTokenDto("Bearer testRefresh");
+
+        given(jwtUtil.isExpired(anyString())).willReturn(false);
+        given(jwtUtil.getCategory(anyString())).willReturn("refresh");
+        given(jwtUtil.getId(anyString())).willReturn(1L);
+        given(jwtUtil.getSessionId(anyString())).willReturn("session");
+        given(jwtUtil.createJwt(any(LoginCreateJwtDto.class), eq("refresh"))).willReturn("sample_refresh_token");
+        given(refreshTokenStore.rotate(1L, "session", "testRefresh", "sample_refresh_token")).willReturn(RefreshTokenStore.RotateResult.NOT_FOUND);
+
+
+        //when, then
+        assertThatThrownBy(() -> reissueService.reissue(refreshTokenDto, response))
+                .isInstanceOf(JwtErrorException.class)
+                .extracting("statusCode").isEqualTo(StatusCode.TOKEN_NOT_EXIST);
+
+        assertThat(response.getHeader("Authorization")).isNull();
+
+
+    }
+
+    @Test
+    @DisplayName("reissue - 이미 재발급에 사용된 토큰에 대해 예외 처리를 해야 함")
+    void failToReissueIfTokenReused() {
+
+        //given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        RefreshTokenDto refreshTokenDto = new RefreshTokenDto("Bearer testRefresh");
+
+        given(jwtUtil.isExpired(anyString())).willReturn(false);
+        given(jwtUtil.getCategory(anyString())).willReturn("refresh");
+        given(jwtUtil.getId(anyString())).willReturn(1L);
+        given(jwtUtil.getSessionId(anyString())).willReturn("session");
+        given(jwtUtil.createJwt(any(LoginCreateJwtDto.class), eq("refresh"))).willReturn("sample_refresh_token");
+        given(refreshTokenStore.rotate(1L, "session", "testRefresh", "sample_refresh_token")).willReturn(RefreshTokenStore.RotateResult.REUSED);
+
+
+        //when, then
+        assertThatThrownBy(() -> reissueService.reissue(refreshTokenDto, response))
+                .isInstanceOf(JwtErrorException.class)
+                .extracting("statusCode").isEqualTo(StatusCode.REUSED_REFRESH_TOKEN);
+
+        assertThat(response.getHeader("Authorization")).isNull();
+
+
+    }
+}
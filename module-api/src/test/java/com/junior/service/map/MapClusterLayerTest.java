@@ -0,0 +1,94 @@
+package com.junior.service.map;
+
+import com.junior.dto.map.MapClusterDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapClusterLayerTest {
+
+    @Test
+    @DisplayName("클러스터 조회 - 화면 안의 클러스터만 조회되어야 함")
+    void find() {
+
+        //given
+        MapClusterLayer layer = MapClusterLayer.of(List.of(
+                new MapPoint(1L, 37.5665, 126.9780),
+                new MapPoint(2L, 35.1796, 129.0756)
+        ));
+
+        //when
+        List<MapClusterDto> result = layer.find(37.0, 38.0, 126.0, 128.0, 10);
+
+        //then
+        assertThat(result).extracting(MapClusterDto::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("클러스터 조회 - 확대한 화면 안의 좌표가 최대 마커 수 이하면 개별 마커로 조회되어야 함")
+    void find_maxZoom() {
+
+        //given
+        MapClusterLayer layer = MapClusterLayer.of(List.of(
+                new MapPoint(1L, 37.5665, 126.9780),
+                new MapPoint(2L, 37.5665, 126.9780),
+                new MapPoint(3L, 35.1796, 129.0756)
+        ));
+
+        //when
+        List<MapClusterDto> result = layer.find(37.0, 38.0, 126.0, 128.0, MapGridClusterer.MAX_ZOOM);
+
+        //then
+        assertThat(result).extracting(MapClusterDto::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("클러스터 조회 - 확대한 화면 안의 좌표가 최대 마커 수를 넘으면 클러스터로 조회되어야 함")
+    void find_maxZoom_tooManyMarkers() {
+
+        //given
+        List<MapPoint> points = new ArrayList<>();
+
+        for (long id = 1; id <= MapGridClusterer.MAX_MARKERS + 1; id++) {
+            points.add(new MapPoint(id, 37.5665, 126.9780));
+        }
+
+        MapClusterLayer layer = MapClusterLayer.of(points);
+
+        //when
+        List<MapClusterDto> result = layer.find(37.0, 38.0, 126.0, 128.0, MapGridClusterer.MAX_ZOOM);
+
+        //then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).count()).isEqualTo(points.size());
+    }
+
+    @Test
+    @DisplayName("클러스터 조회 - 화면 전체를 조회하면 모든 좌표가 클러스터에 포함되어야 함")
+    void find_count() {
+
+        //given
+        Random random = new Random(42);
+        List<MapPoint> points = new ArrayList<>();
+
+        for (long id = 1; id <= 10_000; id++) {
+            points.add(new MapPoint(id, 33 + random.nextDouble() * 5, 125 + random.nextDouble() * 5));
+        }
+
+        MapClusterLayer layer = MapClusterLayer.of(points);
+
+        for (int zoom = MapGridClusterer.MIN_ZOOM; zoom <= MapGridClusterer.MAX_CLUSTER_ZOOM; zoom++) {
+
+            //when
+            List<MapClusterDto> result = layer.find(33, 38, 125, 130, zoom);
+
+            //then
+            assertThat(result.stream().mapToLong(MapClusterDto::count).sum()).isEqualTo(points.size());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.junior.service.map;
+
+import com.junior.dto.map.MapClusterDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapGridClustererTest {
+
+    @Test
+    @DisplayName("마커 클러스터링 - 가까운 좌표는 하나의 클러스터로 묶여야 함")
+    void cluster() {
+
+        //given
+        List<MapPoint> points = List.of(
+                new MapPoint(1L, 37.5665, 126.9780),
+                new MapPoint(2L, 37.5670, 126.9790),
+                new MapPoint(3L, 35.1796, 129.0756)
+        );
+
+        //when
+        List<MapClusterDto> result = MapGridClusterer.cluster(points, 7);
+
+        //then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(MapClusterDto::count).containsExactlyInAnyOrder(2L, 1L);
+        assertThat(result).filteredOn(cluster -> cluster.count() == 1L)
+                .extracting(MapClusterDto::id)
+                .containsExactly(3L);
+        assertThat(result).filteredOn(cluster -> cluster.count() == 2L)
+                .extracting(MapClusterDto::id)
+                .containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("마커 클러스터링 - 최대 클러스터 배율보다 확대하면 개별 마커로 조회되어야 함")
+    void cluster_maxZoom() {
+
+        //given
+        List<MapPoint> points = List.of(
+                new MapPoint(1L, 37.5665, 126.9780),
+                new MapPoint(2L, 37.5665, 126.9780)
+        );
+
+        //when
+        List<MapClusterDto> result = MapGridClusterer.cluster(points, MapGridClusterer.MAX_CLUSTER_ZOOM + 1);
+
+        //then
+        assertThat(result).extracting(MapClusterDto::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("마커 클러스터링 - 확대해도 좌표가 최대 마커 수를 넘으면 최대 클러스터 배율로 클러스터링되어야 함")
+    void cluster_maxZoom_tooManyMarkers() {
+
+        //given
+        List<MapPoint> points = new ArrayList<>();
+
+        for (long id = 1; id <= MapGridClusterer.MAX_MARKERS + 1; id++) {
+            points.add(new MapPoint(id, 37.5665, 126.9780));
+        }
+
+        //when
+        List<MapClusterDto> result = MapGridClusterer.cluster(points, MapGridClusterer.MAX_ZOOM);
+
+        //then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).count()).isEqualTo(points.size());
+    }
+
+    @Test
+    @DisplayName("마커 클러스터링 - 범위를 벗어난 배율은 보정되어야 함")
+    void normalizeZoom() {
+        assertThat(MapGridClusterer.normalizeZoom(-1)).isEqualTo(MapGridClusterer.MIN_ZOOM);
+        assertThat(MapGridClusterer.normalizeZoom(30)).isEqualTo(MapGridClusterer.MAX_ZOOM);
+    }
+}
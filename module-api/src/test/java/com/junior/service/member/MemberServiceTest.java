@@ -5,6 +5,7 @@ import com.junior.domain.member.MemberRole;
 import com.junior.domain.member.MemberStatus;
 import com.junior.domain.member.SignUpType;
 import com.junior.dto.member.*;
+import com.junior.event.member.MemberChangedEvent;
 import com.junior.exception.NotValidMemberException;
 import com.junior.exception.StatusCode;
 import com.junior.page.PageCustom;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest extends BaseServiceTest {
@@ -41,6 +44,9 @@ class MemberServiceTest extends BaseServiceTest {
     @Mock
     S3Service s3Service;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     MemberService memberService;
 
@@ -373,6 +379,7 @@ class MemberServiceTest extends BaseServiceTest {
         Member deletedMember = memberRepository.findById(2L).get();
 
         assertThat(deletedMember.getStatus()).isEqualTo(MemberStatus.DELETE);
+        verify(eventPublisher).publishEvent(argThat((MemberChangedEvent event) -> event.getMemberId().equals(2L) && event.isDeleted()));
 
     }
 
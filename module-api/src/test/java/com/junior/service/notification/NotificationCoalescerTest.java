@@ -0,0 +1,199 @@
+package com.junior.service.notification;
+
+import com.junior.domain.notification.NotificationType;
+import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.dto.notification.NotificationPushDto;
+import com.junior.event.comment.CommentFcmEvent;
+import com.junior.event.like.LikeFcmEvent;
+import com.junior.event.notification.NotificationCreateEvent;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class NotificationCoalescerTest extends BaseServiceTest {
+
+    private static final long WINDOW_MILLIS = 30000;
+
+    @Mock
+    private NotificationWriteBuffer notificationWriteBuffer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationCoalescer notificationCoalescer;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationCoalescer = new NotificationCoalescer(notificationWriteBuffer, eventPublisher, clock, meterRegistry, WINDOW_MILLIS, 100);
+    }
+
+    private NotificationCreateEvent createEvent(Long storyId, NotificationType notificationType, String profileImgPath, NotificationPushDto push) {
+        CreateNotificationDto notification = CreateNotificationDto.builder()
+                .memberId(1L)
+                .storyId(storyId)
+                .content("스토리 제목")
+                .profileImgPath(profileImgPath)
+                .notificationType(notificationType)
+                .build();
+
+        return new NotificationCreateEvent(notification, LocalDateTime.of(2025, 1, 1, 0, 0), push);
+    }
+
+    private List<NotificationCreateEvent> captureEnqueued(int times) {
+        ArgumentCaptor<NotificationCreateEvent> captor = ArgumentCaptor.forClass(NotificationCreateEvent.class);
+        verify(notificationWriteBuffer, times(times)).enqueue(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("알림 묶기 - 같은 스토리의 좋아요 알림은 하나의 알림과 하나의 푸시로 묶여야 함")
+    void flush_coalesce() {
+
+        //given
+        given(clock.millis()).willReturn(0L, 1000L, 2000L, WINDOW_MILLIS);
+        notificationCoalescer.collect(createEvent(1L, NotificationType.LIKED, "s3.com/first", new NotificationPushDto("첫 번째", "스토리 제목")));
+        notificationCoalescer.collect(createEvent(1L, NotificationType.LIKED, "s3.com/second", new NotificationPushDto("두 번째", "스토리 제목")));
+        notificationCoalescer.collect(createEvent(1L, NotificationType.LIKED, "s3.com/third", new NotificationPushDto("세 번째", "스토리 제목")));
+
+        //when
+        notificationCoalescer.flush();
+
+        //then
+        CreateNotificationDto notification = captureEnqueued(1).get(0).getNotification();
+        assertThat(notification.actorCnt()).isEqualTo(3L);
+        assertThat(notification.profileImgPath()).isEqualTo("s3.com/third");
+
+        ArgumentCaptor<LikeFcmEvent> pushCaptor = ArgumentCaptor.forClass(LikeFcmEvent.class);
+        verify(eventPublisher).publishEvent(pushCaptor.capture());
+
+        assertThat(pushCaptor.getValue().getLikeCnt()).isEqualTo(3L);
+        assertThat(pushCaptor.getValue().getLikeMemberNickname()).isEqualTo("세 번째");
+        assertThat(pushCaptor.getValue().getStoryAuthorId()).isEqualTo(1L);
+        assertThat(notificationCoalescer.getPendingCnt()).isEqualTo(0);
+        assertThat(meterRegistry.get("notification.coalesce.received").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.coalesce.emitted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림 묶기 - 묶인 알림들의 아웃박스 이벤트 id 를 함께 넘겨야 함")
+    void flush_outboxEventIds() {
+
+        //given
+        given(clock.millis()).willReturn(0L, 0L, WINDOW_MILLIS);
+        CreateNotificationDto notification = createEvent(1L, NotificationType.LIKED, "s3.com/first", null).getNotification();
+        notificationCoalescer.collect(new NotificationCreateEvent(notification, LocalDateTime.of(2025, 1, 1, 0, 0), null, List.of(10L)));
+        notificationCoalescer.collect(new NotificationCreateEvent(notification, LocalDateTime.of(2025, 1, 1, 0, 0), null, List.of(11L)));
+
+        //when
+        notificationCoalescer.flush();
+
+        //then
+        assertThat(captureEnqueued(1).get(0).getOutboxEventIds()).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("알림 묶기 - 묶는 시간이 끝나지 않은 알림은 저장하지 않아야 함")
+    void flush_beforeWindow() {
+
+        //given
+        given(clock.millis()).willReturn(0L, WINDOW_MILLIS - 1);
+        notificationCoalescer.collect(createEvent(1L, NotificationType.LIKED, "s3.com/first", null));
+
+        //when
+        notificationCoalescer.flush();
+
+        //then
+        verify(notificationWriteBuffer, never()).enqueue(any());
+        assertThat(notificationCoalescer.getPendingCnt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림 묶기 - 스토리나 알림 종류가 다르면 따로 저장해야 함")
+    void flush_differentKey() {
+
+        //given
+        given(clock.millis()).willReturn(0L, 0L, 0L, WINDOW_MILLIS);
+        notificationCoalescer.collect(createEvent(1L, NotificationType.LIKED, "s3.com/first", null));
+        notificationCoalescer.collect(createEvent(2L, NotificationType.LIKED, "s3.com/first", null));
+        notificationCoalescer.collect(createEvent(1L, NotificationType.COMMENT, "s3.com/first", new NotificationPushDto("댓글", "스토리 제목")));
+
+        //when
+        notificationCoalescer.flush();
+
+        //then
+        assertThat(captureEnqueued(3)).extracting(event -> event.getNotification().actorCnt()).containsOnly(1L);
+        verify(eventPublisher).publishEvent(any(CommentFcmEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(LikeFcmEvent.class));
+    }
+
+    @Test
+    @DisplayName("알림 묶기 - 푸시를 요청한 알림 수만큼만 푸시에 묶여야 함")
+    void flush_pushCnt() {
+
+        //given
+        given(clock.millis()).willReturn(0L, 0L, WINDOW_MILLIS);
+        notificationCoalescer.collect(createEvent(1L, NotificationType.COMMENT, "s3.com/reply", null));
+        notificationCoalescer.collect(createEvent(1L, NotificationType.COMMENT, "s3.com/comment", new NotificationPushDto("댓글", "스토리 제목")));
+
+        //when
+        notificationCoalescer.flush();
+
+        //then
+        assertThat(captureEnqueued(1).get(0).getNotification().actorCnt()).isEqualTo(2L);
+
+        ArgumentCaptor<CommentFcmEvent> pushCaptor = ArgumentCaptor.forClass(CommentFcmEvent.class);
+        verify(eventPublisher).publishEvent(pushCaptor.capture());
+        assertThat(pushCaptor.getValue().getCommentCnt()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("알림 묶기 - 묶기를 끄면 알림을 바로 저장해야 함")
+    void collect_disabled() {
+
+        //given
+        notificationCoalescer = new NotificationCoalescer(notificationWriteBuffer, eventPublisher, clock, meterRegistry, 0, 100);
+
+        //when
+        notificationCoalescer.collect(createEvent(1L, NotificationType.LIKED, "s3.com/first", null));
+
+        //then
+        assertThat(captureEnqueued(1).get(0).getNotification().actorCnt()).isEqualTo(1L);
+        assertThat(notificationCoalescer.getPendingCnt()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("알림 묶기 - 종료 시 묶는 시간과 관계없이 남은 알림을 저장해야 함")
+    void flushOnShutdown() {
+
+        //given
+        given(clock.millis()).willReturn(0L);
+        notificationCoalescer.collect(createEvent(1L, NotificationType.LIKED, "s3.com/first", null));
+
+        //when
+        notificationCoalescer.flushOnShutdown();
+
+        //then
+        captureEnqueued(1);
+        assertThat(notificationCoalescer.getPendingCnt()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.junior.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.junior.domain.notification.NotificationType;
+import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.dto.notification.NotificationPushDto;
+import com.junior.event.notification.NotificationCreateEvent;
+import com.junior.repository.outbox.OutboxEventJdbcRepository;
+import com.junior.repository.outbox.OutboxEventJdbcRepository.OutboxEventRow;
+import com.junior.service.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+class NotificationOutboxTest extends BaseServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    @Mock
+    private NotificationCoalescer notificationCoalescer;
+
+    private NotificationOutbox notificationOutbox;
+
+    @BeforeEach
+    void init() {
+        notificationOutbox = new NotificationOutbox(outboxEventJdbcRepository, notificationCoalescer, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("알림 아웃박스 - 저장한 알림과 푸시 정보가 그대로 NotificationCoalescer 에 전달되어야 함")
+    void appendAndHandle() {
+
+        //given
+        CreateNotificationDto notification = CreateNotificationDto.builder()
+                .memberId(1L)
+                .storyId(3L)
+                .content("스토리 제목")
+                .profileImgPath("s3.com/profile")
+                .notificationType(NotificationType.LIKED)
+                .build();
+        NotificationPushDto push = new NotificationPushDto("닉네임", "스토리 제목");
+
+        notificationOutbox.append(notification, push, NOW);
+
+        ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+        verify(outboxEventJdbcRepository).save(eq(NotificationOutbox.AGGREGATE_TYPE), eq(3L), eq(NotificationOutbox.EVENT_TYPE), payloadCaptor.capture(), eq(NOW));
+
+        //when
+        notificationOutbox.handle(new OutboxEventRow(10L, NotificationOutbox.AGGREGATE_TYPE, 3L, NotificationOutbox.EVENT_TYPE, payloadCaptor.getValue(), NOW));
+
+        //then
+        ArgumentCaptor<NotificationCreateEvent> eventCaptor = ArgumentCaptor.forClass(NotificationCreateEvent.class);
+        verify(notificationCoalescer).collect(eventCaptor.capture());
+
+        NotificationCreateEvent event = eventCaptor.getValue();
+        assertThat(event.getNotification()).isEqualTo(notification);
+        assertThat(event.getPush()).isEqualTo(push);
+        assertThat(event.getCreatedDate()).isEqualTo(NOW);
+        assertThat(event.getOutboxEventIds()).containsExactly(10L);
+    }
+}
@@ -0,0 +1,205 @@
+package com.junior.service.notification;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.notification.Notification;
+import com.junior.domain.notification.NotificationType;
+import com.junior.exception.PermissionException;
+import com.junior.repository.notification.NotificationJdbcRepository;
+import com.junior.repository.notification.NotificationRepository;
+import com.junior.repository.notification.NotificationUnreadCountRepository;
+import com.junior.security.UserPrincipal;
+import com.junior.service.BaseServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NotificationServiceTest extends BaseServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private Clock clock;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private Notification createNotification(Long memberId, boolean isRead) {
+        return Notification.builder()
+                .id(1L)
+                .memberId(memberId)
+                .storyId(1L)
+                .content("알림")
+                .notificationType(NotificationType.LIKED)
+                .isRead(isRead)
+                .build();
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 조회 - 카운터가 없으면 읽지 않은 알림을 세어서 반환해야 함")
+    void getUnreadNotificationCnt() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(notificationUnreadCountRepository.findUnreadCntByMemberId(member.getId())).willReturn(Optional.empty());
+        given(notificationRepository.countUnreadNotification(member.getId())).willReturn(3L);
+
+        //when
+        Long result = notificationService.getUnreadNotificationCnt(new UserPrincipal(member));
+
+        //then
+        assertThat(result).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("알림 읽음 - 읽지 않은 알림을 읽으면 읽지 않은 알림 수가 감소해야 함")
+    void readNotification() {
+
+        //given
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(createNotification(2L, false)));
+        given(notificationRepository.readNotification(1L)).willReturn(1);
+        given(notificationUnreadCountRepository.decreaseUnreadCnt(2L, 1)).willReturn(1);
+
+        //when
+        notificationService.readNotification(1L);
+
+        //then
+        verify(notificationUnreadCountRepository).decreaseUnreadCnt(2L, 1);
+        verify(notificationJdbcRepository, never()).createUnreadCnt(anyLong());
+    }
+
+    @Test
+    @DisplayName("알림 읽음 - 카운터가 없으면 읽음 처리가 반영된 알림 수로 카운터를 생성해야 함")
+    void readNotification_withoutUnreadCnt() {
+
+        //given
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(createNotification(2L, false)));
+        given(notificationRepository.readNotification(1L)).willReturn(1);
+        given(notificationUnreadCountRepository.decreaseUnreadCnt(2L, 1)).willReturn(0);
+        given(notificationJdbcRepository.createUnreadCnt(2L)).willReturn(true);
+
+        //when
+        notificationService.readNotification(1L);
+
+        //then
+        verify(notificationUnreadCountRepository, times(1)).decreaseUnreadCnt(2L, 1);
+    }
+
+    @Test
+    @DisplayName("알림 읽음 - 카운터를 생성하는 사이 다른 요청이 먼저 생성했으면 다시 감소해야 함")
+    void readNotification_unreadCntCreatedConcurrently() {
+
+        //given
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(createNotification(2L, false)));
+        given(notificationRepository.readNotification(1L)).willReturn(1);
+        given(notificationUnreadCountRepository.decreaseUnreadCnt(2L, 1)).willReturn(0, 1);
+        given(notificationJdbcRepository.createUnreadCnt(2L)).willReturn(false);
+
+        //when
+        notificationService.readNotification(1L);
+
+        //then
+        verify(notificationUnreadCountRepository, times(2)).decreaseUnreadCnt(2L, 1);
+    }
+
+    @Test
+    @DisplayName("알림 읽음 - 이미 읽은 알림이면 읽지 않은 알림 수를 변경하지 않아야 함")
+    void readNotification_alreadyRead() {
+
+        //given
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(createNotification(2L, true)));
+        given(notificationRepository.readNotification(1L)).willReturn(0);
+
+        //when
+        notificationService.readNotification(1L);
+
+        //then
+        verify(notificationUnreadCountRepository, never()).decreaseUnreadCnt(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("알림 모두 읽음 - 한 번에 읽음 처리한 수만큼 읽지 않은 알림 수가 감소해야 함")
+    void readAllNotification() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(notificationRepository.readAllNotification(member.getId())).willReturn(3);
+        given(notificationUnreadCountRepository.decreaseUnreadCnt(member.getId(), 3)).willReturn(1);
+
+        //when
+        notificationService.readAllNotification(new UserPrincipal(member));
+
+        //then
+        verify(notificationUnreadCountRepository).decreaseUnreadCnt(member.getId(), 3);
+    }
+
+    @Test
+    @DisplayName("알림 삭제 - 읽지 않은 알림을 삭제하면 읽지 않은 알림 수가 감소해야 함")
+    void deleteNotification() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(createNotification(member.getId(), false)));
+        given(notificationRepository.deleteUnreadNotification(1L)).willReturn(1);
+        given(notificationUnreadCountRepository.decreaseUnreadCnt(member.getId(), 1)).willReturn(1);
+
+        //when
+        notificationService.deleteNotification(new UserPrincipal(member), 1L);
+
+        //then
+        verify(notificationUnreadCountRepository).decreaseUnreadCnt(member.getId(), 1);
+        verify(notificationRepository, never()).deleteNotification(anyLong());
+    }
+
+    @Test
+    @DisplayName("알림 삭제 - 읽은 알림이거나 이미 삭제된 알림이면 읽지 않은 알림 수를 변경하지 않아야 함")
+    void deleteNotification_read() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(createNotification(member.getId(), true)));
+        given(notificationRepository.deleteUnreadNotification(1L)).willReturn(0);
+
+        //when
+        notificationService.deleteNotification(new UserPrincipal(member), 1L);
+
+        //then
+        verify(notificationRepository).deleteNotification(1L);
+        verify(notificationUnreadCountRepository, never()).decreaseUnreadCnt(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("알림 삭제 - 다른 회원의 알림은 삭제할 수 없어야 함")
+    void deleteNotification_notPermission() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(createNotification(3L, false)));
+
+        //when, then
+        assertThatThrownBy(() -> notificationService.deleteNotification(new UserPrincipal(member), 1L))
+                .isExactlyInstanceOf(PermissionException.class);
+        verify(notificationRepository, never()).deleteUnreadNotification(anyLong());
+    }
+}
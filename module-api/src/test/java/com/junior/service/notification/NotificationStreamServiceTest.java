@@ -0,0 +1,116 @@
+package com.junior.service.notification;
+
+import com.junior.domain.notification.NotificationType;
+import com.junior.dto.notification.ResponseNotificationDto;
+import com.junior.event.notification.NotificationStreamEvent;
+import com.junior.repository.notification.NotificationRepository;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class NotificationStreamServiceTest extends BaseServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationStreamService notificationStreamService;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationStreamService = new NotificationStreamService(notificationRepository, meterRegistry, 60000);
+    }
+
+    private ResponseNotificationDto createNotification(Long id) {
+        return ResponseNotificationDto.builder()
+                .id(id)
+                .storyId(1L)
+                .content("알림" + id)
+                .memberId(2L)
+                .isRead(false)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .notificationType(NotificationType.COMMENT)
+                .build();
+    }
+
+    @Test
+    @DisplayName("실시간 알림 연결 - 회원의 연결이 등록되어야 함")
+    void subscribe() {
+
+        //when
+        notificationStreamService.subscribe(2L, null);
+        notificationStreamService.subscribe(2L, null);
+
+        //then
+        assertThat(notificationStreamService.getConnectionCnt()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.stream.members").gauge().value()).isEqualTo(1);
+        verify(notificationRepository, never()).findStreamNotificationsAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("실시간 알림 연결 - 재연결 시 마지막으로 받은 알림 이후 알림을 다시 전송해야 함")
+    void subscribe_replay() {
+
+        //given
+        given(notificationRepository.findStreamNotificationsAfter(2L, 10L, NotificationStreamService.REPLAY_LIMIT))
+                .willReturn(List.of(createNotification(11L), createNotification(12L)));
+
+        //when
+        notificationStreamService.subscribe(2L, "10");
+
+        //then
+        assertThat(meterRegistry.get("notification.stream.sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실시간 알림 연결 - Last-Event-ID 가 숫자가 아니면 최초 연결로 처리해야 함")
+    void subscribe_invalidLastEventId() {
+
+        //when
+        notificationStreamService.subscribe(2L, "invalid");
+
+        //then
+        verify(notificationRepository, never()).findStreamNotificationsAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("실시간 알림 전송 - 연결된 회원에게 알림을 전송해야 함")
+    void onNotificationStream() {
+
+        //given
+        notificationStreamService.subscribe(2L, null);
+        given(notificationRepository.findStreamNotifications(2L, List.of(11L)))
+                .willReturn(List.of(createNotification(11L)));
+
+        //when
+        notificationStreamService.onNotificationStream(new NotificationStreamEvent(2L, List.of(11L)));
+
+        //then
+        assertThat(meterRegistry.get("notification.stream.sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실시간 알림 전송 - 이 서버에 연결되지 않은 회원의 알림은 조회하지 않아야 함")
+    void onNotificationStream_notConnected() {
+
+        //when
+        notificationStreamService.onNotificationStream(new NotificationStreamEvent(3L, List.of(11L)));
+
+        //then
+        verify(notificationRepository, never()).findStreamNotifications(anyLong(), anyCollection());
+    }
+}
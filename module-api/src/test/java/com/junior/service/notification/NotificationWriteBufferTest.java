@@ -0,0 +1,187 @@
+package com.junior.service.notification;
+
+import com.junior.domain.notification.NotificationType;
+import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.event.notification.NotificationBroadcaster;
+import com.junior.event.notification.NotificationCreateEvent;
+import com.junior.repository.notification.NotificationJdbcRepository;
+import com.junior.repository.outbox.OutboxEventJdbcRepository;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class NotificationWriteBufferTest extends BaseServiceTest {
+
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Mock
+    private NotificationBroadcaster notificationBroadcaster;
+
+    @Mock
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationWriteBuffer notificationWriteBuffer;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationWriteBuffer = new NotificationWriteBuffer(notificationJdbcRepository, notificationBroadcaster, outboxEventJdbcRepository, transactionManager, meterRegistry, 3);
+    }
+
+    private NotificationCreateEvent createEvent(String content) {
+        return createEvent(1L, content);
+    }
+
+    private NotificationCreateEvent createEvent(Long memberId, String content) {
+        CreateNotificationDto notification = CreateNotificationDto.builder()
+                .memberId(memberId)
+                .storyId(1L)
+                .content(content)
+                .notificationType(NotificationType.LIKED)
+                .build();
+
+        return new NotificationCreateEvent(notification, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 큐에 쌓인 알림이 순서대로 한 번에 저장되어야 함")
+    void flush() {
+
+        //given
+        NotificationCreateEvent first = createEvent("first");
+        NotificationCreateEvent second = createEvent("second");
+        notificationWriteBuffer.enqueue(first);
+        notificationWriteBuffer.enqueue(second);
+
+        //when
+        notificationWriteBuffer.flush();
+
+        //then
+        ArgumentCaptor<List<NotificationCreateEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationJdbcRepository).saveAll(captor.capture());
+
+        assertThat(captor.getValue()).containsExactly(first, second);
+        assertThat(meterRegistry.get("notification.write.pending").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 저장한 알림의 아웃박스 이벤트가 처리 완료로 기록되어야 함")
+    void flush_markPublished() {
+
+        //given
+        CreateNotificationDto notification = createEvent("coalesced").getNotification();
+        notificationWriteBuffer.enqueue(new NotificationCreateEvent(notification, LocalDateTime.of(2025, 1, 1, 0, 0), null, List.of(1L, 2L)));
+        notificationWriteBuffer.enqueue(new NotificationCreateEvent(notification, LocalDateTime.of(2025, 1, 1, 0, 0), null, List.of(3L)));
+
+        //when
+        notificationWriteBuffer.flush();
+
+        //then
+        verify(outboxEventJdbcRepository).markPublished(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 큐가 가득 차면 요청 스레드에서 바로 저장해야 함")
+    void enqueue_overflow() {
+
+        //given
+        for (int i = 0; i < 3; i++) {
+            notificationWriteBuffer.enqueue(createEvent("queued" + i));
+        }
+        NotificationCreateEvent overflow = createEvent("overflow");
+
+        //when
+        notificationWriteBuffer.enqueue(overflow);
+
+        //then
+        verify(notificationJdbcRepository).saveAll(List.of(overflow));
+        assertThat(notificationWriteBuffer.getPendingCnt()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.write.overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 저장에 실패하면 다음 주기에 같은 순서로 다시 저장해야 함")
+    void flush_retry() {
+
+        //given
+        NotificationCreateEvent first = createEvent("first");
+        NotificationCreateEvent second = createEvent("second");
+        notificationWriteBuffer.enqueue(first);
+        notificationWriteBuffer.enqueue(second);
+
+        willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(List.of())
+                .given(notificationJdbcRepository).saveAll(anyList());
+
+        //when
+        notificationWriteBuffer.flush();
+
+        assertThat(notificationWriteBuffer.getPendingCnt()).isEqualTo(2);
+
+        notificationWriteBuffer.flush();
+
+        //then
+        ArgumentCaptor<List<NotificationCreateEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationJdbcRepository, times(2)).saveAll(captor.capture());
+
+        assertThat(captor.getValue()).containsExactly(first, second);
+        assertThat(notificationWriteBuffer.getPendingCnt()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 저장된 알림 id를 회원별로 묶어 실시간 알림으로 전달해야 함")
+    void flush_broadcast() {
+
+        //given
+        notificationWriteBuffer.enqueue(createEvent(1L, "first"));
+        notificationWriteBuffer.enqueue(createEvent(2L, "second"));
+        notificationWriteBuffer.enqueue(createEvent(1L, "third"));
+
+        given(notificationJdbcRepository.saveAll(anyList())).willReturn(List.of(10L, 11L, 12L));
+
+        //when
+        notificationWriteBuffer.flush();
+
+        //then
+        verify(notificationBroadcaster).broadcast(Map.of(1L, List.of(10L, 12L), 2L, List.of(11L)));
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 저장에 실패하면 실시간 알림을 전달하지 않아야 함")
+    void flush_broadcast_fail() {
+
+        //given
+        notificationWriteBuffer.enqueue(createEvent("first"));
+        willThrow(new QueryTimeoutException("timeout"))
+                .given(notificationJdbcRepository).saveAll(anyList());
+
+        //when
+        notificationWriteBuffer.flush();
+
+        //then
+        verify(notificationBroadcaster, never()).broadcast(anyMap());
+    }
+}
@@ -0,0 +1,142 @@
+package com.junior.service.outbox;
+
+import com.junior.repository.outbox.OutboxEventJdbcRepository;
+import com.junior.repository.outbox.OutboxEventJdbcRepository.OutboxEventRow;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest extends BaseServiceTest {
+
+    private static final String EVENT_TYPE = "TEST_EVENT";
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    @Mock
+    private OutboxEventHandler handler;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(handler.eventType()).willReturn(EVENT_TYPE);
+
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        outboxRelay = new OutboxRelay(outboxEventJdbcRepository, List.of(handler), clock, meterRegistry, BATCH_SIZE, 300000, 10, 7);
+    }
+
+    private OutboxEventRow createRow(Long id, Long aggregateId, String eventType) {
+        return new OutboxEventRow(id, "STORY", aggregateId, eventType, "{}", LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 선점한 이벤트를 저장 순서대로 처리기에 전달해야 함")
+    void relay() {
+
+        //given
+        OutboxEventRow first = createRow(1L, 1L, EVENT_TYPE);
+        OutboxEventRow second = createRow(2L, 2L, EVENT_TYPE);
+        given(outboxEventJdbcRepository.claim(any(), any(), anyInt(), anyInt())).willReturn(List.of(first, second));
+
+        //when
+        int claimed = outboxRelay.relay();
+
+        //then
+        assertThat(claimed).isEqualTo(2);
+        verify(handler).handle(first);
+        verify(handler).handle(second);
+        verify(outboxEventJdbcRepository, never()).release(any(), anyBoolean());
+        assertThat(meterRegistry.get("outbox.relay.relayed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 앞선 이벤트가 실패한 aggregate 의 이벤트는 처리하지 않고 선점을 해제해야 함")
+    void relay_blockedAggregate() {
+
+        //given
+        OutboxEventRow first = createRow(1L, 1L, EVENT_TYPE);
+        OutboxEventRow other = createRow(2L, 2L, EVENT_TYPE);
+        OutboxEventRow third = createRow(3L, 1L, EVENT_TYPE);
+        given(outboxEventJdbcRepository.claim(any(), any(), anyInt(), anyInt())).willReturn(List.of(first, other, third));
+        willAnswer(invocation -> {
+            if (invocation.getArgument(0) == first) {
+                throw new IllegalStateException();
+            }
+            return null;
+        }).given(handler).handle(any());
+
+        //when
+        outboxRelay.relay();
+
+        //then
+        verify(handler).handle(other);
+        verify(handler, never()).handle(third);
+        verify(outboxEventJdbcRepository).release(List.of(1L), false);
+        verify(outboxEventJdbcRepository).release(List.of(3L), true);
+        assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 처리기가 없는 이벤트는 실패로 처리해야 함")
+    void relay_unknownEventType() {
+
+        //given
+        OutboxEventRow unknown = createRow(1L, 1L, "UNKNOWN");
+        given(outboxEventJdbcRepository.claim(any(), any(), anyInt(), anyInt())).willReturn(List.of(unknown));
+
+        //when
+        outboxRelay.relay();
+
+        //then
+        verify(handler, never()).handle(any());
+        verify(outboxEventJdbcRepository).release(List.of(1L), false);
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 같은 종류의 처리기가 둘이면 예외가 발생해야 함")
+    void duplicateHandler() {
+
+        //when, then
+        assertThatThrownBy(() ->
+                        new OutboxRelay(outboxEventJdbcRepository, List.of(handler, handler), Clock.systemDefaultZone(), meterRegistry, BATCH_SIZE, 300000, 10, 7))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("아웃박스 정리 - 삭제된 수가 chunk 크기보다 작아질 때까지 나누어 삭제해야 함")
+    void purge() {
+
+        //given
+        given(outboxEventJdbcRepository.deletePublishedBefore(any(), anyInt())).willReturn(OutboxRelay.PURGE_CHUNK_SIZE, 3);
+
+        //when
+        int purged = outboxRelay.purge();
+
+        //then
+        assertThat(purged).isEqualTo(OutboxRelay.PURGE_CHUNK_SIZE + 3);
+        verify(outboxEventJdbcRepository, times(2)).deletePublishedBefore(LocalDateTime.of(2024, 12, 25, 9, 0), OutboxRelay.PURGE_CHUNK_SIZE);
+    }
+}
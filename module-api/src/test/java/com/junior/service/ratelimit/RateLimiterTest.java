@@ -0,0 +1,202 @@
+package com.junior.service.ratelimit;
+
+import com.junior.config.RateLimitProperties;
+import com.junior.service.BaseServiceTest;
+import com.junior.util.RedisTokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class RateLimiterTest extends BaseServiceTest {
+
+    private static final RateLimitProperties.Policy FESTIVAL_DETAIL =
+            new RateLimitProperties.Policy("festival-detail", "/api/v1/festivals/{festivalId:[0-9]+}", "GET", 2, 1);
+    private static final RateLimitProperties.Policy FESTIVALS =
+            new RateLimitProperties.Policy("festivals", "/api/v1/festivals/**", "GET", 10, 5);
+    private static final RateLimitProperties.Policy NICKNAME_CHECK =
+            new RateLimitProperties.Policy("nickname-check", "/api/v1/members/nicknames/check-valid", null, 2, 1);
+
+    @Mock
+    private RedisTokenBucket redisTokenBucket;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+    }
+
+    private RateLimiter createRateLimiter(boolean enabled, boolean redisEnabled, int maxBuckets) {
+        RateLimitProperties properties = new RateLimitProperties(enabled, redisEnabled, maxBuckets, List.of(FESTIVAL_DETAIL, FESTIVALS, NICKNAME_CHECK));
+        return new RateLimiter(properties, redisTokenBucket, clock, meterRegistry);
+    }
+
+    private double requestCount(String policy, String result) {
+        return meterRegistry.get("ratelimit.requests").tag("policy", policy).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("정책 조회 - 메서드와 경로가 일치하는 첫 번째 정책을 반환해야 함")
+    void findPolicy() {
+
+        //given
+        RateLimiter rateLimiter = createRateLimiter(true, false, 100);
+
+        //when, then
+        assertThat(rateLimiter.findPolicy("GET", "/api/v1/festivals/10")).isEqualTo(FESTIVAL_DETAIL);
+        assertThat(rateLimiter.findPolicy("GET", "/api/v1/festivals/map")).isEqualTo(FESTIVALS);
+        assertThat(rateLimiter.findPolicy("POST", "/api/v1/festivals")).isNull();
+        assertThat(rateLimiter.findPolicy("GET", "/api/v1/members/nicknames/check-valid")).isEqualTo(NICKNAME_CHECK);
+        assertThat(rateLimiter.findPolicy("GET", "/api/v1/stories/1")).isNull();
+    }
+
+    @Test
+    @DisplayName("정책 조회 - 요청 수 제한이 꺼져 있으면 정책을 반환하지 않아야 함")
+    void findPolicyWhenDisabled() {
+
+        //given
+        RateLimiter rateLimiter = createRateLimiter(false, false, 100);
+
+        //when, then
+        assertThat(rateLimiter.findPolicy("GET", "/api/v1/festivals/10")).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - 버킷 크기를 넘은 요청은 다음 토큰까지 남은 시간을 반환하고, 토큰이 채워지면 다시 허용해야 함")
+    void tryAcquire() {
+
+        //given
+        RateLimiter rateLimiter = createRateLimiter(true, false, 100);
+
+        //when, then
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "ip:127.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "ip:127.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "ip:127.0.0.1")).isEqualTo(1000);
+
+        clock.advance(400);
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "ip:127.0.0.1")).isEqualTo(600);
+
+        clock.advance(600);
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "ip:127.0.0.1")).isZero();
+
+        assertThat(requestCount("festival-detail", "allowed")).isEqualTo(3);
+        assertThat(requestCount("festival-detail", "throttled")).isEqualTo(2);
+        verifyNoInteractions(redisTokenBucket);
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - 클라이언트와 정책마다 버킷이 나뉘어야 함")
+    void tryAcquirePerClientAndPolicy() {
+
+        //given
+        RateLimiter rateLimiter = createRateLimiter(true, false, 100);
+        rateLimiter.tryAcquire(NICKNAME_CHECK, "m:1");
+        rateLimiter.tryAcquire(NICKNAME_CHECK, "m:1");
+
+        //when, then
+        assertThat(rateLimiter.tryAcquire(NICKNAME_CHECK, "m:1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(NICKNAME_CHECK, "m:2")).isZero();
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 - Redis 버킷을 사용하고, Redis 장애 시 서버별 버킷으로 제한해야 함")
+    void tryAcquireOnRedis() {
+
+        //given
+        RateLimiter rateLimiter = createRateLimiter(true, true, 100);
+        given(redisTokenBucket.tryAcquire("festival-detail:m:1", 2, 1)).willReturn(500L);
+        given(redisTokenBucket.tryAcquire("festival-detail:m:2", 2, 1)).willThrow(new IllegalStateException("connection refused"));
+
+        //when, then
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:1")).isEqualTo(500);
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:2")).isZero();
+
+        assertThat(requestCount("festival-detail", "throttled")).isEqualTo(1);
+        assertThat(meterRegistry.get("ratelimit.redis.failure").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ratelimit.buckets").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 정리 - 토큰이 모두 채워진 버킷만 정리해야 함")
+    void evictFullBuckets() {
+
+        //given
+        RateLimiter rateLimiter = createRateLimiter(true, false, 100);
+        rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:1");
+        clock.advance(500);
+        rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:2");
+
+        //when
+        clock.advance(500);
+        int evictedCnt = rateLimiter.evictFullBuckets();
+
+        //then
+        assertThat(evictedCnt).isEqualTo(1);
+        assertThat(meterRegistry.get("ratelimit.buckets").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 최대 수 - 오래 사용하지 않은 버킷을 정리하고, 그래도 버킷을 만들 수 없는 클라이언트는 제한하지 않고 집계해야 함")
+    void tryAcquireWhenBucketsFull() {
+
+        //given
+        RateLimiter rateLimiter = createRateLimiter(true, false, 1);
+        rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:1");
+
+        //when
+        clock.advance(100);
+        rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:2");
+
+        //then
+        // m:1 버킷이 정리되고 m:2 버킷 생성
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:2")).isZero();
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:2")).isPositive();
+
+        // 정리 간격 안에서는 새 클라이언트를 제한하지 않고 공용 버킷도 사용하지 않음
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:3")).isZero();
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:3")).isZero();
+        assertThat(rateLimiter.tryAcquire(FESTIVAL_DETAIL, "m:3")).isZero();
+
+        assertThat(meterRegistry.get("ratelimit.overflow").tag("policy", "festival-detail").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("ratelimit.buckets").gauge().value()).isEqualTo(1);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        private void advance(long amount) {
+            millis += amount;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
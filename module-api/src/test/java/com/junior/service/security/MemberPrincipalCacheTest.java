@@ -0,0 +1,153 @@
+package com.junior.service.security;
+
+import com.junior.domain.member.Member;
+import com.junior.event.member.MemberChangeBroadcaster;
+import com.junior.event.member.MemberChangedEvent;
+import com.junior.event.member.MemberEvictEvent;
+import com.junior.repository.member.MemberRepository;
+import com.junior.security.UserPrincipal;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class MemberPrincipalCacheTest extends BaseServiceTest {
+
+    private static final long TTL_MILLIS = 300000;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberChangeBroadcaster memberChangeBroadcaster;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        memberPrincipalCache = new MemberPrincipalCache(memberRepository, memberChangeBroadcaster, clock, meterRegistry, TTL_MILLIS, 100);
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("security.principal.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("인증 회원 조회 - 한 번 조회한 회원은 DB 를 다시 조회하지 않아야 함")
+    void getPrincipal() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(memberRepository.findById(2L)).willReturn(Optional.of(member));
+
+        //when
+        UserPrincipal first = memberPrincipalCache.getPrincipal(2L, member.getUsername());
+        UserPrincipal second = memberPrincipalCache.getPrincipal(2L, member.getUsername());
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getMember()).isEqualTo(member);
+        verify(memberRepository, times(1)).findById(2L);
+        assertThat(cacheCount("hit")).isEqualTo(1);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인증 회원 조회 - 회원 정보가 바뀌면 다시 조회하고 다른 서버에 전달해야 함")
+    void onMemberChanged() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(memberRepository.findById(2L)).willReturn(Optional.of(member));
+        memberPrincipalCache.getPrincipal(2L, member.getUsername());
+
+        //when
+        memberPrincipalCache.onMemberChanged(new MemberChangedEvent(2L));
+        memberPrincipalCache.getPrincipal(2L, member.getUsername());
+
+        //then
+        verify(memberRepository, times(2)).findById(2L);
+        verify(memberChangeBroadcaster).broadcast(2L);
+    }
+
+    @Test
+    @DisplayName("인증 회원 조회 - 다른 서버에서 전달된 변경도 캐시에서 제거해야 함")
+    void onMemberEvicted() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(memberRepository.findById(2L)).willReturn(Optional.of(member));
+        memberPrincipalCache.getPrincipal(2L, member.getUsername());
+
+        //when
+        memberPrincipalCache.onMemberEvicted(new MemberEvictEvent(2L));
+        memberPrincipalCache.getPrincipal(2L, member.getUsername());
+
+        //then
+        verify(memberRepository, times(2)).findById(2L);
+        verify(memberChangeBroadcaster, never()).broadcast(any());
+    }
+
+    @Test
+    @DisplayName("인증 회원 조회 - 탈퇴한 회원은 예외가 발생해야 함")
+    void getPrincipal_deleted() {
+
+        //given
+        Member member = createActiveTestMember();
+        String username = member.getUsername();
+        member.deleteMember();
+        given(memberRepository.findById(2L)).willReturn(Optional.of(member));
+
+        //when, then
+        assertThatThrownBy(() -> memberPrincipalCache.getPrincipal(2L, username))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("인증 회원 조회 - 토큰의 username 과 다른 회원이면 캐시된 회원이어도 예외가 발생해야 함")
+    void getPrincipal_usernameMismatch() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(memberRepository.findById(2L)).willReturn(Optional.of(member));
+        memberPrincipalCache.getPrincipal(2L, member.getUsername());
+
+        //when, then
+        assertThatThrownBy(() -> memberPrincipalCache.getPrincipal(2L, "다른사용자"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("인증 회원 조회 - id 가 없는 토큰은 username 으로 조회해야 함")
+    void getPrincipal_withoutId() {
+
+        //given
+        Member member = createActiveTestMember();
+        given(memberRepository.findByUsername(member.getUsername())).willReturn(Optional.of(member));
+
+        //when
+        UserPrincipal principal = memberPrincipalCache.getPrincipal(null, member.getUsername());
+
+        //then
+        assertThat(principal.getMember()).isEqualTo(member);
+        verify(memberRepository, never()).findById(any());
+    }
+}
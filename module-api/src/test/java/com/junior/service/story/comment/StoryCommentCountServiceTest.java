@@ -0,0 +1,99 @@
+package com.junior.service.story.comment;
+
+import com.junior.repository.story.StoryJdbcRepository;
+import com.junior.repository.story.StoryJdbcRepository.StoryCommentCnt;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class StoryCommentCountServiceTest extends BaseServiceTest {
+
+    @Mock
+    private StoryJdbcRepository storyJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StoryCommentCountService storyCommentCountService;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        storyCommentCountService = new StoryCommentCountService(storyJdbcRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 - 어긋난 스토리만 보정하고 차이를 지표로 남겨야 함")
+    void reconcile() {
+
+        //given
+        List<StoryCommentCnt> chunk = List.of(
+                new StoryCommentCnt(1L, 3, 3),
+                new StoryCommentCnt(2L, 5, 2),
+                new StoryCommentCnt(3L, 0, 1)
+        );
+        List<StoryCommentCnt> drifts = List.of(chunk.get(1), chunk.get(2));
+
+        given(storyJdbcRepository.findCommentCnt(0, 1000)).willReturn(chunk);
+        given(storyJdbcRepository.repairCommentCnt(drifts)).willReturn(2);
+
+        //when
+        int repaired = storyCommentCountService.reconcile();
+
+        //then
+        assertThat(repaired).isEqualTo(2);
+        verify(storyJdbcRepository).repairCommentCnt(drifts);
+        assertThat(meterRegistry.get("story.comment.drift.stories").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("story.comment.drift").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 - 모든 스토리를 story_id 순으로 나누어 비교해야 함")
+    void reconcile_chunk() {
+
+        //given
+        List<StoryCommentCnt> firstChunk = new ArrayList<>();
+        for (long storyId = 1; storyId <= 1000; storyId++) {
+            firstChunk.add(new StoryCommentCnt(storyId, 0, 0));
+        }
+
+        given(storyJdbcRepository.findCommentCnt(0, 1000)).willReturn(firstChunk);
+        given(storyJdbcRepository.findCommentCnt(1000, 1000)).willReturn(List.of(new StoryCommentCnt(1001L, 0, 0)));
+
+        //when
+        int repaired = storyCommentCountService.reconcile();
+
+        //then
+        assertThat(repaired).isEqualTo(0);
+        verify(storyJdbcRepository).findCommentCnt(1000, 1000);
+        verify(storyJdbcRepository, never()).repairCommentCnt(anyList());
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 - 스토리가 없으면 보정하지 않아야 함")
+    void reconcile_empty() {
+
+        //given
+        given(storyJdbcRepository.findCommentCnt(anyLong(), anyInt())).willReturn(List.of());
+
+        //when
+        int repaired = storyCommentCountService.reconcile();
+
+        //then
+        assertThat(repaired).isEqualTo(0);
+        verify(storyJdbcRepository, never()).repairCommentCnt(anyList());
+    }
+}
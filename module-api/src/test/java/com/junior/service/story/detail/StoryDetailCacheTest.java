@@ -0,0 +1,144 @@
+package com.junior.service.story.detail;
+
+import com.junior.dto.story.StoryDetailDto;
+import com.junior.event.story.StoryEngagementEvent;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoryDetailCacheTest extends BaseServiceTest {
+
+    private static final long TTL_MILLIS = 30_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private StoryDetailCache storyDetailCache;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        storyDetailCache = new StoryDetailCache(clock, meterRegistry, TTL_MILLIS, 100);
+    }
+
+    @Test
+    @DisplayName("스토리 상세 캐시 - 같은 스토리의 두 번째 조회는 DB를 조회하지 않아야 함")
+    void get_hit() {
+
+        //given
+        CountingLoader loader = new CountingLoader(1L);
+
+        //when
+        storyDetailCache.get(1L, loader);
+        StoryDetailDto result = storyDetailCache.get(1L, loader);
+
+        //then
+        assertThat(loader.count.get()).isEqualTo(1);
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(meterRegistry.get("story.detail.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("story.detail.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스토리 상세 캐시 - 좋아요 수가 변경되면 해당 스토리만 무효화되어야 함")
+    void onStoryEngagement() {
+
+        //given
+        CountingLoader loader1 = new CountingLoader(1L);
+        CountingLoader loader2 = new CountingLoader(2L);
+
+        storyDetailCache.get(1L, loader1);
+        storyDetailCache.get(2L, loader2);
+
+        //when
+        storyDetailCache.onStoryEngagement(StoryEngagementEvent.like(1L, 1));
+        storyDetailCache.get(1L, loader1);
+        storyDetailCache.get(2L, loader2);
+
+        //then
+        assertThat(loader1.count.get()).isEqualTo(2);
+        assertThat(loader2.count.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스토리 상세 캐시 - 캐시가 가득 차면 가장 먼저 캐시된 상세를 제거하고 새 상세를 캐시해야 함")
+    void get_evictOldest() {
+
+        //given
+        storyDetailCache = new StoryDetailCache(clock, meterRegistry, TTL_MILLIS, 2);
+        CountingLoader loader1 = new CountingLoader(1L);
+        CountingLoader loader2 = new CountingLoader(2L);
+        CountingLoader loader3 = new CountingLoader(3L);
+
+        storyDetailCache.get(1L, loader1);
+        clock.plus(Duration.ofSeconds(1));
+        storyDetailCache.get(2L, loader2);
+        clock.plus(Duration.ofSeconds(1));
+
+        //when
+        storyDetailCache.get(3L, loader3);
+        storyDetailCache.get(3L, loader3);
+        storyDetailCache.get(2L, loader2);
+        storyDetailCache.get(1L, loader1);
+
+        //then
+        assertThat(loader3.count.get()).isEqualTo(1);
+        assertThat(loader2.count.get()).isEqualTo(1);
+        assertThat(loader1.count.get()).isEqualTo(2);
+    }
+
+    private static class CountingLoader implements Supplier<StoryDetailDto> {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final Long storyId;
+
+        CountingLoader(Long storyId) {
+            this.storyId = storyId;
+        }
+
+        @Override
+        public StoryDetailDto get() {
+            count.incrementAndGet();
+            return StoryDetailDto.builder().id(storyId).build();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.junior.service.story.feed;
+
+import com.junior.domain.story.Story;
+import com.junior.dto.story.ResponseStoryListDto;
+import com.junior.event.story.StoryChangedEvent;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoryFeedCacheTest extends BaseServiceTest {
+
+    private static final long TTL_MILLIS = 30_000;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private StoryFeedCache storyFeedCache;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        storyFeedCache = new StoryFeedCache(clock, meterRegistry, TTL_MILLIS, 100);
+    }
+
+    @Test
+    @DisplayName("피드 캐시 - 같은 조건의 두 번째 조회는 DB를 조회하지 않아야 함")
+    void get_hit() {
+
+        //given
+        CountingLoader loader = new CountingLoader(1L);
+
+        //when
+        storyFeedCache.get("서울", pageable, loader);
+        Slice<ResponseStoryListDto> result = storyFeedCache.get("서울", pageable, loader);
+
+        //then
+        assertThat(loader.count.get()).isEqualTo(1);
+        assertThat(result.getContent()).extracting(ResponseStoryListDto::storyId).containsExactly(1L);
+        assertThat(meterRegistry.get("story.feed.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("story.feed.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("피드 캐시 - ttl이 지나면 다시 조회해야 함")
+    void get_expired() {
+
+        //given
+        CountingLoader loader = new CountingLoader(1L);
+        storyFeedCache.get(null, pageable, loader);
+
+        //when
+        clock.plus(Duration.ofMillis(TTL_MILLIS));
+        storyFeedCache.get(null, pageable, loader);
+
+        //then
+        assertThat(loader.count.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("피드 캐시 - 스토리가 변경되면 전체 피드와 같은 도시 피드만 무효화되어야 함")
+    void onStoryChanged() {
+
+        //given
+        CountingLoader allLoader = new CountingLoader(1L);
+        CountingLoader seoulLoader = new CountingLoader(1L);
+        CountingLoader busanLoader = new CountingLoader(2L);
+
+        storyFeedCache.get(null, pageable, allLoader);
+        storyFeedCache.get("서울", pageable, seoulLoader);
+        storyFeedCache.get("부산", pageable, busanLoader);
+
+        //when
+        storyFeedCache.onStoryChanged(new StoryChangedEvent(Story.builder().id(3L).city("서울").build()));
+
+        storyFeedCache.get(null, pageable, allLoader);
+        storyFeedCache.get("서울", pageable, seoulLoader);
+        storyFeedCache.get("부산", pageable, busanLoader);
+
+        //then
+        assertThat(allLoader.count.get()).isEqualTo(2);
+        assertThat(seoulLoader.count.get()).isEqualTo(2);
+        assertThat(busanLoader.count.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("피드 캐시 - 다른 도시로 수정된 스토리가 포함된 피드도 무효화되어야 함")
+    void onStoryChanged_contained() {
+
+        //given
+        CountingLoader busanLoader = new CountingLoader(2L);
+        storyFeedCache.get("부산", pageable, busanLoader);
+
+        //when
+        storyFeedCache.onStoryChanged(new StoryChangedEvent(Story.builder().id(2L).city("서울").build()));
+        storyFeedCache.get("부산", pageable, busanLoader);
+
+        //then
+        assertThat(busanLoader.count.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("피드 캐시 - 조회 도중 무효화되면 조회 결과를 캐시하지 않아야 함")
+    void get_invalidatedWhileLoading() {
+
+        //given
+        AtomicInteger count = new AtomicInteger();
+        Supplier<Slice<ResponseStoryListDto>> loader = () -> {
+            if (count.incrementAndGet() == 1) {
+                storyFeedCache.onStoryChanged(new StoryChangedEvent(Story.builder().id(3L).city("서울").build()));
+            }
+            return new SliceImpl<>(List.of(), pageable, false);
+        };
+
+        //when
+        storyFeedCache.get(null, pageable, loader);
+        storyFeedCache.get(null, pageable, loader);
+
+        //then
+        assertThat(count.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("피드 캐시 - 캐시가 가득 차면 가장 먼저 캐시된 페이지를 제거하고 새 페이지를 캐시해야 함")
+    void get_evictOldest() {
+
+        //given
+        storyFeedCache = new StoryFeedCache(clock, meterRegistry, TTL_MILLIS, 2);
+        CountingLoader seoulLoader = new CountingLoader(1L);
+        CountingLoader busanLoader = new CountingLoader(2L);
+        CountingLoader jejuLoader = new CountingLoader(3L);
+
+        storyFeedCache.get("서울", pageable, seoulLoader);
+        clock.plus(Duration.ofSeconds(1));
+        storyFeedCache.get("부산", pageable, busanLoader);
+        clock.plus(Duration.ofSeconds(1));
+
+        //when
+        storyFeedCache.get("제주", pageable, jejuLoader);
+        storyFeedCache.get("제주", pageable, jejuLoader);
+        storyFeedCache.get("부산", pageable, busanLoader);
+        storyFeedCache.get("서울", pageable, seoulLoader);
+
+        //then
+        assertThat(jejuLoader.count.get()).isEqualTo(1);
+        assertThat(busanLoader.count.get()).isEqualTo(1);
+        assertThat(seoulLoader.count.get()).isEqualTo(2);
+    }
+
+    private class CountingLoader implements Supplier<Slice<ResponseStoryListDto>> {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final Long storyId;
+
+        CountingLoader(Long storyId) {
+            this.storyId = storyId;
+        }
+
+        @Override
+        public Slice<ResponseStoryListDto> get() {
+            count.incrementAndGet();
+            return new SliceImpl<>(List.of(ResponseStoryListDto.builder().storyId(storyId).build()), pageable, false);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.junior.service.story.view;
+
+import com.junior.repository.story.StoryJdbcRepository;
+import com.junior.service.BaseServiceTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+class StoryViewCountServiceTest extends BaseServiceTest {
+
+    @Mock
+    private StoryJdbcRepository storyJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StoryViewCountService storyViewCountService;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+        storyViewCountService = new StoryViewCountService(
+                storyJdbcRepository,
+                new TransactionTemplate(transactionManager),
+                eventPublisher,
+                clock,
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("조회수 반영 - 스토리별로 누적된 조회수가 한 번에 반영되어야 함")
+    void flush() {
+
+        //given
+        storyViewCountService.increaseViewCnt(1L);
+        storyViewCountService.increaseViewCnt(1L);
+        storyViewCountService.increaseViewCnt(2L);
+
+        //when
+        storyViewCountService.flush();
+
+        //then
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storyJdbcRepository).increaseViewCnt(captor.capture());
+
+        assertThat(captor.getValue()).containsExactly(Map.entry(1L, 2L), Map.entry(2L, 1L));
+        assertThat(meterRegistry.get("story.view.pending").gauge().value()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("조회수 반영 - 누적된 조회수가 없으면 DB에 접근하지 않아야 함")
+    void flush_empty() {
+
+        //when
+        storyViewCountService.flush();
+
+        //then
+        verify(storyJdbcRepository, never()).increaseViewCnt(anyMap());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 - 반영에 실패하면 다음 주기에 다시 반영되어야 함")
+    void flush_retry() {
+
+        //given
+        storyViewCountService.increaseViewCnt(1L);
+        willThrow(new QueryTimeoutException("timeout"))
+                .willDoNothing()
+                .given(storyJdbcRepository).increaseViewCnt(anyMap());
+
+        //when
+        storyViewCountService.flush();
+
+        assertThat(meterRegistry.get("story.view.pending").gauge().value()).isEqualTo(1);
+
+        storyViewCountService.increaseViewCnt(1L);
+        storyViewCountService.flush();
+
+        //then
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(storyJdbcRepository, times(2)).increaseViewCnt(captor.capture());
+
+        assertThat(captor.getValue()).containsExactly(Map.entry(1L, 2L));
+    }
+}
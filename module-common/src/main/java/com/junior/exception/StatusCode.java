@@ -54,6 +54,8 @@ public enum StatusCode {
 
     // like 관련 성공 코드
     LIKE_CHANGE_SUCCESS(200, "LIKE-SUCCESS-001", ""),
+    LIKE_CREATE_SUCCESS(200, "LIKE-SUCCESS-002", ""),
+    LIKE_DELETE_SUCCESS(200, "LIKE-SUCCESS-003", ""),
 
     // like 관련 실패 코드
     LIKE_NOT_FOUND(400, "LIKE-ERR-001", "서버 에러가 발생했습니다."),
@@ -112,6 +114,7 @@ public enum StatusCode {
     NOT_ACCESS_TOKEN(401, "JWT-ERR-005", "다시 로그인 해주세요"),
     ACCESS_DENIED(403, "JWT-ERR-006", "권한이 없는 계정입니다."),
     INVALID_TOKEN(401, "JWT-ERR-007", "다시 로그인 해주세요"),
+    REUSED_REFRESH_TOKEN(401, "JWT-ERR-008", "다시 로그인 해주세요"),
 
     // 공지사항 관련 성공 코드
     NOTICE_CREATE_SUCCESS(201, "NOTICE-SUCCESS-001", ""),
@@ -198,6 +201,7 @@ public enum StatusCode {
 
     // 공통 예외
     UNKNOWN_ERROR(500, "UNKNOWN-ERROR-001", "서버 에러가 발생했습니다."),
+    TOO_MANY_REQUESTS(429, "RATE-LIMIT-ERROR-001", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     PERMISSION_ERROR(400, "PERMISSION-ERROR-001", "권한이 없는 계정입니다.");
 
     private final int httpCode;
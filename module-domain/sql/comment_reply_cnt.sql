@@ -0,0 +1,19 @@
+-- 댓글 답글 수 컬럼과 스토리별 부모 댓글 조회 인덱스 추가 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 Comment 의 reply_cnt, idx_comment_story_id_parent_id_comment_id 가 생성되지 않으므로 배포 전에 한 번 실행
+
+-- 1. 답글 수 컬럼 추가
+ALTER TABLE comment ADD COLUMN reply_cnt BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 기존 부모 댓글의 답글 수를 삭제되지 않은 답글 수로 채움
+--    decreaseReplyCnt 는 0 에서 멈추므로 채우지 않으면 기존 댓글의 답글 수가 계속 0 으로 조회됨
+UPDATE comment p
+JOIN (SELECT parent_id, COUNT(*) AS cnt
+      FROM comment
+      WHERE parent_id IS NOT NULL
+        AND is_deleted = false
+      GROUP BY parent_id) r
+  ON r.parent_id = p.comment_id
+SET p.reply_cnt = r.cnt;
+
+-- 3. 스토리별 부모 댓글을 id 순으로 조회하는 인덱스
+CREATE INDEX idx_comment_story_id_parent_id_comment_id ON comment (story_id, parent_id, comment_id);
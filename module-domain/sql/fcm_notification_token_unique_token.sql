@@ -0,0 +1,17 @@
+-- FCM 토큰 유니크 제약과 마지막 사용 시각 인덱스 추가 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 FcmNotificationToken 의 uk_fcm_notification_token_token, idx_fcm_notification_token_last_used_date 가
+-- 생성되지 않으므로 FCM 토큰 upsert 배포 전에 한 번 실행, upsert 는 중복 키 오류로 이미 저장된 토큰을 판단함
+
+-- 1. 같은 토큰이 여러 행에 저장되어 있으면 마지막으로 사용된 행만 남김, 사용 시각이 같으면 나중에 저장된 행을 남김
+DELETE t
+FROM fcm_notification_token t
+JOIN fcm_notification_token kept
+  ON kept.token = t.token
+ AND (COALESCE(kept.last_used_date, '1970-01-01') > COALESCE(t.last_used_date, '1970-01-01')
+  OR (COALESCE(kept.last_used_date, '1970-01-01') = COALESCE(t.last_used_date, '1970-01-01') AND kept.fcm_token_id > t.fcm_token_id));
+
+-- 2. 토큰 유니크 제약 추가, 1 ~ 2 사이에 중복 토큰이 다시 저장되었으면 1 부터 다시 실행
+ALTER TABLE fcm_notification_token ADD CONSTRAINT uk_fcm_notification_token_token UNIQUE (token);
+
+-- 3. 오래 사용하지 않은 토큰 정리용 인덱스
+CREATE INDEX idx_fcm_notification_token_last_used_date ON fcm_notification_token (last_used_date);
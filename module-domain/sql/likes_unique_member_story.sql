@@ -0,0 +1,20 @@
+-- 좋아요 (member_id, story_id) 유니크 제약 추가 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 엔티티의 uk_likes_member_story 가 생성되지 않으므로 PUT/DELETE 좋아요 배포 전에 한 번 실행
+
+-- 1. 같은 회원이 같은 스토리에 중복으로 저장한 좋아요는 가장 먼저 저장된 것만 남김
+DELETE l
+FROM likes l
+JOIN likes kept
+  ON kept.member_id = l.member_id
+ AND kept.story_id = l.story_id
+ AND kept.like_id < l.like_id;
+
+-- 2. 중복 좋아요가 반영되어 있던 스토리 좋아요 수를 실제 좋아요 수로 보정
+UPDATE story s
+LEFT JOIN (SELECT story_id, COUNT(*) AS cnt FROM likes GROUP BY story_id) l
+  ON l.story_id = s.story_id
+SET s.like_cnt = COALESCE(l.cnt, 0)
+WHERE s.like_cnt <> COALESCE(l.cnt, 0);
+
+-- 3. 유니크 제약 추가, 1 ~ 3 사이에 중복 좋아요가 다시 저장되었으면 1 부터 다시 실행
+ALTER TABLE likes ADD CONSTRAINT uk_likes_member_story UNIQUE (member_id, story_id);
@@ -0,0 +1,5 @@
+-- 묶어서 저장된 알림 수 컬럼 추가 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 Notification 의 actor_cnt 가 생성되지 않으므로 알림 묶음 배포 전에 한 번 실행
+-- 기존 알림은 모두 알림 하나가 반응 하나이므로 기본값 1 로 채워짐
+
+ALTER TABLE notification ADD COLUMN actor_cnt BIGINT NOT NULL DEFAULT 1;
@@ -0,0 +1,18 @@
+-- 회원별 읽지 않은 알림 수 테이블 생성 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 NotificationUnreadCount 테이블이 생성되지 않으므로 배포 전에 한 번 실행
+
+CREATE TABLE notification_unread_count
+(
+    member_id  BIGINT NOT NULL,
+    unread_cnt BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id)
+);
+
+-- 기존 알림으로 카운터 생성, 카운터가 없으면 알림 수를 세어서 조회하므로 첫 조회마다 세지 않도록 미리 생성
+-- 배포 후 실행해 이미 생성된 카운터가 있으면 유지
+INSERT IGNORE INTO notification_unread_count (member_id, unread_cnt)
+SELECT member_id, COUNT(*)
+FROM notification
+WHERE is_read = false
+  AND is_deleted = false
+GROUP BY member_id;
@@ -0,0 +1,21 @@
+-- 트랜잭셔널 아웃박스 테이블 생성 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 OutboxEvent 테이블이 생성되지 않으므로 아웃박스 배포 전에 한 번 실행
+-- 알림 저장이 모두 아웃박스를 거치므로 실행하지 않으면 서버가 시작되지 않음
+
+CREATE TABLE outbox_event
+(
+    outbox_event_id BIGINT        NOT NULL AUTO_INCREMENT,
+    aggregate_type  VARCHAR(50)   NOT NULL,
+    aggregate_id    BIGINT        NOT NULL,
+    event_type      VARCHAR(100)  NOT NULL,
+    payload         VARCHAR(4000) NOT NULL,
+    created_date    DATETIME(6)   NOT NULL,
+    published_date  DATETIME(6),
+    attempt_cnt     INT           NOT NULL DEFAULT 0,
+    lock_owner      VARCHAR(36),
+    locked_until    DATETIME(6),
+    PRIMARY KEY (outbox_event_id)
+);
+
+-- 처리되지 않은 이벤트(published_date is null)를 id 순으로 선점하고, 보관 기간이 지난 이벤트를 삭제할 때 사용
+CREATE INDEX idx_outbox_event_published_date_outbox_event_id ON outbox_event (published_date, outbox_event_id);
@@ -0,0 +1,15 @@
+-- 스토리 댓글 수 컬럼 추가 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 Story 의 comment_cnt 가 생성되지 않고 서버가 시작되지 않으므로 배포 전에 한 번 실행
+
+-- 1. 댓글 수 컬럼 추가
+ALTER TABLE story ADD COLUMN comment_cnt BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 기존 스토리의 댓글 수를 삭제되지 않은 댓글 수로 채움
+--    서버 시작 시 StoryCommentCountService 보정으로도 채워지지만, 보정이 끝날 때까지 0 으로 조회되지 않도록 미리 채움
+UPDATE story s
+JOIN (SELECT story_id, COUNT(*) AS cnt
+      FROM comment
+      WHERE is_deleted = false
+      GROUP BY story_id) c
+  ON c.story_id = s.story_id
+SET s.comment_cnt = c.cnt;
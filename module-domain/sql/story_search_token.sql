@@ -0,0 +1,16 @@
+-- 스토리 검색 역색인 테이블 생성 (MySQL)
+-- 운영 DB 는 ddl-auto: validate 라 StorySearchToken 테이블이 생성되지 않으므로 검색 색인 배포 전에 한 번 실행
+-- 기존 스토리 색인은 배포 후 서버 시작 시 색인이 비어 있으면 StorySearchIndexService 가 자동으로 생성
+
+CREATE TABLE story_search_token
+(
+    story_search_token_id BIGINT                   NOT NULL AUTO_INCREMENT,
+    story_id              BIGINT                   NOT NULL,
+    token                 VARCHAR(8)               NOT NULL,
+    field                 ENUM ('TITLE','CONTENT') NOT NULL,
+    PRIMARY KEY (story_search_token_id),
+    CONSTRAINT fk_story_search_token_story_id FOREIGN KEY (story_id) REFERENCES story (story_id)
+);
+
+-- 검색어 토큰으로 스토리를 찾는 인덱스, story_id 까지 포함해 테이블을 읽지 않고 스토리별로 묶음
+CREATE INDEX idx_story_search_token_token_story_id ON story_search_token (token, story_id);
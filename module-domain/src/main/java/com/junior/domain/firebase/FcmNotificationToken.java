@@ -14,6 +14,10 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_fcm_notification_token_token", columnNames = "token"),
+        indexes = @Index(name = "idx_fcm_notification_token_last_used_date", columnList = "last_used_date")
+)
 public class FcmNotificationToken {
 
     @Id
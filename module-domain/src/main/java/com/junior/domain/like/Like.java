@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity(name = "likes")
+// 운영 DB 는 ddl-auto: validate 이므로 module-domain/sql/likes_unique_member_story.sql 로 생성
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_likes_member_story", columnNames = {"member_id", "story_id"}))
 @Builder
 @Getter
 @AllArgsConstructor
@@ -37,6 +37,11 @@ public class Notification extends BaseEntity {
     @Builder.Default
     private Boolean isDeleted = false;
 
+    // 묶어서 저장된 알림 수, 같은 스토리에 대한 좋아요/댓글 알림은 일정 시간 단위로 하나로 저장
+    @Builder.Default
+    @Column(nullable = false)
+    private Long actorCnt = 1L;
+
     public static Notification from(CreateNotificationDto createNotificationDto) {
         return Notification.builder()
                 .content(createNotificationDto.content())
@@ -44,6 +49,7 @@ public class Notification extends BaseEntity {
                 .memberId(createNotificationDto.memberId())
                 .storyId(createNotificationDto.storyId())
                 .notificationType(createNotificationDto.notificationType())
+                .actorCnt(createNotificationDto.actorCnt() != null ? createNotificationDto.actorCnt() : 1L)
                 .build();
     }
 
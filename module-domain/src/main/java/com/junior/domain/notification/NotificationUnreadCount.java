@@ -0,0 +1,24 @@
+package com.junior.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원별 읽지 않은 알림 수
+ * 알림 배지 표시 시 알림을 세지 않도록 알림 저장/읽음/삭제 시 함께 갱신
+ */
+@Entity
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationUnreadCount {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long unreadCnt = 0L;
+}
@@ -0,0 +1,55 @@
+package com.junior.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * 도메인 이벤트를 요청 트랜잭션 안에서 함께 저장하고, OutboxRelay 가 나누어 읽어 처리
+ * 처리가 끝나면 publishedDate 를 기록하고 보관 기간이 지나면 삭제
+ */
+@Entity
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbox_event_published_date_outbox_event_id", columnList = "published_date, outbox_event_id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    // 같은 aggregate 의 이벤트는 저장 순서대로 처리
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    // 이벤트 발생 시점의 값(JSON), 처리 시 엔티티를 다시 조회하지 않음
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    private LocalDateTime publishedDate;
+
+    // 처리를 시도한 횟수, 최대 횟수를 넘으면 더 이상 처리하지 않음
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attemptCnt = 0;
+
+    // 처리 중인 서버와 처리 기한, 기한이 지나면 다른 서버가 다시 처리
+    @Column(length = 36)
+    private String lockOwner;
+
+    private LocalDateTime lockedUntil;
+}
@@ -4,11 +4,14 @@ import com.junior.domain.base.BaseEntity;
 import com.junior.domain.member.Member;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Table(indexes = {@Index(name = "idx_comment_story_id_parent_id_comment_id", columnList = "story_id, parent_id, comment_id")})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -38,6 +41,11 @@ public class Comment extends BaseEntity {
     @Builder.Default
     private Boolean isDeleted = false;
 
+    // 삭제되지 않은 답글 수, CommentRepository 의 increaseReplyCnt / decreaseReplyCnt 로만 변경
+    @Builder.Default
+    @Column(nullable = false)
+    private Long replyCnt = 0L;
+
     @OneToMany(mappedBy = "parent", orphanRemoval = true)
     @Builder.Default
     private List<Comment> child = new ArrayList<>();
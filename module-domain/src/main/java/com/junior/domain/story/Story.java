@@ -5,10 +5,16 @@ import com.junior.domain.member.Member;
 import com.junior.dto.story.CreateStoryDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
+/**
+ * 조회수/좋아요 수/댓글 수는 엔티티 밖의 단일 UPDATE문(view_cnt = view_cnt + ? 등)으로 갱신되므로,
+ * 더티 체킹으로 오래된 카운터 값을 덮어쓰지 않도록 변경된 컬럼만 UPDATE
+ */
 @Entity
+@DynamicUpdate
 @Builder
 @Getter
 @AllArgsConstructor
@@ -47,6 +53,10 @@ public class Story extends BaseEntity {
     // 좋아요 수
     @Builder.Default
     private Long likeCnt = 0L;
+    // 삭제되지 않은 댓글 수
+    @Builder.Default
+    @Column(nullable = false)
+    private Long commentCnt = 0L;
     @ElementCollection
     @CollectionTable(name = "story_images", joinColumns = @JoinColumn(name = "story_id"))
     @Column(name = "image_url")
@@ -69,6 +79,7 @@ public class Story extends BaseEntity {
         this.isDeleted = false;
         this.viewCnt = 0L;
         this.likeCnt = 0L;
+        this.commentCnt = 0L;
     }
 
     public static Story from(Member member, CreateStoryDto createStoryDto) {
@@ -96,19 +107,7 @@ public class Story extends BaseEntity {
         this.imgUrls = createStoryDto.imgUrls();
     }
 
-    public void increaseViewCnt() {
-        this.viewCnt += 1;
-    }
-
     public void deleteStory() {
         this.isDeleted = true;
     }
-
-    public void increaseLikeCnt() {
-        this.likeCnt += 1;
-    }
-
-    public void decreaseLikeCnt() {
-        this.likeCnt -= 1;
-    }
 }
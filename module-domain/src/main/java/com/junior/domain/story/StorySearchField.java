@@ -0,0 +1,6 @@
+package com.junior.domain.story;
+
+public enum StorySearchField {
+    TITLE,
+    CONTENT
+}
@@ -0,0 +1,33 @@
+package com.junior.domain.story;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 스토리 검색용 n-gram 역색인
+ * 제목/본문을 2-gram으로 분리해 저장하고, 검색어의 모든 2-gram을 가진 스토리를 찾음
+ */
+@Entity
+@Table(indexes = {@Index(name = "idx_story_search_token_token_story_id", columnList = "token, story_id")})
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorySearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "story_search_token_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "story_id", nullable = false)
+    private Story story;
+
+    @Column(length = 8, nullable = false)
+    private String token;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private StorySearchField field;
+}
@@ -0,0 +1,16 @@
+package com.junior.dto.comment;
+
+import java.util.List;
+
+/**
+ * 댓글 스레드: 부모 댓글과 앞쪽 답글 묶음
+ * @param replies: 오래된 순으로 정렬된 답글, 다음 답글은 마지막 답글 id 를 cursorId 로 조회
+ * @param hasNextReply: 조회되지 않은 답글이 남아 있는지 여부
+ */
+public record ResponseCommentThreadDto(
+        ResponseParentCommentDto parent,
+        List<ResponseChildCommentDto> replies,
+        boolean hasNextReply
+) {
+
+}
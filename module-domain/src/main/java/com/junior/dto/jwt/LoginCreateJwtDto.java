@@ -9,7 +9,9 @@ public record LoginCreateJwtDto(
         Long id,
         String username,
         String role,
-        LocalDateTime requestTimeMs
+        LocalDateTime requestTimeMs,
+        // 로그인 세션 id, refresh token 에만 담김
+        String sessionId
 
 ) {
     @Builder
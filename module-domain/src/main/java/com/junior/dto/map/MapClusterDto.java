@@ -0,0 +1,16 @@
+package com.junior.dto.map;
+
+import lombok.Builder;
+
+/**
+ * 지도 마커 클러스터
+ * count 가 1이면 개별 마커이며 id 에 해당 데이터의 id 가 담김
+ */
+@Builder
+public record MapClusterDto(
+        Double latitude,
+        Double longitude,
+        Long count,
+        Long id
+) {
+}
@@ -9,7 +9,8 @@ public record CreateNotificationDto(
         String profileImgPath,
         Long memberId,
         Long storyId,
-        NotificationType notificationType
+        NotificationType notificationType,
+        Long actorCnt
 ) {
 
 }
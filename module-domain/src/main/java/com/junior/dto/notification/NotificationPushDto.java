@@ -0,0 +1,12 @@
+package com.junior.dto.notification;
+
+/**
+ * 알림과 함께 보낼 푸시 정보
+ * @param actorNickname: 알림을 발생시킨 회원 닉네임
+ * @param storyTitle: 알림이 발생한 스토리 제목
+ */
+public record NotificationPushDto(
+        String actorNickname,
+        String storyTitle
+) {
+}
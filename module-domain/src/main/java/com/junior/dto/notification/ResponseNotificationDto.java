@@ -14,6 +14,7 @@ public record ResponseNotificationDto(
         Long memberId,
         Boolean isRead,
         LocalDateTime createdAt,
-        NotificationType notificationType
+        NotificationType notificationType,
+        Long actorCnt
 ) {
 }
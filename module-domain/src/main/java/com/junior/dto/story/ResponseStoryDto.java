@@ -58,6 +58,25 @@ public record ResponseStoryDto(
                 .build();
     }
 
+    public static ResponseStoryDto from(StoryDetailDto storyDetail, boolean isLikeStory, boolean isAuthor) {
+        return ResponseStoryDto.builder()
+                .id(storyDetail.id())
+                .title(storyDetail.title())
+                .content(storyDetail.content())
+                .thumbnailImg(storyDetail.thumbnailImg())
+                .latitude(storyDetail.latitude())
+                .longitude(storyDetail.longitude())
+                .city(storyDetail.city())
+                .likeCnt(storyDetail.likeCnt())
+                .isHidden(storyDetail.isHidden())
+                .isLikeStory(isLikeStory)
+                .imgUrls(storyDetail.imgUrls())
+                .createDate(storyDetail.createDate())
+                .isAuthor(isAuthor)
+                .commentCnt(storyDetail.commentCnt())
+                .build();
+    }
+
     public static ResponseStoryDto from(Story story) {
         return ResponseStoryDto.builder()
                 .id(story.getId())
@@ -0,0 +1,23 @@
+package com.junior.dto.story;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * 점수순 목록 조회 결과
+ * 다음 페이지 요청 시 마지막 스토리 id와 함께 nextCursorScore 를 커서로 전달
+ * nextCursorScore 가 null 이면 마지막 스토리 id만 커서로 전달
+ */
+@Getter
+public class ScoreCursorSlice<T> extends SliceImpl<T> {
+
+    private final Double nextCursorScore;
+
+    public ScoreCursorSlice(List<T> content, Pageable pageable, boolean hasNext, Double nextCursorScore) {
+        super(content, pageable, hasNext);
+        this.nextCursorScore = nextCursorScore;
+    }
+}
@@ -0,0 +1,29 @@
+package com.junior.dto.story;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스토리 상세 조회 시 조회자와 관계없는 정보
+ * 좋아요 여부, 작성자 여부는 조회자별로 계산
+ */
+@Builder
+public record StoryDetailDto(
+        Long id,
+        Long authorId,
+        String title,
+        String content,
+        String thumbnailImg,
+        double latitude,
+        double longitude,
+        String city,
+        Long likeCnt,
+        boolean isHidden,
+        boolean isDeleted,
+        LocalDateTime createDate,
+        List<String> imgUrls,
+        Long commentCnt
+) {
+}
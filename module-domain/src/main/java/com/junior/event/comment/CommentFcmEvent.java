@@ -1,14 +1,21 @@
 package com.junior.event.comment;
 
-import com.junior.domain.member.Member;
-import com.junior.domain.story.Comment;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 스토리 댓글 푸시, 같은 스토리에 대한 댓글은 NotificationCoalescer 가 묶어서 한 번만 발행
+ * 비동기로 처리되므로 엔티티 대신 필요한 값만 담음
+ */
 @Getter
 @AllArgsConstructor
 public class CommentFcmEvent {
 
-    private Comment comment;
-    private Member author;
-}
\ No newline at end of file
+    private Long storyAuthorId;
+    private Long storyId;
+    private String storyTitle;
+
+    // 가장 최근에 댓글을 남긴 회원 닉네임
+    private String authorNickname;
+    private long commentCnt;
+}
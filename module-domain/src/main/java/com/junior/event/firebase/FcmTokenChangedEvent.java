@@ -0,0 +1,17 @@
+package com.junior.event.firebase;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 회원의 FCM 토큰 목록이 바뀌었을 때 발행
+ * 커밋 후 해당 회원의 토큰 캐시를 무효화
+ */
+@Getter
+@AllArgsConstructor
+public class FcmTokenChangedEvent {
+
+    private Collection<Long> memberIds;
+}
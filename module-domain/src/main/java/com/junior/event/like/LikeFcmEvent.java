@@ -1,14 +1,21 @@
 package com.junior.event.like;
 
-import com.junior.domain.member.Member;
-import com.junior.domain.story.Story;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 스토리 좋아요 푸시, 같은 스토리에 대한 좋아요는 NotificationCoalescer 가 묶어서 한 번만 발행
+ * 비동기로 처리되므로 엔티티 대신 필요한 값만 담음
+ */
 @Getter
 @AllArgsConstructor
 public class LikeFcmEvent {
 
-    private Member likeMember;
-    private Story likedStory;
+    private Long storyAuthorId;
+    private Long storyId;
+    private String storyTitle;
+
+    // 가장 최근에 좋아요를 누른 회원 닉네임
+    private String likeMemberNickname;
+    private long likeCnt;
 }
@@ -0,0 +1,56 @@
+package com.junior.event.member;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 정보 변경을 Redis pub/sub 으로 모든 서버에 전달
+ * 메시지 형식: memberId
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberChangeBroadcaster implements MessageListener {
+
+    static final String CHANNEL = "member:changed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void broadcast(Long memberId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(memberId));
+        } catch (RuntimeException e) {
+            // 다른 서버의 캐시는 ttl 이 지나면 갱신됨
+            log.error("[{}] 회원 정보 변경 전파 실패 member id: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), memberId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            eventPublisher.publishEvent(new MemberEvictEvent(Long.valueOf(body)));
+        } catch (NumberFormatException e) {
+            log.warn("[{}] 잘못된 회원 정보 변경 메시지: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), body);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.junior.event.member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증 정보(닉네임, 프로필 이미지, 상태, 권한)가 바뀌었을 때 발행
+ * 트랜잭션 커밋 후 인증 회원 캐시를 무효화하고 다른 서버에도 전달
+ */
+@Getter
+@AllArgsConstructor
+public class MemberChangedEvent {
+
+    private Long memberId;
+
+    // 회원 탈퇴 여부, 탈퇴가 커밋되면 모든 기기의 로그인 세션 삭제
+    private boolean deleted;
+
+    public MemberChangedEvent(Long memberId) {
+        this(memberId, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.junior.event.member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다른 서버에서 회원 정보가 바뀌었음을 전달받았을 때 발행
+ * 이 서버의 인증 회원 캐시에서 해당 회원을 제거
+ */
+@Getter
+@AllArgsConstructor
+public class MemberEvictEvent {
+
+    private Long memberId;
+}
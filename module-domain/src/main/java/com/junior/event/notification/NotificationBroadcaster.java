@@ -0,0 +1,101 @@
+package com.junior.event.notification;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장된 알림을 Redis pub/sub 으로 모든 서버에 전달
+ * 메시지에는 (memberId, notificationId) 만 담고, 알림 내용은 회원이 연결된 서버에서 조회
+ * 메시지 형식: memberId:notificationId,notificationId;memberId:notificationId
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBroadcaster implements MessageListener {
+
+    static final String CHANNEL = "notification:stream";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * @param notificationIdsByMemberId: (memberId, 저장된 알림 id 목록)
+     */
+    public void broadcast(Map<Long, List<Long>> notificationIdsByMemberId) {
+
+        if (notificationIdsByMemberId.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, encode(notificationIdsByMemberId));
+        } catch (RuntimeException e) {
+            // Redis 장애 시 최소한 이 서버에 연결된 회원에게는 전달
+            log.error("[{}] 알림 전파 실패, 현재 서버에만 전달 member 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), notificationIdsByMemberId.size(), e);
+            publishLocally(notificationIdsByMemberId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        publishLocally(decode(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void publishLocally(Map<Long, List<Long>> notificationIdsByMemberId) {
+        notificationIdsByMemberId.forEach((memberId, notificationIds) ->
+                eventPublisher.publishEvent(new NotificationStreamEvent(memberId, notificationIds)));
+    }
+
+    static String encode(Map<Long, List<Long>> notificationIdsByMemberId) {
+
+        List<String> members = new ArrayList<>();
+        notificationIdsByMemberId.forEach((memberId, notificationIds) -> {
+            List<String> ids = notificationIds.stream().map(String::valueOf).toList();
+            members.add(memberId + ":" + String.join(",", ids));
+        });
+
+        return String.join(";", members);
+    }
+
+    static Map<Long, List<Long>> decode(String message) {
+
+        Map<Long, List<Long>> notificationIdsByMemberId = new LinkedHashMap<>();
+
+        for (String member : message.split(";")) {
+            int separator = member.indexOf(':');
+            if (separator < 0) {
+                continue;
+            }
+
+            List<Long> notificationIds = Arrays.stream(member.substring(separator + 1).split(","))
+                    .filter(id -> !id.isEmpty())
+                    .map(Long::valueOf)
+                    .toList();
+
+            notificationIdsByMemberId.put(Long.valueOf(member.substring(0, separator)), notificationIds);
+        }
+
+        return notificationIdsByMemberId;
+    }
+}
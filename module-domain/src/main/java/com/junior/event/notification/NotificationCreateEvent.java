@@ -0,0 +1,36 @@
+package com.junior.event.notification;
+
+import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.dto.notification.NotificationPushDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 생성 요청
+ * 요청 트랜잭션에서 아웃박스에 저장되고, OutboxRelay 가 읽어 NotificationCoalescer 에 전달한 뒤
+ * 같은 알림끼리 묶여 알림 쓰기 버퍼에 적재되어 일괄 저장됨
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCreateEvent {
+
+    private CreateNotificationDto notification;
+    private LocalDateTime createdDate;
+
+    // 푸시를 보내지 않는 알림이면 null
+    private NotificationPushDto push;
+
+    // 이 알림을 만든 아웃박스 이벤트 id, 알림 저장과 같은 트랜잭션에서 처리 완료로 기록
+    private List<Long> outboxEventIds;
+
+    public NotificationCreateEvent(CreateNotificationDto notification, LocalDateTime createdDate) {
+        this(notification, createdDate, null);
+    }
+
+    public NotificationCreateEvent(CreateNotificationDto notification, LocalDateTime createdDate, NotificationPushDto push) {
+        this(notification, createdDate, push, List.of());
+    }
+}
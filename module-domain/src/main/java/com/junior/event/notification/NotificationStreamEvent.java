@@ -0,0 +1,18 @@
+package com.junior.event.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알림이 저장되었음을 각 서버에 전달할 때 발행
+ * 해당 회원이 이 서버에 실시간 알림 스트림으로 연결되어 있으면 알림을 전송
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationStreamEvent {
+
+    private Long memberId;
+    private List<Long> notificationIds;
+}
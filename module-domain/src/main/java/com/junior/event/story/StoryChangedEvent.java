@@ -0,0 +1,16 @@
+package com.junior.event.story;
+
+import com.junior.domain.story.Story;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스토리 작성/수정/삭제 시 발행
+ * 스토리 기반으로 만들어진 색인, 캐시 등을 갱신하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class StoryChangedEvent {
+
+    private Story story;
+}
@@ -0,0 +1,30 @@
+package com.junior.event.story;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스토리 좋아요/댓글/조회수 변경 시 발행
+ * 인기 스토리 순위처럼 반응 수로 계산되는 값을 갱신하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class StoryEngagementEvent {
+
+    private Long storyId;
+    private long likeDelta;
+    private long commentDelta;
+    private long viewDelta;
+
+    public static StoryEngagementEvent like(Long storyId, long delta) {
+        return new StoryEngagementEvent(storyId, delta, 0, 0);
+    }
+
+    public static StoryEngagementEvent comment(Long storyId, long delta) {
+        return new StoryEngagementEvent(storyId, 0, delta, 0);
+    }
+
+    public static StoryEngagementEvent view(Long storyId, long delta) {
+        return new StoryEngagementEvent(storyId, 0, 0, delta);
+    }
+}
@@ -14,4 +14,14 @@ public interface CommentCustomRepository {
     public Slice<ResponseChildCommentDto> findChildCommentByParentCommendId(Member member, Long parentCommentId, Pageable pageable, Long cursorId);
 
     Slice<ResponseMyCommentDto> findCommentsByMember(Member findMember, Pageable pageable, Long cursorId);
+
+    /**
+     * 댓글 스레드용 부모 댓글 조회, 최신순으로 정렬하고 cursorId 보다 작은 id 만 조회
+     */
+    Slice<ResponseParentCommentDto> findThreadParentComments(Member member, Long storyId, Pageable pageable, Long cursorId);
+
+    /**
+     * 댓글 스레드용 답글 조회, 오래된 순으로 정렬하고 cursorId 보다 큰 id 만 조회
+     */
+    Slice<ResponseChildCommentDto> findThreadReplies(Member member, Long parentCommentId, Pageable pageable, Long cursorId);
 }
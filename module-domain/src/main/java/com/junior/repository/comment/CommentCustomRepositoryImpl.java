@@ -5,6 +5,7 @@ import com.junior.dto.comment.ResponseChildCommentDto;
 import com.junior.dto.comment.ResponseMyCommentDto;
 import com.junior.dto.comment.ResponseParentCommentDto;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -44,8 +45,31 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
         return null;
     }
 
+    private BooleanExpression gtCursorId(Long cursorId) {
+        if (cursorId != null) {
+            return comment.id.gt(cursorId);
+        }
+        return null;
+    }
+
+    // 비로그인 사용자는 작성자가 아니므로 항상 거짓인 조건 사용(member_id 는 not null)
+    private BooleanExpression isAuthor(Member member) {
+        if (member != null) {
+            return comment.member.eq(member);
+        }
+        return comment.member.id.isNull();
+    }
+
     @Override
     public Slice<ResponseParentCommentDto> findParentCommentByStoryId(Member member, Long storyId, Pageable pageable, Long cursorId) {
+        return findParentComments(member, storyId, pageable, cursorId);
+    }
+
+    /**
+     * 스토리의 삭제되지 않은 부모 댓글을 커서 이전부터 조회
+     * @param orders: 정렬 조건, 없으면 정렬하지 않음
+     */
+    private Slice<ResponseParentCommentDto> findParentComments(Member member, Long storyId, Pageable pageable, Long cursorId, OrderSpecifier<?>... orders) {
 
         BooleanBuilder booleanBuilder = new BooleanBuilder();
 
@@ -62,13 +86,14 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
                                 comment.member.id,
                                 comment.member.nickname,
                                 comment.member.profileImage,
-                                comment.child.size().longValue(),
+                                comment.replyCnt,
                                 comment.createdDate,
-                                comment.member.eq(member)
+                                isAuthor(member)
                         )
                 )
                 .from(comment)
                 .where(booleanBuilder)
+                .orderBy(orders)
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
@@ -137,4 +162,40 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
 
         return new SliceImpl<>(comments, pageable, hasNext);
     }
+
+    @Override
+    public Slice<ResponseParentCommentDto> findThreadParentComments(Member member, Long storyId, Pageable pageable, Long cursorId) {
+        return findParentComments(member, storyId, pageable, cursorId, comment.id.desc());
+    }
+
+    @Override
+    public Slice<ResponseChildCommentDto> findThreadReplies(Member member, Long parentCommentId, Pageable pageable, Long cursorId) {
+
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        booleanBuilder.and(comment.parent.id.eq(parentCommentId));
+        booleanBuilder.and(comment.isDeleted.eq(false));
+        booleanBuilder.and(gtCursorId(cursorId));
+
+        List<ResponseChildCommentDto> comments = query.select(
+                        Projections.constructor(
+                                ResponseChildCommentDto.class,
+                                comment.id,
+                                comment.content,
+                                comment.member.id,
+                                comment.member.nickname,
+                                comment.member.profileImage,
+                                comment.createdDate,
+                                isAuthor(member)
+                        )
+                )
+                .from(comment)
+                .where(booleanBuilder)
+                .orderBy(comment.id.asc())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = isHaveNextStoryList(comments, pageable);
+
+        return new SliceImpl<>(comments, pageable, hasNext);
+    }
 }
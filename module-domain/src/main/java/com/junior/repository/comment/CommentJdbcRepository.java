@@ -0,0 +1,74 @@
+package com.junior.repository.comment;
+
+import com.junior.dto.comment.ResponseChildCommentDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 스레드 조회용 JDBC 저장소
+ * 부모 댓글별 앞쪽 답글을 윈도우 함수로 한 번에 조회해 부모 댓글마다 답글을 따로 조회하지 않도록 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 부모 댓글별로 삭제되지 않은 답글을 오래된 순으로 limit 개까지 조회
+     * @param memberId: 조회하는 회원 id, 비로그인이면 null
+     * @param parentCommentIds: 부모 댓글 id 목록
+     * @param limit: 부모 댓글당 조회할 답글 수
+     * @return (부모 댓글 id, 답글 목록), 답글이 없는 부모 댓글은 포함하지 않음
+     */
+    public Map<Long, List<ResponseChildCommentDto>> findFirstReplies(Long memberId, Collection<Long> parentCommentIds, int limit) {
+
+        if (parentCommentIds.isEmpty() || limit <= 0) {
+            return Collections.emptyMap();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(parentCommentIds.size(), "?"));
+
+        List<Object> params = new ArrayList<>(parentCommentIds);
+        params.add(limit);
+
+        Map<Long, List<ResponseChildCommentDto>> repliesByParentId = new LinkedHashMap<>();
+
+        jdbcTemplate.query(
+                "select r.comment_id, r.parent_id, r.content, r.member_id, m.nickname, m.profile_image, r.created_date " +
+                        "from (select c.comment_id, c.parent_id, c.content, c.member_id, c.created_date, " +
+                        "row_number() over (partition by c.parent_id order by c.comment_id) as rn " +
+                        "from comment c where c.parent_id in (" + placeholders + ") and c.is_deleted = false) r " +
+                        "join member m on m.member_id = r.member_id " +
+                        "where r.rn <= ? " +
+                        "order by r.parent_id, r.comment_id",
+                rs -> {
+                    long authorId = rs.getLong("member_id");
+                    Timestamp createdDate = rs.getTimestamp("created_date");
+
+                    repliesByParentId.computeIfAbsent(rs.getLong("parent_id"), id -> new ArrayList<>())
+                            .add(new ResponseChildCommentDto(
+                                    rs.getLong("comment_id"),
+                                    rs.getString("content"),
+                                    authorId,
+                                    rs.getString("nickname"),
+                                    rs.getString("profile_image"),
+                                    createdDate != null ? createdDate.toLocalDateTime() : null,
+                                    memberId != null && memberId == authorId
+                            ));
+                },
+                params.toArray()
+        );
+
+        return repliesByParentId;
+    }
+}
@@ -4,6 +4,9 @@ import com.junior.domain.story.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +15,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
     Page<Comment> findAllByOrderByIdDesc(Pageable pageable);
 
     Long countByStoryIdAndIsDeletedFalse(Long storyId);
+
+    @Modifying
+    @Query("update Comment c set c.replyCnt = c.replyCnt + 1 where c.id = :commentId")
+    int increaseReplyCnt(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("update Comment c set c.replyCnt = c.replyCnt - 1 where c.id = :commentId and c.replyCnt > 0")
+    int decreaseReplyCnt(@Param("commentId") Long commentId);
 }
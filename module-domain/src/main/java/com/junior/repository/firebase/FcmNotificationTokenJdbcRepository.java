@@ -0,0 +1,90 @@
+package com.junior.repository.firebase;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * FCM 토큰 등록/정리용 JDBC 저장소
+ * token 유니크 제약을 이용해 조회 없이 등록하고, 오래 사용하지 않은 토큰은 나누어 삭제
+ */
+@Repository
+@RequiredArgsConstructor
+public class FcmNotificationTokenJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 회원이 이미 등록한 토큰이면 마지막 사용 시각만 갱신
+     * @return 갱신되었으면 true, 새 토큰이거나 다른 회원의 토큰이면 false
+     */
+    public boolean touch(Long memberId, String token, LocalDateTime lastUsedDate) {
+        return jdbcTemplate.update(
+                "update fcm_notification_token set last_used_date = ? where token = ? and member_id = ?",
+                Timestamp.valueOf(lastUsedDate), token, memberId) > 0;
+    }
+
+    /**
+     * 토큰 저장, 다른 회원이 등록한 토큰이면 회원을 바꿈(같은 기기에서 다른 계정으로 로그인)
+     * @return 토큰을 이전에 등록한 회원 id, 새 토큰이면 empty
+     */
+    public Optional<Long> upsert(Long memberId, String token, LocalDateTime lastUsedDate) {
+
+        Timestamp timestamp = Timestamp.valueOf(lastUsedDate);
+
+        try {
+            jdbcTemplate.update("insert into fcm_notification_token (member_id, token, last_used_date) values (?, ?, ?)", memberId, token, timestamp);
+            return Optional.empty();
+        } catch (DuplicateKeyException e) {
+            List<Long> previousMemberIds = jdbcTemplate.queryForList(
+                    "select member_id from fcm_notification_token where token = ?", Long.class, token);
+
+            jdbcTemplate.update("update fcm_notification_token set member_id = ?, last_used_date = ? where token = ?", memberId, timestamp, token);
+
+            return previousMemberIds.stream().findFirst();
+        }
+    }
+
+    /**
+     * 마지막 사용 시각이 before 이전인 토큰을 id 순으로 limit 개까지 조회
+     */
+    public List<IdleToken> findIdleTokens(LocalDateTime before, int limit) {
+        return jdbcTemplate.query(
+                "select fcm_token_id, member_id from fcm_notification_token where last_used_date < ? order by fcm_token_id limit ?",
+                (rs, rowNum) -> new IdleToken(rs.getLong("fcm_token_id"), rs.getLong("member_id")),
+                Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * 조회 이후 다시 사용된 토큰은 삭제하지 않도록 마지막 사용 시각을 함께 비교
+     * @return 삭제된 토큰 수
+     */
+    public int deleteIdleTokens(List<Long> tokenIds, LocalDateTime before) {
+
+        if (tokenIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(tokenIds.size(), "?"));
+
+        Object[] params = new Object[tokenIds.size() + 1];
+        for (int i = 0; i < tokenIds.size(); i++) {
+            params[i] = tokenIds.get(i);
+        }
+        params[tokenIds.size()] = Timestamp.valueOf(before);
+
+        return jdbcTemplate.update(
+                "delete from fcm_notification_token where fcm_token_id in (" + placeholders + ") and last_used_date < ?",
+                params);
+    }
+
+    public record IdleToken(Long tokenId, Long memberId) {
+    }
+}
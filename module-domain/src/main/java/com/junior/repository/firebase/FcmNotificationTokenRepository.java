@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,8 +22,15 @@ public interface FcmNotificationTokenRepository extends JpaRepository<FcmNotific
 
     public List<FcmNotificationToken> findByMember(Member member);
 
+    public List<FcmNotificationToken> findByMemberId(Long memberId);
+
     @Modifying(clearAutomatically = true)
     @Query("delete from FcmNotificationToken t where t.token=:token")
     @Transactional
     public void deleteAllByToken(@Param("token") String token);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from FcmNotificationToken t where t.token in :tokens")
+    @Transactional
+    public void deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
 }
@@ -4,6 +4,19 @@ import com.junior.dto.notification.ResponseNotificationDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface NotificationCustomRepository {
     public Slice<ResponseNotificationDto> findAllNotificationByMemberAndIsReadFalse(Long memberId, Pageable pageable, Long cursorId);
+
+    /**
+     * 실시간 알림 스트림으로 보낼 알림 조회, id 오름차순
+     */
+    List<ResponseNotificationDto> findStreamNotifications(Long memberId, Collection<Long> notificationIds);
+
+    /**
+     * 실시간 알림 스트림 재연결 시 놓친 알림 조회, lastNotificationId 이후 알림을 id 오름차순으로 limit 개까지 조회
+     */
+    List<ResponseNotificationDto> findStreamNotificationsAfter(Long memberId, Long lastNotificationId, int limit);
 }
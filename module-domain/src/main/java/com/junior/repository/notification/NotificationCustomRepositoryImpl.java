@@ -2,6 +2,7 @@ package com.junior.repository.notification;
 
 import com.junior.dto.notification.ResponseNotificationDto;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.junior.domain.notification.QNotification.notification;
@@ -60,7 +62,8 @@ public class NotificationCustomRepositoryImpl implements NotificationCustomRepos
                         notification.memberId,
                         notification.isRead,
                         notification.createdDate,
-                        notification.notificationType
+                        notification.notificationType,
+                        notification.actorCnt
                 ))
                 .from(notification)
                 .where(booleanBuilder)
@@ -72,4 +75,44 @@ public class NotificationCustomRepositoryImpl implements NotificationCustomRepos
 
         return new SliceImpl<>(notifications, pageable, hasNext);
     }
+
+    private Expression<ResponseNotificationDto> streamProjection() {
+        return Projections.constructor(
+                ResponseNotificationDto.class,
+                notification.id,
+                notification.storyId,
+                notification.content,
+                notification.profileImgPath,
+                notification.memberId,
+                notification.isRead,
+                notification.createdDate,
+                notification.notificationType,
+                notification.actorCnt
+        );
+    }
+
+    @Override
+    public List<ResponseNotificationDto> findStreamNotifications(Long memberId, Collection<Long> notificationIds) {
+
+        return query.select(streamProjection())
+                .from(notification)
+                .where(notification.memberId.eq(memberId),
+                        notification.id.in(notificationIds),
+                        notification.isDeleted.eq(false))
+                .orderBy(notification.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<ResponseNotificationDto> findStreamNotificationsAfter(Long memberId, Long lastNotificationId, int limit) {
+
+        return query.select(streamProjection())
+                .from(notification)
+                .where(notification.memberId.eq(memberId),
+                        notification.id.gt(lastNotificationId),
+                        notification.isDeleted.eq(false))
+                .orderBy(notification.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
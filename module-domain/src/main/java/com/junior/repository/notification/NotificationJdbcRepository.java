@@ -0,0 +1,144 @@
+package com.junior.repository.notification;
+
+import com.junior.event.notification.NotificationCreateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 알림을 multi-row INSERT 로 한 번에 저장하는 저장소
+ * IDENTITY 전략으로 인해 JPA saveAll 은 알림마다 INSERT 를 실행하므로 JDBC 사용
+ * 저장한 알림 수만큼 회원별 읽지 않은 알림 수도 함께 증가
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    // INSERT 한 문장에 담을 최대 알림 수
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = "insert into notification " +
+            "(member_id, profile_img_path, story_id, content, notification_type, actor_cnt, is_read, is_deleted, created_date, last_modified_date) values ";
+
+    private static final String VALUES = "(?, ?, ?, ?, ?, ?, false, false, ?, ?)";
+
+    private static final String UPDATE_UNREAD_CNT = "update notification_unread_count set unread_cnt = unread_cnt + ? where member_id = ?";
+
+    // 카운터 도입 전에 저장된 알림까지 포함하도록 카운터가 없는 회원은 읽지 않은 알림을 세어서 생성
+    private static final String COUNT_UNREAD = "select count(*) from notification where member_id = ? and is_read = false and is_deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 저장과 읽지 않은 알림 수 증가가 함께 반영되도록 트랜잭션 안에서 호출
+     * @param notifications: 생성 요청된 알림, 요청 시각을 생성 시각으로 저장
+     * @return 저장된 알림 id, notifications 와 같은 순서
+     */
+    public List<Long> saveAll(List<NotificationCreateEvent> notifications) {
+
+        List<Long> notificationIds = new ArrayList<>(notifications.size());
+
+        for (int from = 0; from < notifications.size(); from += CHUNK_SIZE) {
+            List<NotificationCreateEvent> chunk = notifications.subList(from, Math.min(from + CHUNK_SIZE, notifications.size()));
+
+            List<Object> params = new ArrayList<>(chunk.size() * 8);
+            for (NotificationCreateEvent event : chunk) {
+                Timestamp createdDate = Timestamp.valueOf(event.getCreatedDate());
+
+                params.add(event.getNotification().memberId());
+                params.add(event.getNotification().profileImgPath());
+                params.add(event.getNotification().storyId());
+                params.add(event.getNotification().content());
+                params.add(event.getNotification().notificationType().name());
+                params.add(event.getNotification().actorCnt() != null ? event.getNotification().actorCnt() : 1L);
+                params.add(createdDate);
+                params.add(createdDate);
+            }
+
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), VALUES));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, keyHolder);
+
+            // multi-row INSERT 의 생성 키는 VALUES 순서대로 반환됨
+            for (Map<String, Object> key : keyHolder.getKeyList()) {
+                notificationIds.add(((Number) key.values().iterator().next()).longValue());
+            }
+        }
+
+        // 데드락을 피하도록 member_id 순으로 갱신
+        Map<Long, Long> unreadCntByMemberId = new TreeMap<>();
+        for (NotificationCreateEvent event : notifications) {
+            unreadCntByMemberId.merge(event.getNotification().memberId(), 1L, Long::sum);
+        }
+
+        increaseUnreadCnt(unreadCntByMemberId);
+
+        return notificationIds;
+    }
+
+    /**
+     * 회원별 읽지 않은 알림 수 증가, 카운터가 없는 회원은 저장된 알림을 세어서 생성
+     * @param unreadCntByMemberId: (memberId, 증가시킬 수), 증가시킬 알림은 이미 저장되어 있어야 함
+     */
+    public void increaseUnreadCnt(Map<Long, Long> unreadCntByMemberId) {
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(unreadCntByMemberId.entrySet());
+
+        int[][] results = jdbcTemplate.batchUpdate(
+                UPDATE_UNREAD_CNT,
+                entries,
+                CHUNK_SIZE,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+
+        int index = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                Map.Entry<Long, Long> entry = entries.get(index++);
+
+                if (updated == 0 && !createUnreadCnt(entry.getKey())) {
+                    // 다른 서버가 먼저 생성한 경우, 아직 커밋되지 않은 이번 알림은 세지 않았으므로 증가
+                    jdbcTemplate.update(UPDATE_UNREAD_CNT, entry.getValue(), entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * 카운터가 없는 회원의 읽지 않은 알림 수 카운터를 현재 트랜잭션에서 본 알림 수로 생성
+     * 같은 트랜잭션에서 저장/읽음/삭제 처리한 알림도 반영된 수로 생성됨
+     * @return 생성 여부, 다른 트랜잭션이 먼저 생성했으면 false
+     */
+    public boolean createUnreadCnt(Long memberId) {
+        Long unreadCnt = jdbcTemplate.queryForObject(COUNT_UNREAD, Long.class, memberId);
+
+        try {
+            jdbcTemplate.update("insert into notification_unread_count (member_id, unread_cnt) values (?, ?)", memberId, unreadCnt);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
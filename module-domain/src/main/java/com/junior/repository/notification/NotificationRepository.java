@@ -2,6 +2,9 @@ package com.junior.repository.notification;
 
 import com.junior.domain.notification.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,42 @@ import java.util.List;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationCustomRepository {
     List<Notification> findByMemberIdAndIsReadFalse(Long id);
+
+    /**
+     * 삭제되지 않은 알림을 읽음 처리
+     * @return 읽음 처리된 알림 수, 이미 읽었거나 삭제된 알림이면 0
+     */
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.id = :notificationId and n.isRead = false and n.isDeleted = false")
+    int readNotification(@Param("notificationId") Long notificationId);
+
+    /**
+     * 회원의 삭제되지 않은 읽지 않은 알림을 한 번에 읽음 처리
+     * @return 읽음 처리된 알림 수
+     */
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.memberId = :memberId and n.isRead = false and n.isDeleted = false")
+    int readAllNotification(@Param("memberId") Long memberId);
+
+    /**
+     * 읽지 않은 알림을 삭제 처리
+     * @return 삭제 처리된 알림 수, 이미 읽었거나 삭제된 알림이면 0
+     */
+    @Modifying
+    @Query("update Notification n set n.isDeleted = true where n.id = :notificationId and n.isRead = false and n.isDeleted = false")
+    int deleteUnreadNotification(@Param("notificationId") Long notificationId);
+
+    /**
+     * 읽은 알림을 포함해 삭제 처리
+     * @return 삭제 처리된 알림 수, 이미 삭제된 알림이면 0
+     */
+    @Modifying
+    @Query("update Notification n set n.isDeleted = true where n.id = :notificationId and n.isDeleted = false")
+    int deleteNotification(@Param("notificationId") Long notificationId);
+
+    /**
+     * 회원의 삭제되지 않은 읽지 않은 알림 수, 읽지 않은 알림 수 카운터가 없는 회원에게만 사용
+     */
+    @Query("select count(n) from Notification n where n.memberId = :memberId and n.isRead = false and n.isDeleted = false")
+    long countUnreadNotification(@Param("memberId") Long memberId);
 }
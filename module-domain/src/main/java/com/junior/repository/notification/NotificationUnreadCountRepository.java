@@ -0,0 +1,26 @@
+package com.junior.repository.notification;
+
+import com.junior.domain.notification.NotificationUnreadCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationUnreadCountRepository extends JpaRepository<NotificationUnreadCount, Long> {
+
+    @Query("select u.unreadCnt from NotificationUnreadCount u where u.memberId = :memberId")
+    Optional<Long> findUnreadCntByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 읽음/삭제 처리된 알림 수만큼 감소, 0보다 작아지지 않음
+     */
+    @Modifying
+    @Query("update NotificationUnreadCount u " +
+            "set u.unreadCnt = case when u.unreadCnt > :cnt then u.unreadCnt - :cnt else 0 end " +
+            "where u.memberId = :memberId")
+    int decreaseUnreadCnt(@Param("memberId") Long memberId, @Param("cnt") long cnt);
+}
@@ -0,0 +1,153 @@
+package com.junior.repository.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 아웃박스 저장/처리용 JDBC 저장소
+ * 여러 서버가 동시에 처리해도 한 이벤트는 한 서버만 가져가도록 조건부 UPDATE 로 선점
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventJdbcRepository {
+
+    // IN 절 하나에 담을 최대 id 수
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String SELECT_COLUMNS = "select outbox_event_id, aggregate_type, aggregate_id, event_type, payload, created_date from outbox_event ";
+
+    private static final RowMapper<OutboxEventRow> ROW_MAPPER = (rs, rowNum) -> new OutboxEventRow(
+            rs.getLong("outbox_event_id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_date").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 호출한 트랜잭션 안에서 이벤트 저장, 트랜잭션이 롤백되면 이벤트도 저장되지 않음
+     */
+    public void save(String aggregateType, Long aggregateId, String eventType, String payload, LocalDateTime createdDate) {
+        jdbcTemplate.update(
+                "insert into outbox_event (aggregate_type, aggregate_id, event_type, payload, created_date, attempt_cnt) values (?, ?, ?, ?, ?, 0)",
+                aggregateType, aggregateId, eventType, payload, Timestamp.valueOf(createdDate));
+    }
+
+    /**
+     * 처리되지 않은 이벤트를 저장 순서대로 limit 개까지 선점
+     * 다른 서버가 처리 중(lockedUntil 이전)이거나 최대 시도 횟수를 넘은 이벤트는 제외
+     * @param now: 현재 시각, 처리 기한이 지난 이벤트는 다시 선점
+     * @param lockedUntil: 선점한 이벤트의 처리 기한
+     * @return 선점한 이벤트, 저장 순서대로
+     */
+    public List<OutboxEventRow> claim(LocalDateTime now, LocalDateTime lockedUntil, int maxAttempts, int limit) {
+
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+
+        List<Long> candidateIds = jdbcTemplate.queryForList(
+                "select outbox_event_id from outbox_event " +
+                        "where published_date is null and attempt_cnt < ? and (locked_until is null or locked_until < ?) " +
+                        "order by outbox_event_id limit ?",
+                Long.class, maxAttempts, nowTimestamp, limit);
+
+        if (candidateIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String owner = UUID.randomUUID().toString();
+        String placeholders = placeholders(candidateIds.size());
+
+        List<Object> params = new ArrayList<>();
+        params.add(owner);
+        params.add(Timestamp.valueOf(lockedUntil));
+        params.addAll(candidateIds);
+        params.add(nowTimestamp);
+
+        // 조회 이후 다른 서버가 먼저 선점한 이벤트는 조건에서 제외됨
+        jdbcTemplate.update(
+                "update outbox_event set lock_owner = ?, locked_until = ?, attempt_cnt = attempt_cnt + 1 " +
+                        "where outbox_event_id in (" + placeholders + ") and published_date is null " +
+                        "and (locked_until is null or locked_until < ?)",
+                params.toArray());
+
+        List<Object> selectParams = new ArrayList<>(candidateIds);
+        selectParams.add(owner);
+
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "where outbox_event_id in (" + placeholders + ") and lock_owner = ? order by outbox_event_id",
+                ROW_MAPPER, selectParams.toArray());
+    }
+
+    /**
+     * 처리가 끝난 이벤트 기록, 처리 결과와 같은 트랜잭션에서 호출
+     */
+    public void markPublished(Collection<Long> outboxEventIds) {
+
+        List<Long> ids = new ArrayList<>(outboxEventIds);
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+
+            jdbcTemplate.update(
+                    "update outbox_event set published_date = current_timestamp, lock_owner = null, locked_until = null " +
+                            "where outbox_event_id in (" + placeholders(chunk.size()) + ")",
+                    chunk.toArray());
+        }
+    }
+
+    /**
+     * 처리에 실패한 이벤트의 선점을 풀어 다음 주기에 다시 처리
+     * @param refundAttempt: 처리를 시도하지 않은 이벤트(앞선 이벤트가 실패해 건너뜀)면 true, 시도 횟수를 되돌림
+     */
+    public void release(Collection<Long> outboxEventIds, boolean refundAttempt) {
+
+        List<Long> ids = new ArrayList<>(outboxEventIds);
+        String attemptCnt = refundAttempt ? "attempt_cnt - 1" : "attempt_cnt";
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+
+            jdbcTemplate.update(
+                    "update outbox_event set lock_owner = null, locked_until = null, attempt_cnt = " + attemptCnt + " " +
+                            "where outbox_event_id in (" + placeholders(chunk.size()) + ") and published_date is null",
+                    chunk.toArray());
+        }
+    }
+
+    /**
+     * 처리된 지 before 이전인 이벤트를 limit 개까지 삭제
+     * @return 삭제된 이벤트 수
+     */
+    public int deletePublishedBefore(LocalDateTime before, int limit) {
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select outbox_event_id from outbox_event where published_date < ? order by outbox_event_id limit ?",
+                Long.class, Timestamp.valueOf(before), limit);
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update("delete from outbox_event where outbox_event_id in (" + placeholders(ids.size()) + ")", ids.toArray());
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    public record OutboxEventRow(Long id, String aggregateType, Long aggregateId, String eventType, String payload, LocalDateTime createdDate) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.junior.repository.story;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스토리 좋아요 저장용 JDBC 저장소
+ * JPA save는 중복키 예외 발생 시 트랜잭션이 rollback-only가 되므로, 중복 여부를 INSERT 결과로 판단하기 위해 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (member_id, story_id) 유니크 제약을 이용해 좋아요가 없을 때만 저장
+     * @param memberId
+     * @param storyId
+     * @return 새로 저장되었으면 true, 이미 좋아요한 스토리면 false
+     */
+    public boolean insertIfAbsent(Long memberId, Long storyId) {
+        try {
+            jdbcTemplate.update("insert into likes (member_id, story_id) values (?, ?)", memberId, storyId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
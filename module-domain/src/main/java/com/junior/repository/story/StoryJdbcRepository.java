@@ -0,0 +1,108 @@
+package com.junior.repository.story;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스토리 카운터 컬럼을 JDBC 배치로 갱신하는 저장소
+ * 더티 체킹 대신 view_cnt = view_cnt + ? 형태의 단일 UPDATE문을 모아서 실행
+ * 댓글 수(comment_cnt) 보정용 조회/갱신도 담당
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoryJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스토리별 누적 조회수를 한 번에 반영
+     * @param viewCntByStoryId: (storyId, 증가시킬 조회수)
+     */
+    public void increaseViewCnt(Map<Long, Long> viewCntByStoryId) {
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewCntByStoryId.entrySet());
+
+        jdbcTemplate.batchUpdate(
+                "update story set view_cnt = view_cnt + ? where story_id = ?",
+                entries,
+                BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+
+    /**
+     * story_id 순으로 스토리를 잘라 저장된 댓글 수와 실제 댓글 수를 함께 조회
+     * 저장된 값과 실제 값을 같은 SELECT 에서 읽으므로 두 값은 같은 시점 기준
+     * @param afterStoryId: 이전 조회의 마지막 story_id, 처음이면 0
+     * @param limit: 조회할 스토리 수
+     */
+    public List<StoryCommentCnt> findCommentCnt(long afterStoryId, int limit) {
+
+        return jdbcTemplate.query(
+                "select s.story_id, s.comment_cnt, count(c.comment_id) as actual_cnt " +
+                        "from (select story_id, comment_cnt from story where story_id > ? order by story_id limit ?) s " +
+                        "left join comment c on c.story_id = s.story_id and c.is_deleted = false " +
+                        "group by s.story_id, s.comment_cnt " +
+                        "order by s.story_id",
+                (rs, rowNum) -> new StoryCommentCnt(rs.getLong("story_id"), rs.getLong("comment_cnt"), rs.getLong("actual_cnt")),
+                afterStoryId, limit
+        );
+    }
+
+    /**
+     * 어긋난 댓글 수를 실제 값으로 보정
+     * 조회 이후 댓글이 작성/삭제되어 comment_cnt 가 바뀐 스토리는 건너뛰고 다음 보정 때 다시 확인
+     * @return 보정된 스토리 수
+     */
+    public int repairCommentCnt(List<StoryCommentCnt> drifts) {
+
+        int[][] results = jdbcTemplate.batchUpdate(
+                "update story set comment_cnt = ? where story_id = ? and comment_cnt = ?",
+                drifts,
+                BATCH_SIZE,
+                (ps, drift) -> {
+                    ps.setLong(1, drift.actualCommentCnt());
+                    ps.setLong(2, drift.storyId());
+                    ps.setLong(3, drift.commentCnt());
+                }
+        );
+
+        int repaired = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                // 드라이버가 갱신 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 보정된 것으로 간주
+                if (updated > 0 || updated == Statement.SUCCESS_NO_INFO) {
+                    repaired++;
+                }
+            }
+        }
+
+        return repaired;
+    }
+
+    /**
+     * @param commentCnt: story.comment_cnt 에 저장된 댓글 수
+     * @param actualCommentCnt: 삭제되지 않은 댓글을 직접 센 값
+     */
+    public record StoryCommentCnt(Long storyId, long commentCnt, long actualCommentCnt) {
+
+        public boolean isDrifted() {
+            return commentCnt != actualCommentCnt;
+        }
+
+        public long drift() {
+            return Math.abs(commentCnt - actualCommentCnt);
+        }
+    }
+}
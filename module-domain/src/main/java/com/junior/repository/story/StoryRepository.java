@@ -2,7 +2,12 @@ package com.junior.repository.story;
 
 import com.junior.domain.story.Story;
 import com.junior.repository.story.custom.StoryCustomRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +15,31 @@ import java.util.Optional;
 @Repository
 public interface StoryRepository extends JpaRepository<Story, Long>, StoryCustomRepository {
     Optional<Story> findByIdAndIsDeletedFalse(Long id);
+
+    /**
+     * 좋아요 변경 시 스토리 row에 쓰기 락을 먼저 획득
+     * likes INSERT의 FK 검사(S락) 후 카운터 UPDATE(X락)로 락이 승격되며 발생하는 데드락을 방지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Story s where s.id = :storyId")
+    Optional<Story> findByIdForUpdate(@Param("storyId") Long storyId);
+
+    @Modifying
+    @Query("update Story s set s.likeCnt = s.likeCnt + 1 where s.id = :storyId")
+    int increaseLikeCnt(@Param("storyId") Long storyId);
+
+    @Modifying
+    @Query("update Story s set s.likeCnt = s.likeCnt - 1 where s.id = :storyId and s.likeCnt > 0")
+    int decreaseLikeCnt(@Param("storyId") Long storyId);
+
+    @Modifying
+    @Query("update Story s set s.commentCnt = s.commentCnt + 1 where s.id = :storyId")
+    int increaseCommentCnt(@Param("storyId") Long storyId);
+
+    @Modifying
+    @Query("update Story s set s.commentCnt = s.commentCnt - 1 where s.id = :storyId and s.commentCnt > 0")
+    int decreaseCommentCnt(@Param("storyId") Long storyId);
+
+    @Query("select s.commentCnt from Story s where s.id = :storyId")
+    Optional<Long> findCommentCntById(@Param("storyId") Long storyId);
 }
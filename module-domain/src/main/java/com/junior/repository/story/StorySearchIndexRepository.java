@@ -0,0 +1,68 @@
+package com.junior.repository.story;
+
+import com.junior.domain.story.StorySearchField;
+import com.junior.util.NgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스토리 검색 역색인(story_search_token) 갱신용 저장소
+ * 스토리 하나당 수천 개의 토큰이 생길 수 있어 IDENTITY 전략으로 batch insert가 불가능한 JPA 대신 JDBC 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class StorySearchIndexRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스토리의 기존 토큰을 지우고 제목/본문 토큰을 새로 저장
+     */
+    public void index(Long storyId, String title, String content) {
+
+        jdbcTemplate.update("delete from story_search_token where story_id = ?", storyId);
+
+        List<Object[]> rows = new ArrayList<>();
+        NgramTokenizer.tokenize(title).forEach(token -> rows.add(new Object[]{storyId, token, StorySearchField.TITLE.name()}));
+        NgramTokenizer.tokenize(content).forEach(token -> rows.add(new Object[]{storyId, token, StorySearchField.CONTENT.name()}));
+
+        jdbcTemplate.batchUpdate(
+                "insert into story_search_token (story_id, token, field) values (?, ?, ?)",
+                rows,
+                BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setString(2, (String) row[1]);
+                    ps.setString(3, (String) row[2]);
+                }
+        );
+    }
+
+    /**
+     * 저장된 토큰이 하나도 없는지 여부, 색인 도입 후 첫 배포에서 기존 스토리 색인이 필요한지 판단하는 데 사용
+     */
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("select story_id from story_search_token limit 1", Long.class).isEmpty();
+    }
+
+    /**
+     * 색인 재생성을 위해 story_id 순으로 스토리 제목/본문 조회
+     * 관리자 검색에서 삭제된 스토리도 조회되므로 삭제 여부와 관계없이 조회
+     */
+    public List<IndexSource> findIndexSources(Long lastStoryId, int size) {
+        return jdbcTemplate.query(
+                "select story_id, title, content from story where story_id > ? order by story_id limit ?",
+                (rs, rowNum) -> new IndexSource(rs.getLong("story_id"), rs.getString("title"), rs.getString("content")),
+                lastStoryId, size
+        );
+    }
+
+    public record IndexSource(Long storyId, String title, String content) {
+    }
+}
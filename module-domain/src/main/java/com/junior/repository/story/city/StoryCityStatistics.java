@@ -0,0 +1,177 @@
+package com.junior.repository.story.city;
+
+import com.junior.domain.story.Story;
+import com.junior.event.story.StoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 추천 도시 계산용 도시별 스토리 통계
+ * - 랜덤 도시: 공개 스토리 하나를 균등하게 뽑아 그 도시를 반환(도시별 스토리 수에 비례한 가중치 랜덤)
+ * - 최근 인기 도시: 최신 공개 스토리 RECENT_WINDOW 개 중 가장 많이 등장한 도시, 변경 시에만 다시 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryCityStatistics {
+
+    static final int RECENT_WINDOW = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 공개 스토리의 도시, 무작위 위치 조회를 위해 배열로 유지하고 삭제 시 마지막 원소와 자리를 바꿈
+    private final List<StoryCity> stories = new ArrayList<>();
+    private final Map<Long, Integer> indexByStoryId = new HashMap<>();
+    // story_id 순(작성 순) 도시
+    private final NavigableMap<Long, String> cityByStoryId = new TreeMap<>();
+    private final Map<String, Long> storyCntByCity = new HashMap<>();
+
+    // 초기 적재 중 삭제된 스토리, 적재가 끝나기 전 조회한 이전 데이터가 다시 추가되지 않도록 함
+    private final Set<Long> removedDuringLoad = new HashSet<>();
+
+    private volatile String recentPopularCity;
+    private volatile boolean loaded = false;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 공개 스토리의 도시를 적재, 적재 전에는 DB 조회를 사용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query(
+                "select story_id, city from story where is_deleted = false and is_hidden = false",
+                rs -> {
+                    long storyId = rs.getLong("story_id");
+
+                    synchronized (this) {
+                        if (!removedDuringLoad.contains(storyId) && !indexByStoryId.containsKey(storyId)) {
+                            add(storyId, rs.getString("city"));
+                        }
+                    }
+                }
+        );
+
+        synchronized (this) {
+            loaded = true;
+            removedDuringLoad.clear();
+            recentPopularCity = calculateRecentPopularCity();
+
+            log.info("[{}] 도시별 스토리 통계 적재 완료 story 수: {}, 도시 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), stories.size(), storyCntByCity.size());
+        }
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener
+    public void onStoryChanged(StoryChangedEvent event) {
+        Story story = event.getStory();
+
+        if (story.getIsDeleted() || story.isHidden()) {
+            remove(story.getId());
+        } else {
+            put(story.getId(), story.getCity());
+        }
+    }
+
+    public synchronized void put(Long storyId, String city) {
+        removeStory(storyId);
+        add(storyId, city);
+
+        recentPopularCity = calculateRecentPopularCity();
+    }
+
+    public synchronized void remove(Long storyId) {
+        if (!loaded) {
+            removedDuringLoad.add(storyId);
+        }
+
+        if (removeStory(storyId)) {
+            recentPopularCity = calculateRecentPopularCity();
+        }
+    }
+
+    public synchronized Optional<String> getRandomCity() {
+        if (stories.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(stories.get(ThreadLocalRandom.current().nextInt(stories.size())).city());
+    }
+
+    public Optional<String> getRecentPopularCity() {
+        return Optional.ofNullable(recentPopularCity);
+    }
+
+    public synchronized long getStoryCnt(String city) {
+        return storyCntByCity.getOrDefault(city, 0L);
+    }
+
+    // 도시가 없는 스토리는 추천 대상이 아니므로 제외
+    private void add(Long storyId, String city) {
+        if (city == null || city.isBlank()) {
+            return;
+        }
+
+        indexByStoryId.put(storyId, stories.size());
+        stories.add(new StoryCity(storyId, city));
+        cityByStoryId.put(storyId, city);
+        storyCntByCity.merge(city, 1L, Long::sum);
+    }
+
+    private boolean removeStory(Long storyId) {
+        Integer index = indexByStoryId.remove(storyId);
+
+        if (index == null) {
+            return false;
+        }
+
+        StoryCity removed = stories.get(index);
+        StoryCity last = stories.remove(stories.size() - 1);
+
+        if (index < stories.size()) {
+            stories.set(index, last);
+            indexByStoryId.put(last.storyId(), index);
+        }
+
+        cityByStoryId.remove(storyId);
+        storyCntByCity.computeIfPresent(removed.city(), (city, cnt) -> cnt > 1 ? cnt - 1 : null);
+
+        return true;
+    }
+
+    // 같은 개수면 최신 스토리부터 셌을 때 먼저 그 개수에 도달한 도시
+    private String calculateRecentPopularCity() {
+        Map<String, Integer> cntByCity = new HashMap<>();
+        String popularCity = null;
+        int popularCnt = 0;
+
+        int window = 0;
+        for (String city : cityByStoryId.descendingMap().values()) {
+            if (window++ >= RECENT_WINDOW) {
+                break;
+            }
+
+            int cnt = cntByCity.merge(city, 1, Integer::sum);
+
+            if (cnt > popularCnt) {
+                popularCity = city;
+                popularCnt = cnt;
+            }
+        }
+
+        return popularCity;
+    }
+
+    private record StoryCity(Long storyId, String city) {
+    }
+}
@@ -7,7 +7,9 @@ import com.junior.domain.story.Story;
 public interface LikeCustomRepository {
     public Like findLikeByMemberAndStory(Member member, Story story);
 
-    void deleteLikeByStoryAndMember(Member member, Story story);
+    long deleteLikeByStoryAndMember(Member member, Story story);
 
     Boolean isLikeStory(Member findMember, Story findStory);
+
+    Boolean isLikeStory(Long memberId, Long storyId);
 }
@@ -25,11 +25,11 @@ public class LikeCustomRepositoryImpl implements LikeCustomRepository {
     }
 
     @Override
-    public void deleteLikeByStoryAndMember(Member member, Story story) {
+    public long deleteLikeByStoryAndMember(Member member, Story story) {
 
         QLike like = QLike.like;
 
-        query.delete(like)
+        return query.delete(like)
                 .where(like.member.eq(member),
                         like.story.eq(story))
                 .execute();
@@ -49,4 +49,20 @@ public class LikeCustomRepositoryImpl implements LikeCustomRepository {
 
         return fetchOne != null;
     }
+
+    // (member_id, story_id) 유니크 인덱스만 조회, 회원/스토리 엔티티가 없어도 사용 가능
+    @Override
+    public Boolean isLikeStory(Long memberId, Long storyId) {
+        QLike like = QLike.like;
+
+        Integer fetchOne = query.selectOne()
+                .from(like)
+                .where(
+                        like.story.id.eq(storyId),
+                        like.member.id.eq(memberId)
+                )
+                .fetchFirst();
+
+        return fetchOne != null;
+    }
 }
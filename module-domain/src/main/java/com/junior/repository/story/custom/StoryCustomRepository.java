@@ -6,6 +6,8 @@ import com.junior.dto.story.AdminStoryDto;
 import com.junior.dto.story.GeoPointDto;
 import com.junior.dto.story.ResponseStoryCntByCityDto;
 import com.junior.dto.story.ResponseStoryListDto;
+import com.junior.dto.story.ScoreCursorSlice;
+import com.junior.dto.story.StoryDetailDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -31,11 +33,21 @@ public interface StoryCustomRepository {
 
     public Boolean isLikedMember(Member findMember, Story fidStory);
 
+    /**
+     * 스토리 상세 정보(작성자 id, 이미지, 댓글 수 포함)를 두 번의 쿼리로 조회
+     */
+    Optional<StoryDetailDto> findStoryDetail(Long storyId);
+
     public Optional<String> getRecommendedRandomCity();
 
     Optional<String> getRecommendedRecentPopularCity();
 
-    Slice<ResponseStoryListDto> getRecentPopularStories(Member member, Long cursorId, Pageable pageable);
+    /**
+     * 최근 인기 스토리 조회
+     * @param cursorScore: 이전 페이지 응답의 nextCursorScore
+     * @param cursorId: 이전 페이지 마지막 스토리 id
+     */
+    ScoreCursorSlice<ResponseStoryListDto> getRecentPopularStories(Member member, Double cursorScore, Long cursorId, Pageable pageable);
 
     public Slice<ResponseStoryListDto> findLikeStories(Member findMember, Pageable pageable, Long cursorId);
 
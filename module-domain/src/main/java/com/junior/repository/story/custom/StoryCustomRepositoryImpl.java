@@ -5,38 +5,68 @@ import com.junior.domain.member.Member;
 import com.junior.domain.member.MemberStatus;
 import com.junior.domain.story.QStory;
 import com.junior.domain.story.Story;
+import com.junior.domain.story.StorySearchField;
 import com.junior.dto.story.*;
+import com.junior.repository.story.city.StoryCityStatistics;
+import com.junior.repository.story.geo.StoryGeoIndex;
+import com.junior.repository.story.popular.StoryPopularityIndex;
+import com.junior.repository.story.popular.StoryPopularityIndex.RankedStory;
+import com.junior.util.NgramTokenizer;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.junior.domain.like.QLike.like;
 import static com.junior.domain.member.QMember.member;
 import static com.junior.domain.story.QStory.story;
+import static com.junior.domain.story.QStorySearchToken.storySearchToken;
 
 
 @Slf4j
 @RequiredArgsConstructor
 public class StoryCustomRepositoryImpl implements StoryCustomRepository {
 
+    // 검색 점수 가중치, 제목에서 찾은 토큰이 본문보다 높은 점수를 가짐
+    private static final long TITLE_WEIGHT = 3L;
+    private static final long CONTENT_WEIGHT = 1L;
+
+    // 지도 조회 시 최대 스토리 수
+    private static final int MAX_MAP_STORIES = 500;
+
     private final JPAQueryFactory query;
+    // 좌표 색인 빈이 없는 환경(@DataJpaTest 등)에서는 DB 조회
+    private final ObjectProvider<StoryGeoIndex> storyGeoIndexProvider;
+    // 인기 스토리 색인 빈이 없거나 적재 전이면 좋아요 수 기준 DB 조회
+    private final ObjectProvider<StoryPopularityIndex> storyPopularityIndexProvider;
+    // 도시 통계 빈이 없거나 적재 전이면 DB 조회
+    private final ObjectProvider<StoryCityStatistics> storyCityStatisticsProvider;
 
     QResponseStoryListDto createQResponseStoryListDto() {
         return new QResponseStoryListDto(story.thumbnailImg, story.title, story.content, story.city, story.id, story.latitude, story.longitude, story.likeCnt, story.createdDate);
@@ -63,14 +93,32 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
         return null;
     }
 
-    //FIXME: 필요에 따라 eqCursorId와 하나로 합칠 필요 있음
-    private BooleanExpression PopularEqCursorId(Long cursorId) {
+    private BooleanExpression likeStoryLtCursorId(Long cursorId) {
         if (cursorId != null) {
-            return story.likeCnt.lt(cursorId);
+            return like.story.id.lt(cursorId);
         }
         return null;
     }
 
+    // (좋아요 수, id) 커서, 좋아요 수가 같은 스토리도 누락/중복 없이 조회
+    private BooleanExpression PopularEqCursorId(Long cursorId) {
+        if (cursorId == null) {
+            return null;
+        }
+
+        Long likeCnt = query.select(story.likeCnt)
+                .from(story)
+                .where(story.id.eq(cursorId))
+                .fetchOne();
+
+        if (likeCnt == null) {
+            return story.id.lt(cursorId);
+        }
+
+        return story.likeCnt.lt(likeCnt)
+                .or(story.likeCnt.eq(likeCnt).and(story.id.lt(cursorId)));
+    }
+
     private OrderSpecifier<?> getOrderByClause(String sortCondition) {
         if ("asc".equalsIgnoreCase(sortCondition)) {
             return story.createdDate.asc(); // 생성 날짜 오름차순
@@ -115,13 +163,111 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
     private BooleanBuilder getSearchCondition(String search) {
         BooleanBuilder searchCondition = new BooleanBuilder();
 
-        if (!StringUtils.isBlank(search)) {
-            searchCondition.and((story.title.contains(search)).or(story.content.contains(search)));
+        if (NgramTokenizer.isSearchable(search)) {
+            Set<String> tokens = NgramTokenizer.tokenize(search);
+
+            // 검색어의 모든 2-gram을 제목 또는 본문에 가진 스토리
+            searchCondition.and(story.id.in(
+                    JPAExpressions.select(storySearchToken.story.id)
+                            .from(storySearchToken)
+                            .where(storySearchToken.token.in(tokens))
+                            .groupBy(storySearchToken.story.id)
+                            .having(storySearchToken.token.countDistinct().eq((long) tokens.size()))
+            ));
+            searchCondition.and(containsSearch(search));
+        } else if (!StringUtils.isBlank(search)) {
+            // 1글자 검색어는 색인으로 찾을 수 없어 LIKE 검색
+            searchCondition.and(containsSearch(search));
         }
 
         return searchCondition;
     }
 
+    /**
+     * 제목 또는 본문에 검색어를 그대로 포함하는지 여부
+     * 2-gram 을 모두 가져도 검색어를 포함하지 않을 수 있으므로(ex. "서울숲" 검색 시 "서울"과 "울숲"이 떨어져 있는 스토리) 색인 후보를 다시 확인하는 데 사용
+     */
+    private BooleanExpression containsSearch(String search) {
+        return story.title.contains(search).or(story.content.contains(search));
+    }
+
+    private NumberExpression<Long> getSearchScore() {
+        return new CaseBuilder()
+                .when(storySearchToken.field.eq(StorySearchField.TITLE)).then(TITLE_WEIGHT)
+                .otherwise(CONTENT_WEIGHT)
+                .sum();
+    }
+
+    /**
+     * 역색인 기반 검색, 점수 내림차순 -> story_id 내림차순으로 정렬
+     * 커서는 기존과 같이 마지막 story_id를 받고, 해당 스토리의 점수를 다시 계산해 (점수, id) 기준으로 다음 페이지를 조회
+     * @param conditions: story 에 대한 추가 조건
+     */
+    private Slice<ResponseStoryListDto> searchStoriesByIndex(String search, Long cursorId, Pageable pageable, Predicate... conditions) {
+
+        Set<String> tokens = NgramTokenizer.tokenize(search);
+        NumberExpression<Long> score = getSearchScore();
+
+        BooleanExpression cursorCondition = null;
+
+        if (cursorId != null) {
+            Long cursorScore = query.select(score)
+                    .from(storySearchToken)
+                    .where(storySearchToken.story.id.eq(cursorId),
+                            storySearchToken.token.in(tokens))
+                    .fetchOne();
+
+            // 커서 스토리가 수정되어 더 이상 검색되지 않으면 순위를 알 수 없으므로 다음 페이지 없음
+            if (cursorScore == null) {
+                return new SliceImpl<>(new ArrayList<>(), pageable, false);
+            }
+
+            cursorCondition = score.lt(cursorScore)
+                    .or(score.eq(cursorScore).and(story.id.lt(cursorId)));
+        }
+
+        List<Long> storyIds = query.select(story.id)
+                .from(storySearchToken)
+                .join(storySearchToken.story, story)
+                .where(storySearchToken.token.in(tokens))
+                .where(containsSearch(search))
+                .where(conditions)
+                .groupBy(story.id)
+                .having(storySearchToken.token.countDistinct().eq((long) tokens.size()),
+                        cursorCondition)
+                .orderBy(score.desc(), story.id.desc())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = storyIds.size() > pageable.getPageSize();
+
+        if (hasNext) {
+            storyIds = storyIds.subList(0, pageable.getPageSize());
+        }
+
+        if (storyIds.isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), pageable, false);
+        }
+
+        return new SliceImpl<>(findStoriesInOrder(storyIds), pageable, hasNext);
+    }
+
+    // story_id 목록 순서대로 스토리 조회
+    private List<ResponseStoryListDto> findStoriesInOrder(List<Long> storyIds) {
+
+        Map<Long, ResponseStoryListDto> storyById = query.select(createQResponseStoryListDto())
+                .from(story)
+                .where(story.id.in(storyIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ResponseStoryListDto::storyId, Function.identity()));
+
+        return storyIds.stream()
+                .map(storyById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private BooleanBuilder getDeleteCondition() {
         BooleanBuilder deleteCondition = new BooleanBuilder();
 
@@ -133,6 +279,14 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
     @Override
     public Slice<ResponseStoryListDto> findAllStories(Member member, Long cursorId, Pageable pageable, String city, String search) {
 
+        if (NgramTokenizer.isSearchable(search)) {
+            return searchStoriesByIndex(search, cursorId, pageable,
+                    getCityCondition(city),
+                    getDeleteCondition(),
+                    story.isHidden.eq(false)
+            );
+        }
+
         List<ResponseStoryListDto> stories = query.select(createQResponseStoryListDto())
                 .from(story)
                 .where(getCityCondition(city),
@@ -172,6 +326,20 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
     @Override
     public List<ResponseStoryListDto> findStoryByMap(Member findMember, GeoPointDto geoPointLt, GeoPointDto geoPointRb) {
 
+        StoryGeoIndex storyGeoIndex = storyGeoIndexProvider.getIfAvailable();
+
+        if (storyGeoIndex != null && storyGeoIndex.isLoaded()) {
+            List<Long> storyIds = storyGeoIndex.findStoryIds(findMember.getId(),
+                    Math.min(geoPointLt.latitude(), geoPointRb.latitude()),
+                    Math.max(geoPointLt.latitude(), geoPointRb.latitude()),
+                    Math.min(geoPointLt.longitude(), geoPointRb.longitude()),
+                    Math.max(geoPointLt.longitude(), geoPointRb.longitude()),
+                    MAX_MAP_STORIES
+            );
+
+            return storyIds.isEmpty() ? new ArrayList<>() : findStoriesInOrder(storyIds);
+        }
+
         return query.select(createQResponseStoryListDto())
                 .from(story)
                 .where(story.latitude.between(
@@ -187,12 +355,22 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
                         getDeleteCondition()
                 )
                 .orderBy(getOrderByClause("desc"))
+                .limit(MAX_MAP_STORIES)
                 .fetch();
     }
 
     @Override
     public Slice<ResponseStoryListDto> findStoriesByMemberAndCityAndSearch(Long cursorId, Pageable pageable, Member findMember, String city, String search) {
 
+        if (NgramTokenizer.isSearchable(search)) {
+            return searchStoriesByIndex(search, cursorId, pageable,
+                    getIsAuthorCondition(findMember),
+                    getCityCondition(city),
+                    getHiddenCondition(findMember),
+                    getDeleteCondition()
+            );
+        }
+
         List<ResponseStoryListDto> stories = query.select(createQResponseStoryListDto())
                 .from(story)
                 .where(
@@ -226,6 +404,58 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
                 .fetch();
     }
 
+    @Override
+    public Optional<StoryDetailDto> findStoryDetail(Long storyId) {
+
+        // member 는 FK 컬럼만 사용하므로 join 하지 않음
+        Tuple tuple = query.select(story.id,
+                        story.member.id,
+                        story.title,
+                        story.content,
+                        story.thumbnailImg,
+                        story.latitude,
+                        story.longitude,
+                        story.city,
+                        story.likeCnt,
+                        story.isHidden,
+                        story.isDeleted,
+                        story.createdDate,
+                        story.commentCnt
+                )
+                .from(story)
+                .where(story.id.eq(storyId))
+                .fetchOne();
+
+        if (tuple == null) {
+            return Optional.empty();
+        }
+
+        StringPath imgUrl = Expressions.stringPath("imgUrl");
+
+        List<String> imgUrls = query.select(imgUrl)
+                .from(story)
+                .join(story.imgUrls, imgUrl)
+                .where(story.id.eq(storyId))
+                .fetch();
+
+        return Optional.of(StoryDetailDto.builder()
+                .id(tuple.get(story.id))
+                .authorId(tuple.get(story.member.id))
+                .title(tuple.get(story.title))
+                .content(tuple.get(story.content))
+                .thumbnailImg(tuple.get(story.thumbnailImg))
+                .latitude(tuple.get(story.latitude))
+                .longitude(tuple.get(story.longitude))
+                .city(tuple.get(story.city))
+                .likeCnt(tuple.get(story.likeCnt))
+                .isHidden(Boolean.TRUE.equals(tuple.get(story.isHidden)))
+                .isDeleted(Boolean.TRUE.equals(tuple.get(story.isDeleted)))
+                .createDate(tuple.get(story.createdDate))
+                .imgUrls(List.copyOf(imgUrls))
+                .commentCnt(tuple.get(story.commentCnt))
+                .build());
+    }
+
     @Override
     public Boolean isLikedMember(Member findMember, Story findStory) {
 
@@ -240,6 +470,13 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
 
     @Override
     public Optional<String> getRecommendedRandomCity() {
+
+        StoryCityStatistics storyCityStatistics = storyCityStatisticsProvider.getIfAvailable();
+
+        if (storyCityStatistics != null && storyCityStatistics.isLoaded()) {
+            return storyCityStatistics.getRandomCity();
+        }
+
         String randomCity = query.select(story.city)
                 .from(story)
                 .where(
@@ -256,6 +493,12 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
     @Override
     public Optional<String> getRecommendedRecentPopularCity() {
 
+        StoryCityStatistics storyCityStatistics = storyCityStatisticsProvider.getIfAvailable();
+
+        if (storyCityStatistics != null && storyCityStatistics.isLoaded()) {
+            return storyCityStatistics.getRecentPopularCity();
+        }
+
         // 서브쿼리로 최신 n개의 글을 가져온 후, 그 중에서 도시별로 그룹화하여 개수를 카운트
         QStory subStory = new QStory("subStory");
 
@@ -283,8 +526,32 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
     }
 
     @Override
-    public Slice<ResponseStoryListDto> getRecentPopularStories(Member member, Long cursorId, Pageable pageable) {
+    public ScoreCursorSlice<ResponseStoryListDto> getRecentPopularStories(Member member, Double cursorScore, Long cursorId, Pageable pageable) {
+
+        StoryPopularityIndex storyPopularityIndex = storyPopularityIndexProvider.getIfAvailable();
+
+        if (storyPopularityIndex != null && storyPopularityIndex.isLoaded()) {
+            List<RankedStory> ranks = storyPopularityIndex.findPage(cursorScore, cursorId, pageable.getPageSize() + 1);
+
+            boolean hasNext = ranks.size() > pageable.getPageSize();
+
+            if (hasNext) {
+                ranks = ranks.subList(0, pageable.getPageSize());
+            }
+
+            if (ranks.isEmpty()) {
+                return new ScoreCursorSlice<>(new ArrayList<>(), pageable, false, null);
+            }
 
+            List<ResponseStoryListDto> stories = findStoriesInOrder(ranks.stream().map(RankedStory::storyId).toList());
+
+            return new ScoreCursorSlice<>(stories, pageable, hasNext, ranks.get(ranks.size() - 1).score());
+        }
+
+        /*
+            색인이 없으면 좋아요 수 순으로 조회
+            cursorScore 는 다른 서버의 색인 점수일 수 있으므로 사용하지 않고, 커서 스토리의 좋아요 수를 다시 조회
+         */
         List<ResponseStoryListDto> stories = query.select(createQResponseStoryListDto())
                 .from(story)
                 .where(
@@ -294,25 +561,33 @@ public class StoryCustomRepositoryImpl implements StoryCustomRepository {
                 )
                 .limit(pageable.getPageSize() + 1)
                 .orderBy(
-                        getOrderByClause("popular")
+                        getOrderByClause("popular"),
+                        story.id.desc()
                 )
                 .fetch();
 
         boolean hasNext = isHaveNextStoryList(stories, pageable);
 
-        return new SliceImpl<>(stories, pageable, hasNext);
+        // 좋아요 수를 색인 점수로 오인하지 않도록 점수 커서 없이 id 커서만 사용
+        return new ScoreCursorSlice<>(stories, pageable, hasNext, null);
     }
 
     @Override
     public Slice<ResponseStoryListDto> findLikeStories(Member findMember, Pageable pageable, Long cursorId) {
+
+        /*
+            likes 의 (member_id, story_id) 유니크 인덱스를 역순으로 범위 탐색
+            커서와 정렬 모두 likes.story_id 기준이라 스토리 순서(작성 순)와 커서가 일치함
+         */
         List<ResponseStoryListDto> stories = query.select(createQResponseStoryListDto())
                 .from(like)
+                .join(like.story, story)
                 .where(like.member.id.eq(findMember.getId()),
-                        eqCursorId(cursorId),
+                        likeStoryLtCursorId(cursorId),
                         getDeleteCondition()
                 )
                 .limit(pageable.getPageSize() + 1)
-                .orderBy(getOrderByClause("desc"))
+                .orderBy(like.story.id.desc())
                 .fetch();
 
         boolean hasNext = isHaveNextStoryList(stories, pageable);
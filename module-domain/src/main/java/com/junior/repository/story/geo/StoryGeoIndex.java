@@ -0,0 +1,194 @@
+package com.junior.repository.story.geo;
+
+import com.junior.domain.story.Story;
+import com.junior.event.story.StoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 지도 화면 조회용 스토리 좌표 색인
+ * 지도에는 회원 본인의 스토리만 표시되므로 회원별로 geohash(위도/경도 비트 interleave) 순서의 정렬 집합을 유지하고,
+ * 화면 영역을 덮는 geohash 셀의 범위만 탐색
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryGeoIndex {
+
+    // 위도/경도 각각 26bit, 약 0.6m 정밀도
+    static final int BITS_PER_AXIS = 26;
+    // 화면 영역을 덮는 셀 수 상한, 셀이 작을수록 영역 밖 좌표를 덜 탐색함
+    private static final int MAX_CELLS = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, NavigableSet<StoryPoint>> pointsByMemberId = new ConcurrentHashMap<>();
+    private final Map<Long, StoryPoint> pointByStoryId = new ConcurrentHashMap<>();
+
+    // 초기 적재 중 삭제된 스토리, 적재가 끝나기 전 조회한 이전 데이터가 다시 추가되지 않도록 함
+    private final Set<Long> removedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded = false;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 삭제되지 않은 전체 스토리 좌표를 적재, 적재 전에는 DB 조회를 사용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query(
+                "select story_id, member_id, latitude, longitude from story where is_deleted = false",
+                rs -> {
+                    long storyId = rs.getLong("story_id");
+
+                    if (!removedDuringLoad.contains(storyId) && !pointByStoryId.containsKey(storyId)) {
+                        put(new StoryPoint(storyId, rs.getLong("member_id"), rs.getDouble("latitude"), rs.getDouble("longitude")));
+                    }
+                }
+        );
+
+        loaded = true;
+        removedDuringLoad.clear();
+
+        log.info("[{}] 스토리 좌표 색인 적재 완료 story 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), pointByStoryId.size());
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener
+    public void onStoryChanged(StoryChangedEvent event) {
+        Story story = event.getStory();
+
+        if (story.getIsDeleted()) {
+            remove(story.getId());
+        } else {
+            put(new StoryPoint(story.getId(), story.getMember().getId(), story.getLatitude(), story.getLongitude()));
+        }
+    }
+
+    public void put(StoryPoint point) {
+        remove(point.storyId());
+
+        pointsByMemberId.computeIfAbsent(point.memberId(), id -> new ConcurrentSkipListSet<>()).add(point);
+        pointByStoryId.put(point.storyId(), point);
+    }
+
+    public void remove(Long storyId) {
+        if (!loaded) {
+            removedDuringLoad.add(storyId);
+        }
+
+        StoryPoint point = pointByStoryId.remove(storyId);
+
+        if (point != null) {
+            NavigableSet<StoryPoint> points = pointsByMemberId.get(point.memberId());
+
+            if (points != null) {
+                points.remove(point);
+            }
+        }
+    }
+
+    /**
+     * 회원의 스토리 중 영역 안에 있는 스토리 id를 최신순으로 조회
+     * @param limit: 최대 조회 수
+     */
+    public List<Long> findStoryIds(Long memberId, double minLat, double maxLat, double minLng, double maxLng, int limit) {
+        return findPoints(memberId, minLat, maxLat, minLng, maxLng).stream()
+                .map(StoryPoint::storyId)
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 회원의 스토리 중 영역 안에 있는 스토리 좌표 조회
+     */
+    public List<StoryPoint> findPoints(Long memberId, double minLat, double maxLat, double minLng, double maxLng) {
+
+        NavigableSet<StoryPoint> points = pointsByMemberId.get(memberId);
+        List<StoryPoint> result = new ArrayList<>();
+
+        if (points == null || points.isEmpty()) {
+            return result;
+        }
+
+        // 셀 수가 MAX_CELLS 이하가 되는 가장 작은 셀 크기 선택
+        int level = BITS_PER_AXIS;
+        while (level > 0 && cellCount(minLat, maxLat, minLng, maxLng, level) > MAX_CELLS) {
+            level--;
+        }
+
+        int shift = 2 * (BITS_PER_AXIS - level);
+        long minX = toCell(minLng, -180, 180, level), maxX = toCell(maxLng, -180, 180, level);
+        long minY = toCell(minLat, -90, 90, level), maxY = toCell(maxLat, -90, 90, level);
+
+        for (long x = minX; x <= maxX; x++) {
+            for (long y = minY; y <= maxY; y++) {
+                long from = interleave(x, y) << shift;
+                long to = (interleave(x, y) + 1) << shift;
+
+                for (StoryPoint point : points.subSet(StoryPoint.lowerBound(from), true, StoryPoint.lowerBound(to), false)) {
+                    if (point.latitude() >= minLat && point.latitude() <= maxLat
+                            && point.longitude() >= minLng && point.longitude() <= maxLng) {
+                        result.add(point);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static long cellCount(double minLat, double maxLat, double minLng, double maxLng, int level) {
+        return (toCell(maxLng, -180, 180, level) - toCell(minLng, -180, 180, level) + 1)
+                * (toCell(maxLat, -90, 90, level) - toCell(minLat, -90, 90, level) + 1);
+    }
+
+    static long toCell(double value, double min, double max, int level) {
+        long cells = 1L << level;
+        long cell = (long) ((value - min) / (max - min) * cells);
+
+        return Math.max(0, Math.min(cells - 1, cell));
+    }
+
+    // x(경도), y(위도) 셀 번호의 비트를 교차시켜 geohash 값 생성
+    static long interleave(long x, long y) {
+        long hash = 0;
+
+        for (int i = BITS_PER_AXIS - 1; i >= 0; i--) {
+            hash = (hash << 1) | ((x >> i) & 1);
+            hash = (hash << 1) | ((y >> i) & 1);
+        }
+
+        return hash;
+    }
+
+    public record StoryPoint(Long storyId, Long memberId, double latitude, double longitude, long geohash) implements Comparable<StoryPoint> {
+
+        public StoryPoint(Long storyId, Long memberId, double latitude, double longitude) {
+            this(storyId, memberId, latitude, longitude,
+                    interleave(toCell(longitude, -180, 180, BITS_PER_AXIS), toCell(latitude, -90, 90, BITS_PER_AXIS)));
+        }
+
+        private static StoryPoint lowerBound(long geohash) {
+            return new StoryPoint(Long.MIN_VALUE, null, 0, 0, geohash);
+        }
+
+        @Override
+        public int compareTo(StoryPoint other) {
+            int compare = Long.compare(geohash, other.geohash);
+            return compare != 0 ? compare : Long.compare(storyId, other.storyId);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.junior.repository.story.popular;
+
+import com.junior.domain.story.Story;
+import com.junior.event.story.StoryChangedEvent;
+import com.junior.event.story.StoryEngagementEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 최근 인기 스토리 순위 색인
+ * 반응 수(좋아요, 댓글, 조회수)가 반감기마다 절반으로 줄어드는 점수를 사용
+ * score = ln(1 + 반응 수) + ln2 * 작성 시각 / 반감기
+ * 작성 시각을 점수에 더하는 방식이라 시간이 지나도 스토리 간 순서가 바뀌지 않으므로, 반응이 생긴 스토리의 점수만 다시 계산함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryPopularityIndex {
+
+    // 점수 기준 시각(2024-01-01), 점수 값을 작게 유지하기 위함
+    private static final long SCORE_EPOCH_SECONDS = 1_704_067_200L;
+    static final double HALF_LIFE_SECONDS = 24 * 60 * 60;
+
+    // 반응 종류별 가중치
+    static final double LIKE_WEIGHT = 1.0;
+    static final double COMMENT_WEIGHT = 2.0;
+    static final double VIEW_WEIGHT = 0.05;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Ranking ranking = new Ranking();
+    private volatile boolean loaded = false;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 삭제/숨김되지 않은 전체 스토리의 반응 수를 다시 읽어 순위를 재생성
+     * 여러 서버에서 발생한 반응은 각 서버의 색인에만 반영되므로 주기적으로 호출해 DB와 맞춤
+     */
+    public void reload() {
+        Ranking fresh = new Ranking();
+
+        jdbcTemplate.query(
+                "select s.story_id, s.like_cnt, s.view_cnt, s.comment_cnt, s.created_date " +
+                        "from story s where s.is_deleted = false and s.is_hidden = false",
+                rs -> {
+                    Timestamp createdDate = rs.getTimestamp("created_date");
+
+                    // 작성 시각이 없는 스토리는 가장 오래된 스토리로 취급
+                    fresh.put(rs.getLong("story_id"),
+                            rs.getLong("like_cnt"),
+                            rs.getLong("comment_cnt"),
+                            rs.getLong("view_cnt"),
+                            createdDate != null ? toEpochSeconds(createdDate.toLocalDateTime()) : SCORE_EPOCH_SECONDS);
+                }
+        );
+
+        // 재생성 중 반영된 반응은 새 순위에 없을 수 있으나 다음 재생성 때 맞춰짐
+        ranking = fresh;
+        loaded = true;
+
+        log.info("[{}] 인기 스토리 색인 적재 완료 story 수: {}", Thread.currentThread().getStackTrace()[1].getMethodName(), fresh.entries.size());
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener
+    public void onStoryChanged(StoryChangedEvent event) {
+        Story story = event.getStory();
+
+        if (story.getIsDeleted() || story.isHidden()) {
+            remove(story.getId());
+        } else if (story.getCreatedDate() != null) {
+            ranking.putIfAbsent(story.getId(), story.getLikeCnt(), story.getCommentCnt(), story.getViewCnt(), toEpochSeconds(story.getCreatedDate()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStoryEngagement(StoryEngagementEvent event) {
+        add(event.getStoryId(), event.getLikeDelta(), event.getCommentDelta(), event.getViewDelta());
+    }
+
+    public void put(Long storyId, long likeCnt, long commentCnt, long viewCnt, LocalDateTime createdDate) {
+        ranking.put(storyId, likeCnt, commentCnt, viewCnt, toEpochSeconds(createdDate));
+    }
+
+    /**
+     * 반응 수 변경, 색인에 없는 스토리(삭제/숨김)는 무시
+     */
+    public void add(Long storyId, long likeDelta, long commentDelta, long viewDelta) {
+        ranking.add(storyId, likeDelta, commentDelta, viewDelta);
+    }
+
+    public void remove(Long storyId) {
+        ranking.remove(storyId);
+    }
+
+    /**
+     * 점수 내림차순(같으면 id 내림차순)으로 커서 다음 스토리 조회
+     * @param cursorScore: 이전 페이지 마지막 스토리의 점수, 없으면 cursorId 스토리의 현재 점수 사용
+     * @param cursorId: 이전 페이지 마지막 스토리 id, 없으면 첫 페이지
+     * @param limit: 최대 조회 수
+     */
+    public List<RankedStory> findPage(Double cursorScore, Long cursorId, int limit) {
+
+        Ranking current = ranking;
+        NavigableSet<RankedStory> ranks = current.ranks;
+
+        if (cursorId != null) {
+            Double score = cursorScore;
+
+            if (score == null) {
+                Entry entry = current.entries.get(cursorId);
+
+                // 커서 스토리가 삭제/숨김되어 순위를 알 수 없으므로 다음 페이지 없음
+                if (entry == null) {
+                    return new ArrayList<>();
+                }
+                score = entry.score();
+            }
+
+            ranks = ranks.tailSet(new RankedStory(cursorId, score), false);
+        }
+
+        List<RankedStory> result = new ArrayList<>();
+        Set<Long> storyIds = new HashSet<>();
+
+        for (RankedStory rank : ranks) {
+            if (result.size() >= limit) {
+                break;
+            }
+
+            // 점수 갱신 중에는 같은 스토리가 잠시 두 번 들어있을 수 있음
+            if (storyIds.add(rank.storyId())) {
+                result.add(rank);
+            }
+        }
+
+        return result;
+    }
+
+    public static double score(long likeCnt, long commentCnt, long viewCnt, long createdEpochSeconds) {
+        double engagement = LIKE_WEIGHT * Math.max(0, likeCnt)
+                + COMMENT_WEIGHT * Math.max(0, commentCnt)
+                + VIEW_WEIGHT * Math.max(0, viewCnt);
+
+        return Math.log1p(engagement) + Math.log(2) * (createdEpochSeconds - SCORE_EPOCH_SECONDS) / HALF_LIFE_SECONDS;
+    }
+
+    private static long toEpochSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * 점수 내림차순, 같으면 id 내림차순
+     */
+    public record RankedStory(Long storyId, double score) implements Comparable<RankedStory> {
+
+        @Override
+        public int compareTo(RankedStory other) {
+            int compare = Double.compare(other.score, score);
+            return compare != 0 ? compare : other.storyId.compareTo(storyId);
+        }
+    }
+
+    private record Entry(long likeCnt, long commentCnt, long viewCnt, long createdEpochSeconds, double score) {
+
+        static Entry of(long likeCnt, long commentCnt, long viewCnt, long createdEpochSeconds) {
+            return new Entry(likeCnt, commentCnt, viewCnt, createdEpochSeconds, StoryPopularityIndex.score(likeCnt, commentCnt, viewCnt, createdEpochSeconds));
+        }
+
+        Entry add(long likeDelta, long commentDelta, long viewDelta) {
+            return of(likeCnt + likeDelta, commentCnt + commentDelta, viewCnt + viewDelta, createdEpochSeconds);
+        }
+    }
+
+    private static class Ranking {
+
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final NavigableSet<RankedStory> ranks = new ConcurrentSkipListSet<>();
+
+        void put(Long storyId, long likeCnt, long commentCnt, long viewCnt, long createdEpochSeconds) {
+            entries.compute(storyId, (id, old) -> replace(id, old, Entry.of(likeCnt, commentCnt, viewCnt, createdEpochSeconds)));
+        }
+
+        void putIfAbsent(Long storyId, long likeCnt, long commentCnt, long viewCnt, long createdEpochSeconds) {
+            entries.compute(storyId, (id, old) -> old != null ? old : replace(id, null, Entry.of(likeCnt, commentCnt, viewCnt, createdEpochSeconds)));
+        }
+
+        void add(Long storyId, long likeDelta, long commentDelta, long viewDelta) {
+            entries.computeIfPresent(storyId, (id, old) -> replace(id, old, old.add(likeDelta, commentDelta, viewDelta)));
+        }
+
+        void remove(Long storyId) {
+            entries.computeIfPresent(storyId, (id, old) -> {
+                ranks.remove(new RankedStory(id, old.score()));
+                return null;
+            });
+        }
+
+        // 새 순위를 먼저 넣고 이전 순위를 제거, 조회 중 스토리가 누락되지 않도록 함
+        private Entry replace(Long storyId, Entry old, Entry entry) {
+            ranks.add(new RankedStory(storyId, entry.score()));
+
+            if (old != null && Double.compare(old.score(), entry.score()) != 0) {
+                ranks.remove(new RankedStory(storyId, old.score()));
+            }
+
+            return entry;
+        }
+    }
+}
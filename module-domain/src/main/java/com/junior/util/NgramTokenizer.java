@@ -0,0 +1,67 @@
+package com.junior.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 스토리 검색 색인용 2-gram 토크나이저
+ * 한글은 조사가 붙어 형태소 분리 없이 공백 기준 검색이 어렵기 때문에 단어를 2글자 단위로 잘라 색인
+ * ex) "서울여행을" -> 서울, 울여, 여행, 행을
+ */
+public final class NgramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    // 문자, 숫자 이외의 문자는 단어 구분자로 취급
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 중복 없는 2-gram 집합으로 변환, 2글자 미만인 단어는 색인하지 않음
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+
+        if (text == null) {
+            return tokens;
+        }
+
+        for (String word : DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            int[] codePoints = word.codePoints().toArray();
+
+            for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, GRAM_SIZE));
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * 색인으로 검색 가능한 검색어인지 확인
+     * 1글자 단어가 섞여 있으면 2-gram으로 표현할 수 없으므로 LIKE 검색을 사용해야 함
+     */
+    public static boolean isSearchable(String search) {
+        if (search == null) {
+            return false;
+        }
+
+        boolean hasWord = false;
+
+        for (String word : DELIMITER.split(search.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.codePointCount(0, word.length()) < GRAM_SIZE) {
+                return false;
+            }
+            hasWord = true;
+        }
+
+        return hasWord;
+    }
+}
@@ -0,0 +1,57 @@
+package com.junior.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+
+/**
+ * Redis 에 저장하는 토큰 버킷, 여러 서버가 같은 키의 버킷을 공유
+ * 토큰 계산은 Redis 서버 시각(TIME)을 기준으로 스크립트 안에서 처리해 서버 간 시각 차이와 동시 요청에 영향받지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucket {
+
+    private static final String KEY_PREFIX = "rl:";
+
+    // 버킷이 가득 찬 뒤에도 이 시간만큼 유지 후 만료
+    private static final long EXPIRE_MARGIN_MILLIS = 1000;
+
+    // 반환값: 0 이면 토큰 사용, 0 보다 크면 다음 토큰까지 남은 시간(ms)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+                    "local rate = tonumber(ARGV[2]) " +
+                    "local time = redis.call('TIME') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+                    "local tokens = tonumber(state[1]) " +
+                    "local ts = tonumber(state[2]) " +
+                    "if tokens == nil or ts == nil then tokens = capacity ts = now end " +
+                    "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+                    "local wait = 0 " +
+                    "if tokens >= 1 then tokens = tokens - 1 else wait = math.ceil((1 - tokens) / rate) end " +
+                    "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+                    "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + tonumber(ARGV[3])) " +
+                    "return wait",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * key 버킷에서 토큰 하나 사용
+     * @param capacity: 버킷 크기(최대 연속 요청 수)
+     * @param refillPerSecond: 초당 채워지는 토큰 수
+     * @return 0 이면 허용, 0 보다 크면 다음 요청이 허용될 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(String key, long capacity, double refillPerSecond) {
+
+        Long waitMillis = redisTemplate.execute(ACQUIRE_SCRIPT, Collections.singletonList(KEY_PREFIX + key),
+                String.valueOf(capacity), String.valueOf(refillPerSecond / 1000.0), String.valueOf(EXPIRE_MARGIN_MILLIS));
+
+        return waitMillis != null ? waitMillis : 0L;
+    }
+}
@@ -0,0 +1,201 @@
+package com.junior.util;
+
+import com.junior.event.member.MemberChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * refresh token 저장소
+ * 토큰 원문 대신 세션 id 를 키로, 토큰 digest 를 값으로 저장하고 회원별 세션 id 를 SET 으로 관리
+ * rt:{memberId}:s:{sessionId} -> 토큰 digest
+ * rt:{memberId}:sessions -> 세션 id SET
+ * 회원의 키는 같은 hash tag({memberId}) 를 사용해 cluster 에서도 같은 slot 에 저장, 스크립트에서 함께 사용 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    // refresh token 만료 기간(6개월)과 같게 유지
+    public static final Duration TTL = Duration.ofSeconds(15778800);
+
+    // SHA-256 앞 16 byte 만 사용, base64url 22자
+    private static final int DIGEST_BYTES = 16;
+    private static final int SESSION_ID_BYTES = 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // 만료되어 세션 키가 없는 세션 id 를 회원 세션 SET 에서 제거, KEYS[2]: 회원 세션 SET, prefix: 세션 키 prefix
+    private static final String PRUNE_SESSIONS =
+            "for _, id in ipairs(redis.call('SMEMBERS', KEYS[2])) do " +
+                    "  if redis.call('EXISTS', prefix .. id) == 0 then redis.call('SREM', KEYS[2], id) end " +
+                    "end ";
+
+    // 세션 저장 후 만료된 세션 id 정리, 로그인할 때마다 만료된 세션 id 가 SET 에 쌓이지 않도록 함
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "local prefix = ARGV[4] " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[2]) " +
+                    PRUNE_SESSIONS +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    // 저장된 digest 가 이전 토큰과 같으면 새 토큰으로 교체, 다르면 이미 교체된 토큰의 재사용으로 보고 세션 폐기
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local prefix = ARGV[5] " +
+                    "local current = redis.call('GET', KEYS[1]) " +
+                    "if not current then return 0 end " +
+                    "if current ~= ARGV[1] then " +
+                    "  redis.call('DEL', KEYS[1]) " +
+                    "  redis.call('SREM', KEYS[2], ARGV[4]) " +
+                    "  return -1 " +
+                    "end " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+                    PRUNE_SESSIONS +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    // 저장된 digest 가 같을 때만 삭제, 이미 교체된 토큰으로 다른 기기의 세션을 지우지 않도록 함
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "  redis.call('DEL', KEYS[1]) " +
+                    "  redis.call('SREM', KEYS[2], ARGV[2]) " +
+                    "  return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 새 로그인 세션 id 생성, 세션 id 는 refresh token 의 sid claim 에 담아 재발급 시에도 유지
+     */
+    public String createSessionId() {
+        byte[] bytes = new byte[SESSION_ID_BYTES];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * 세션의 refresh token 저장, 세션 키 저장과 회원 세션 SET 갱신, 만료된 세션 id 정리를 한 번의 스크립트로 실행
+     */
+    public void save(Long memberId, String sessionId, String refreshToken) {
+        redisTemplate.execute(SAVE_SCRIPT,
+                Arrays.asList(sessionKey(memberId, sessionId), sessionsKey(memberId)),
+                digest(refreshToken), sessionId, String.valueOf(TTL.getSeconds()), sessionKeyPrefix(memberId));
+    }
+
+    /**
+     * 이전 토큰이 세션의 현재 토큰이면 새 토큰으로 교체
+     * @return ROTATED: 교체 완료, NOT_FOUND: 세션 없음(로그아웃 또는 만료), REUSED: 이미 교체된 토큰, 세션 폐기됨
+     */
+    public RotateResult rotate(Long memberId, String sessionId, String oldRefreshToken, String newRefreshToken) {
+
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                Arrays.asList(sessionKey(memberId, sessionId), sessionsKey(memberId)),
+                digest(oldRefreshToken), digest(newRefreshToken), String.valueOf(TTL.getSeconds()), sessionId, sessionKeyPrefix(memberId));
+
+        if (result == null || result == 0L) {
+            return RotateResult.NOT_FOUND;
+        }
+
+        return result > 0 ? RotateResult.ROTATED : RotateResult.REUSED;
+    }
+
+    /**
+     * 세션의 현재 토큰이 refreshToken 이면 세션 삭제(로그아웃)
+     * @return 삭제 여부
+     */
+    public boolean delete(Long memberId, String sessionId, String refreshToken) {
+
+        Long result = redisTemplate.execute(DELETE_SCRIPT,
+                Arrays.asList(sessionKey(memberId, sessionId), sessionsKey(memberId)),
+                digest(refreshToken), sessionId);
+
+        return result != null && result > 0L;
+    }
+
+    /**
+     * 회원의 모든 세션 삭제(모든 기기 로그아웃)
+     * @return 삭제한 세션 수
+     */
+    public int deleteAll(Long memberId) {
+
+        String sessionsKey = sessionsKey(memberId);
+        Set<String> sessionIds = redisTemplate.opsForSet().members(sessionsKey);
+
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>(sessionIds.size() + 1);
+        for (String sessionId : sessionIds) {
+            keys.add(sessionKey(memberId, sessionId));
+        }
+        keys.add(sessionsKey);
+
+        // 모든 키가 같은 slot 이라 DEL 한 번으로 삭제
+        redisTemplate.delete(keys);
+
+        return sessionIds.size();
+    }
+
+    // 탈퇴가 커밋된 뒤에만 삭제, 탈퇴가 롤백되면 로그인 세션 유지
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.isDeleted()) {
+            deleteAll(event.getMemberId());
+        }
+    }
+
+    /**
+     * 회원의 세션 id 목록
+     */
+    public Set<String> getSessionIds(Long memberId) {
+        Set<String> sessionIds = redisTemplate.opsForSet().members(sessionsKey(memberId));
+        return sessionIds != null ? sessionIds : Collections.emptySet();
+    }
+
+    static String sessionKey(Long memberId, String sessionId) {
+        return sessionKeyPrefix(memberId) + sessionId;
+    }
+
+    static String sessionKeyPrefix(Long memberId) {
+        return "rt:{" + memberId + "}:s:";
+    }
+
+    static String sessionsKey(Long memberId) {
+        return "rt:{" + memberId + "}:sessions";
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(Arrays.copyOf(hash, DIGEST_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum RotateResult {
+        ROTATED, NOT_FOUND, REUSED
+    }
+}
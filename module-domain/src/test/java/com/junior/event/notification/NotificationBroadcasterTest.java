@@ -0,0 +1,44 @@
+package com.junior.event.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationBroadcasterTest {
+
+    @Test
+    @DisplayName("알림 전파 메시지 - 인코딩한 메시지를 디코딩하면 원래 값과 같아야 함")
+    void encode_decode() {
+
+        //given
+        Map<Long, List<Long>> notificationIdsByMemberId = new LinkedHashMap<>();
+        notificationIdsByMemberId.put(1L, List.of(10L, 12L));
+        notificationIdsByMemberId.put(2L, List.of(11L));
+
+        //when
+        String message = NotificationBroadcaster.encode(notificationIdsByMemberId);
+
+        //then
+        assertThat(message).isEqualTo("1:10,12;2:11");
+        assertThat(NotificationBroadcaster.decode(message)).containsExactly(
+                Map.entry(1L, List.of(10L, 12L)),
+                Map.entry(2L, List.of(11L))
+        );
+    }
+
+    @Test
+    @DisplayName("알림 전파 메시지 - 형식에 맞지 않는 항목은 무시해야 함")
+    void decode_invalid() {
+
+        //when
+        Map<Long, List<Long>> result = NotificationBroadcaster.decode("invalid;3:30");
+
+        //then
+        assertThat(result).containsExactly(Map.entry(3L, List.of(30L)));
+    }
+}
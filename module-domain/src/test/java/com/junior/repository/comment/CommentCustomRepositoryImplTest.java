@@ -136,6 +136,7 @@ public class CommentCustomRepositoryImplTest {
         commentRepository.save(parentComment2);
         commentRepository.save(parentComment3);
         commentRepository.save(childComment1);
+        commentRepository.increaseReplyCnt(parentComment3.getId());
 
         Pageable pageable = PageRequest.of(0, 5);
 
@@ -146,6 +147,74 @@ public class CommentCustomRepositoryImplTest {
         Assertions.assertThat(content.get(2).childCount()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("삭제된 답글은 parentComment의 답글 수에서 제외된다.")
+    public void findParentCommentByStoryId_replyCntTest() {
+        Member testMember = Member.builder().nickname("테스트닉")
+                .username("KAKAO 3748293466")
+                .role(MemberRole.USER)
+                .status(MemberStatus.ACTIVE)
+                .signUpType(SignUpType.KAKAO)
+                .recommendLocation("서울")
+                .build();
+        memberRepository.save(testMember);
+
+        Story story = createStory(testMember, "title", "city");
+        storyRepository.save(story);
+
+        Comment parentComment = Comment.builder()
+                .content("content")
+                .member(testMember)
+                .story(story)
+                .build();
+        commentRepository.save(parentComment);
+
+        for (int i = 0; i < 3; i++) {
+            Comment childComment = Comment.builder()
+                    .content("child" + i)
+                    .member(testMember)
+                    .story(story)
+                    .build();
+            childComment.updateParent(parentComment);
+            commentRepository.save(childComment);
+            commentRepository.increaseReplyCnt(parentComment.getId());
+        }
+
+        commentRepository.decreaseReplyCnt(parentComment.getId());
+
+        Slice<ResponseParentCommentDto> result = commentRepository.findParentCommentByStoryId(testMember, story.getId(), PageRequest.of(0, 5), null);
+
+        Assertions.assertThat(result.getContent()).hasSize(1);
+        Assertions.assertThat(result.getContent().get(0).childCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("답글 수는 0보다 작아지지 않는다.")
+    public void decreaseReplyCntTest() {
+        Member testMember = Member.builder().nickname("테스트닉")
+                .username("KAKAO 3748293466")
+                .role(MemberRole.USER)
+                .status(MemberStatus.ACTIVE)
+                .signUpType(SignUpType.KAKAO)
+                .recommendLocation("서울")
+                .build();
+        memberRepository.save(testMember);
+
+        Story story = createStory(testMember, "title", "city");
+        storyRepository.save(story);
+
+        Comment parentComment = Comment.builder()
+                .content("content")
+                .member(testMember)
+                .story(story)
+                .build();
+        commentRepository.save(parentComment);
+
+        int updated = commentRepository.decreaseReplyCnt(parentComment.getId());
+
+        Assertions.assertThat(updated).isEqualTo(0);
+    }
+
     @Test
     @DisplayName("childComment를 slice로 조회할 수 있다.")
     public void findChildCommentByParentCommendIdTest() {
@@ -0,0 +1,148 @@
+package com.junior.repository.comment;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.story.Comment;
+import com.junior.domain.story.Story;
+import com.junior.dto.comment.ResponseChildCommentDto;
+import com.junior.dto.comment.ResponseParentCommentDto;
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.member.MemberRepository;
+import com.junior.repository.story.StoryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(CommentJdbcRepository.class)
+class CommentThreadRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentJdbcRepository commentJdbcRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Member author;
+    private Member replier;
+    private Story story;
+
+    @BeforeEach
+    void init() {
+        author = memberRepository.save(createActiveTestMember());
+        replier = memberRepository.save(createActiveTestMember2());
+        story = storyRepository.save(createStory(author));
+    }
+
+    private Comment saveParent() {
+        return commentRepository.save(createComment(author, story));
+    }
+
+    private Comment saveReply(Comment parent, Member member) {
+        Comment reply = createComment(member, story);
+        reply.updateParent(parent);
+        commentRepository.save(reply);
+        commentRepository.increaseReplyCnt(parent.getId());
+
+        return reply;
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 부모 댓글 조회 - 최신순으로 커서 이전 댓글을 중복 없이 조회해야 함")
+    void findThreadParentComments() {
+
+        //given
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(saveParent().getId());
+        }
+
+        //when
+        List<Long> foundIds = new ArrayList<>();
+        Long cursorId = null;
+        Slice<ResponseParentCommentDto> result;
+
+        do {
+            result = commentRepository.findThreadParentComments(author, story.getId(), PageRequest.of(0, 2), cursorId);
+            result.getContent().forEach(parent -> foundIds.add(parent.id()));
+            cursorId = result.getContent().isEmpty() ? null : result.getContent().get(result.getContent().size() - 1).id();
+        } while (result.hasNext());
+
+        //then
+        Collections.reverse(savedIds);
+        assertThat(foundIds).containsExactlyElementsOf(savedIds);
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 답글 조회 - 부모 댓글별 앞쪽 답글을 한 번의 쿼리로 조회해야 함")
+    void findFirstReplies() {
+
+        //given
+        Comment first = saveParent();
+        Comment second = saveParent();
+        Comment empty = saveParent();
+
+        Comment firstReply1 = saveReply(first, replier);
+        Comment firstReply2 = saveReply(first, author);
+        saveReply(first, replier);
+        Comment deletedReply = saveReply(second, replier);
+        deletedReply.deleteComment();
+        Comment secondReply = saveReply(second, replier);
+
+        em.flush();
+
+        //when
+        Map<Long, List<ResponseChildCommentDto>> result = commentJdbcRepository.findFirstReplies(
+                author.getId(), List.of(first.getId(), second.getId(), empty.getId()), 2);
+
+        //then
+        assertThat(result).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(result.get(first.getId()))
+                .extracting(ResponseChildCommentDto::id)
+                .containsExactly(firstReply1.getId(), firstReply2.getId());
+        assertThat(result.get(first.getId()))
+                .extracting(ResponseChildCommentDto::isAuthor)
+                .containsExactly(false, true);
+        assertThat(result.get(second.getId()))
+                .extracting(ResponseChildCommentDto::id)
+                .containsExactly(secondReply.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 다음 답글 조회 - 오래된 순으로 커서 이후 답글을 조회해야 함")
+    void findThreadReplies() {
+
+        //given
+        Comment parent = saveParent();
+        Comment reply1 = saveReply(parent, replier);
+        Comment reply2 = saveReply(parent, replier);
+        saveReply(parent, replier);
+
+        //when
+        Slice<ResponseChildCommentDto> result = commentRepository.findThreadReplies(null, parent.getId(), PageRequest.of(0, 1), reply1.getId());
+
+        //then
+        assertThat(result.getContent()).extracting(ResponseChildCommentDto::id).containsExactly(reply2.getId());
+        assertThat(result.getContent().get(0).isAuthor()).isFalse();
+        assertThat(result.hasNext()).isTrue();
+    }
+}
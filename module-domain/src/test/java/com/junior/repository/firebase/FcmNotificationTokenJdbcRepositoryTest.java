@@ -0,0 +1,141 @@
+package com.junior.repository.firebase;
+
+import com.junior.domain.firebase.FcmNotificationToken;
+import com.junior.domain.member.Member;
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.firebase.FcmNotificationTokenJdbcRepository.IdleToken;
+import com.junior.repository.member.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(FcmNotificationTokenJdbcRepository.class)
+class FcmNotificationTokenJdbcRepositoryTest extends BaseRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private FcmNotificationTokenJdbcRepository fcmNotificationTokenJdbcRepository;
+
+    @Autowired
+    private FcmNotificationTokenRepository fcmNotificationTokenRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+    private Member member2;
+
+    @BeforeEach
+    void init() {
+        member = memberRepository.save(createActiveTestMember());
+        member2 = memberRepository.save(createActiveTestMember2());
+    }
+
+    private List<String> findTokens(Member member) {
+        return fcmNotificationTokenRepository.findByMemberId(member.getId())
+                .stream()
+                .map(FcmNotificationToken::getToken)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("토큰 등록 - 새 토큰이면 저장하고 이전 회원이 없어야 함")
+    void upsert_new() {
+
+        //when
+        Optional<Long> previousMemberId = fcmNotificationTokenJdbcRepository.upsert(member.getId(), "token", NOW);
+
+        //then
+        assertThat(previousMemberId).isEmpty();
+        assertThat(findTokens(member)).containsExactly("token");
+    }
+
+    @Test
+    @DisplayName("토큰 등록 - 다른 회원이 등록한 토큰이면 현재 회원으로 옮기고 이전 회원을 반환해야 함")
+    void upsert_move() {
+
+        //given
+        fcmNotificationTokenJdbcRepository.upsert(member.getId(), "token", NOW);
+
+        //when
+        Optional<Long> previousMemberId = fcmNotificationTokenJdbcRepository.upsert(member2.getId(), "token", NOW.plusDays(1));
+
+        //then
+        assertThat(previousMemberId).contains(member.getId());
+        assertThat(findTokens(member)).isEmpty();
+        assertThat(findTokens(member2)).containsExactly("token");
+        assertThat(fcmNotificationTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 사용 시각 갱신 - 같은 회원이 등록한 토큰만 갱신해야 함")
+    void touch() {
+
+        //given
+        fcmNotificationTokenJdbcRepository.upsert(member.getId(), "token", NOW);
+
+        //when
+        boolean touched = fcmNotificationTokenJdbcRepository.touch(member.getId(), "token", NOW.plusDays(1));
+        boolean touchedByOther = fcmNotificationTokenJdbcRepository.touch(member2.getId(), "token", NOW.plusDays(1));
+        boolean touchedNew = fcmNotificationTokenJdbcRepository.touch(member.getId(), "newToken", NOW.plusDays(1));
+
+        //then
+        assertThat(touched).isTrue();
+        assertThat(touchedByOther).isFalse();
+        assertThat(touchedNew).isFalse();
+        assertThat(fcmNotificationTokenRepository.findByToken("token")).get()
+                .extracting(FcmNotificationToken::getLastUsedDate)
+                .isEqualTo(NOW.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("오래된 토큰 정리 - 기준 시각 이전에 마지막으로 사용된 토큰만 나누어 삭제해야 함")
+    void findIdleTokens_deleteIdleTokens() {
+
+        //given
+        fcmNotificationTokenJdbcRepository.upsert(member.getId(), "idle1", NOW.minusDays(90));
+        fcmNotificationTokenJdbcRepository.upsert(member2.getId(), "idle2", NOW.minusDays(70));
+        fcmNotificationTokenJdbcRepository.upsert(member.getId(), "active", NOW);
+        LocalDateTime before = NOW.minusDays(60);
+
+        //when
+        List<IdleToken> chunk = fcmNotificationTokenJdbcRepository.findIdleTokens(before, 1);
+        List<IdleToken> idleTokens = fcmNotificationTokenJdbcRepository.findIdleTokens(before, 10);
+        int deleted = fcmNotificationTokenJdbcRepository.deleteIdleTokens(idleTokens.stream().map(IdleToken::tokenId).toList(), before);
+
+        //then
+        assertThat(chunk).hasSize(1);
+        assertThat(idleTokens).extracting(IdleToken::memberId).containsExactly(member.getId(), member2.getId());
+        assertThat(deleted).isEqualTo(2);
+        assertThat(findTokens(member)).containsExactly("active");
+        assertThat(findTokens(member2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오래된 토큰 정리 - 조회 이후 다시 사용된 토큰은 삭제하지 않아야 함")
+    void deleteIdleTokens_touched() {
+
+        //given
+        fcmNotificationTokenJdbcRepository.upsert(member.getId(), "token", NOW.minusDays(90));
+        LocalDateTime before = NOW.minusDays(60);
+        List<IdleToken> idleTokens = fcmNotificationTokenJdbcRepository.findIdleTokens(before, 10);
+
+        fcmNotificationTokenJdbcRepository.touch(member.getId(), "token", NOW);
+
+        //when
+        int deleted = fcmNotificationTokenJdbcRepository.deleteIdleTokens(idleTokens.stream().map(IdleToken::tokenId).toList(), before);
+
+        //then
+        assertThat(deleted).isEqualTo(0);
+        assertThat(findTokens(member)).containsExactly("token");
+    }
+}
@@ -0,0 +1,283 @@
+package com.junior.repository.notification;
+
+import com.junior.domain.notification.Notification;
+import com.junior.domain.notification.NotificationType;
+import com.junior.dto.notification.ResponseNotificationDto;
+import com.junior.dto.notification.CreateNotificationDto;
+import com.junior.event.notification.NotificationCreateEvent;
+import com.junior.repository.BaseRepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(NotificationJdbcRepository.class)
+class NotificationJdbcRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    private NotificationCreateEvent createEvent(Long memberId, String content, LocalDateTime createdDate) {
+        CreateNotificationDto notification = CreateNotificationDto.builder()
+                .memberId(memberId)
+                .profileImgPath("s3.com/testProfile")
+                .storyId(1L)
+                .content(content)
+                .notificationType(NotificationType.COMMENT)
+                .build();
+
+        return new NotificationCreateEvent(notification, createdDate);
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 요청된 알림이 모두 읽지 않은 상태로 저장되어야 함")
+    void saveAll() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<NotificationCreateEvent> events = List.of(
+                createEvent(1L, "첫 번째 알림", createdDate),
+                createEvent(2L, "두 번째 알림", createdDate)
+        );
+
+        //when
+        notificationJdbcRepository.saveAll(events);
+
+        //then
+        List<Notification> result = notificationRepository.findAll();
+
+        assertThat(result).extracting(Notification::getContent).containsExactlyInAnyOrder("첫 번째 알림", "두 번째 알림");
+        assertThat(result).allSatisfy(notification -> {
+            assertThat(notification.getIsRead()).isFalse();
+            assertThat(notification.getIsDeleted()).isFalse();
+            assertThat(notification.getNotificationType()).isEqualTo(NotificationType.COMMENT);
+            assertThat(notification.getCreatedDate()).isEqualTo(createdDate);
+        });
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 한 문장 최대 개수를 넘는 알림도 모두 저장되어야 함")
+    void saveAll_chunk() {
+
+        //given
+        List<NotificationCreateEvent> events = new ArrayList<>();
+        for (int i = 0; i < 1201; i++) {
+            events.add(createEvent(1L, "알림" + i, LocalDateTime.of(2025, 1, 1, 12, 0)));
+        }
+
+        //when
+        notificationJdbcRepository.saveAll(events);
+
+        //then
+        assertThat(notificationRepository.count()).isEqualTo(1201);
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 저장된 알림 수만큼 회원별 읽지 않은 알림 수가 증가해야 함")
+    void saveAll_unreadCnt() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        notificationJdbcRepository.saveAll(List.of(createEvent(1L, "알림", createdDate)));
+
+        //when
+        notificationJdbcRepository.saveAll(List.of(
+                createEvent(1L, "알림", createdDate),
+                createEvent(1L, "알림", createdDate),
+                createEvent(2L, "알림", createdDate)
+        ));
+
+        //then
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(1L)).contains(3L);
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(2L)).contains(1L);
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알림 모두 읽음 - 삭제되지 않은 읽지 않은 알림만 한 번에 읽음 처리해야 함")
+    void readAllNotification() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        notificationJdbcRepository.saveAll(List.of(
+                createEvent(1L, "알림", createdDate),
+                createEvent(1L, "알림", createdDate),
+                createEvent(2L, "알림", createdDate)
+        ));
+
+        //when
+        int readCnt = notificationRepository.readAllNotification(1L);
+        notificationUnreadCountRepository.decreaseUnreadCnt(1L, readCnt);
+
+        //then
+        assertThat(readCnt).isEqualTo(2);
+        assertThat(notificationRepository.readAllNotification(1L)).isEqualTo(0);
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(1L)).contains(0L);
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(2L)).contains(1L);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 감소 - 0보다 작아지지 않아야 함")
+    void decreaseUnreadCnt() {
+
+        //given
+        notificationJdbcRepository.saveAll(List.of(createEvent(1L, "알림", LocalDateTime.of(2025, 1, 1, 12, 0))));
+
+        //when
+        notificationUnreadCountRepository.decreaseUnreadCnt(1L, 5);
+
+        //then
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(1L)).contains(0L);
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 저장된 알림 id를 요청 순서대로 반환해야 함")
+    void saveAll_ids() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        //when
+        List<Long> ids = notificationJdbcRepository.saveAll(List.of(
+                createEvent(1L, "첫 번째 알림", createdDate),
+                createEvent(2L, "두 번째 알림", createdDate)
+        ));
+
+        //then
+        assertThat(ids).hasSize(2);
+        assertThat(notificationRepository.findById(ids.get(0))).get().extracting(Notification::getContent).isEqualTo("첫 번째 알림");
+        assertThat(notificationRepository.findById(ids.get(1))).get().extracting(Notification::getContent).isEqualTo("두 번째 알림");
+    }
+
+    @Test
+    @DisplayName("실시간 알림 조회 - 해당 회원의 삭제되지 않은 알림만 id 순으로 조회해야 함")
+    void findStreamNotifications() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Long> ids = notificationJdbcRepository.saveAll(List.of(
+                createEvent(1L, "알림1", createdDate),
+                createEvent(1L, "알림2", createdDate),
+                createEvent(2L, "다른 회원 알림", createdDate)
+        ));
+
+        //when
+        List<ResponseNotificationDto> result = notificationRepository.findStreamNotifications(1L, ids);
+
+        //then
+        assertThat(result).extracting(ResponseNotificationDto::id).containsExactly(ids.get(0), ids.get(1));
+        assertThat(result).extracting(ResponseNotificationDto::content).containsExactly("알림1", "알림2");
+    }
+
+    @Test
+    @DisplayName("실시간 알림 재전송 조회 - 마지막으로 받은 알림 이후 알림을 limit 개까지 조회해야 함")
+    void findStreamNotificationsAfter() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Long> ids = notificationJdbcRepository.saveAll(List.of(
+                createEvent(1L, "알림1", createdDate),
+                createEvent(1L, "알림2", createdDate),
+                createEvent(1L, "알림3", createdDate),
+                createEvent(1L, "알림4", createdDate)
+        ));
+
+        //when
+        List<ResponseNotificationDto> result = notificationRepository.findStreamNotificationsAfter(1L, ids.get(0), 2);
+
+        //then
+        assertThat(result).extracting(ResponseNotificationDto::id).containsExactly(ids.get(1), ids.get(2));
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 묶인 알림 수가 저장되고 없으면 1로 저장되어야 함")
+    void saveAll_actorCnt() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        CreateNotificationDto coalesced = CreateNotificationDto.builder()
+                .memberId(1L)
+                .storyId(1L)
+                .content("묶인 알림")
+                .notificationType(NotificationType.LIKED)
+                .actorCnt(5L)
+                .build();
+
+        //when
+        List<Long> ids = notificationJdbcRepository.saveAll(List.of(
+                new NotificationCreateEvent(coalesced, createdDate),
+                createEvent(1L, "알림", createdDate)
+        ));
+
+        //then
+        assertThat(notificationRepository.findStreamNotifications(1L, ids))
+                .extracting(ResponseNotificationDto::actorCnt)
+                .containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 카운터가 없는 회원은 이전에 저장된 읽지 않은 알림까지 세어서 카운터를 생성해야 함")
+    void saveAll_createUnreadCnt() {
+
+        //given
+        notificationRepository.save(Notification.builder().memberId(1L).content("카운터 도입 전 알림").notificationType(NotificationType.COMMENT).build());
+        notificationRepository.save(Notification.builder().memberId(1L).content("읽은 알림").notificationType(NotificationType.COMMENT).isRead(true).build());
+        notificationRepository.flush();
+
+        //when
+        notificationJdbcRepository.saveAll(List.of(createEvent(1L, "알림", LocalDateTime.of(2025, 1, 1, 12, 0))));
+
+        //then
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(1L)).contains(2L);
+    }
+
+    @Test
+    @DisplayName("카운터 생성 - 이미 카운터가 있으면 생성하지 않아야 함")
+    void createUnreadCnt_duplicate() {
+
+        //given
+        notificationJdbcRepository.saveAll(List.of(createEvent(1L, "알림", LocalDateTime.of(2025, 1, 1, 12, 0))));
+
+        //when
+        boolean created = notificationJdbcRepository.createUnreadCnt(1L);
+
+        //then
+        assertThat(created).isFalse();
+        assertThat(notificationUnreadCountRepository.findUnreadCntByMemberId(1L)).contains(1L);
+    }
+
+    @Test
+    @DisplayName("알림 삭제 - 읽지 않은 알림만 읽지 않은 알림 삭제로 처리되고, 이미 삭제된 알림은 다시 삭제되지 않아야 함")
+    void deleteUnreadNotification() {
+
+        //given
+        LocalDateTime createdDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Long> ids = notificationJdbcRepository.saveAll(List.of(
+                createEvent(1L, "알림", createdDate),
+                createEvent(1L, "알림", createdDate)
+        ));
+        notificationRepository.readNotification(ids.get(1));
+
+        //when, then
+        assertThat(notificationRepository.deleteUnreadNotification(ids.get(0))).isEqualTo(1);
+        assertThat(notificationRepository.deleteUnreadNotification(ids.get(0))).isEqualTo(0);
+        assertThat(notificationRepository.deleteNotification(ids.get(0))).isEqualTo(0);
+
+        assertThat(notificationRepository.deleteUnreadNotification(ids.get(1))).isEqualTo(0);
+        assertThat(notificationRepository.deleteNotification(ids.get(1))).isEqualTo(1);
+
+        assertThat(notificationRepository.countUnreadNotification(1L)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,134 @@
+package com.junior.repository.outbox;
+
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.outbox.OutboxEventJdbcRepository.OutboxEventRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(OutboxEventJdbcRepository.class)
+class OutboxEventJdbcRepositoryTest extends BaseRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    private void save(Long aggregateId, String payload) {
+        outboxEventJdbcRepository.save("STORY", aggregateId, "NOTIFICATION_CREATED", payload, NOW);
+    }
+
+    private List<OutboxEventRow> claim(LocalDateTime now) {
+        return outboxEventJdbcRepository.claim(now, now.plusMinutes(5), 3, 10);
+    }
+
+    @Test
+    @DisplayName("아웃박스 선점 - 저장 순서대로 limit 개까지 선점해야 함")
+    void claim() {
+
+        //given
+        save(1L, "first");
+        save(2L, "second");
+        save(1L, "third");
+
+        //when
+        List<OutboxEventRow> rows = outboxEventJdbcRepository.claim(NOW, NOW.plusMinutes(5), 3, 2);
+
+        //then
+        assertThat(rows).extracting(OutboxEventRow::payload).containsExactly("first", "second");
+        assertThat(rows.get(0).aggregateType()).isEqualTo("STORY");
+        assertThat(rows.get(0).aggregateId()).isEqualTo(1L);
+        assertThat(rows.get(0).createdDate()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("아웃박스 선점 - 처리 기한이 지나지 않은 이벤트는 다시 선점하지 않아야 함")
+    void claim_leased() {
+
+        //given
+        save(1L, "first");
+        claim(NOW);
+        save(1L, "second");
+
+        //when
+        List<OutboxEventRow> rows = claim(NOW.plusMinutes(1));
+
+        //then
+        assertThat(rows).extracting(OutboxEventRow::payload).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("아웃박스 선점 - 처리 기한이 지나면 다시 선점하고, 최대 시도 횟수를 넘으면 선점하지 않아야 함")
+    void claim_leaseExpired() {
+
+        //given
+        save(1L, "first");
+
+        //when
+        List<OutboxEventRow> first = claim(NOW);
+        List<OutboxEventRow> second = claim(NOW.plusMinutes(10));
+        List<OutboxEventRow> third = claim(NOW.plusMinutes(20));
+        List<OutboxEventRow> exhausted = claim(NOW.plusMinutes(30));
+
+        //then
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        assertThat(third).hasSize(1);
+        assertThat(exhausted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아웃박스 처리 완료 - 처리된 이벤트는 다시 선점하지 않아야 함")
+    void markPublished() {
+
+        //given
+        save(1L, "first");
+        save(1L, "second");
+        List<OutboxEventRow> rows = claim(NOW);
+
+        //when
+        outboxEventJdbcRepository.markPublished(List.of(rows.get(0).id()));
+
+        //then
+        assertThat(claim(NOW.plusMinutes(10))).extracting(OutboxEventRow::payload).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("아웃박스 선점 해제 - 처리 기한과 관계없이 바로 다시 선점할 수 있어야 함")
+    void release() {
+
+        //given
+        save(1L, "first");
+        List<OutboxEventRow> rows = claim(NOW);
+
+        //when
+        outboxEventJdbcRepository.release(List.of(rows.get(0).id()), true);
+
+        //then
+        assertThat(claim(NOW.plusMinutes(1))).extracting(OutboxEventRow::payload).containsExactly("first");
+    }
+
+    @Test
+    @DisplayName("아웃박스 정리 - 처리된 이벤트만 삭제해야 함")
+    void deletePublishedBefore() {
+
+        //given
+        save(1L, "published");
+        save(1L, "pending");
+        List<OutboxEventRow> rows = outboxEventJdbcRepository.claim(NOW, NOW.plusMinutes(5), 3, 1);
+        outboxEventJdbcRepository.markPublished(List.of(rows.get(0).id()));
+
+        //when
+        int deleted = outboxEventJdbcRepository.deletePublishedBefore(LocalDateTime.now().plusMinutes(1), 10);
+
+        //then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(claim(NOW)).extracting(OutboxEventRow::payload).containsExactly("pending");
+    }
+}
@@ -0,0 +1,132 @@
+package com.junior.repository.story;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.member.MemberRole;
+import com.junior.domain.member.MemberStatus;
+import com.junior.domain.member.SignUpType;
+import com.junior.dto.story.ResponseStoryListDto;
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.member.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요한 스토리 목록 조회 벤치마크
+ * 실행: ./gradlew :module-domain:test --tests "*LikeStoriesBenchmarkTest" -Dbenchmark=true -Dbenchmark.likes=20000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LikeStoriesBenchmarkTest extends BaseRepositoryTest {
+
+    // 같은 스토리에 좋아요한 다른 회원 수, 다른 회원의 좋아요가 섞여 있어도 범위 탐색만 하는지 확인
+    private static final int OTHER_MEMBER_CNT = 10;
+    private static final int REPEAT = 20;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findLikeStories() {
+        int likeCnt = Integer.getInteger("benchmark.likes", 20_000);
+        Member member = memberRepository.save(createActiveTestMember());
+
+        seed(member.getId(), likeCnt);
+
+        double firstPageMillis = measure(() -> storyRepository.findLikeStories(member, PageRequest.of(0, PAGE_SIZE), null));
+        double deepPageMillis = measure(() -> storyRepository.findLikeStories(member, PageRequest.of(0, PAGE_SIZE), (long) PAGE_SIZE * 2));
+
+        // 전체 스크롤
+        long start = System.nanoTime();
+        int scrolledCnt = 0;
+        Long cursorId = null;
+        Slice<ResponseStoryListDto> result;
+
+        do {
+            result = storyRepository.findLikeStories(member, PageRequest.of(0, PAGE_SIZE), cursorId);
+            scrolledCnt += result.getNumberOfElements();
+            cursorId = result.getContent().isEmpty() ? null : result.getContent().get(result.getContent().size() - 1).storyId();
+        } while (result.hasNext());
+
+        double scrollMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        assertThat(scrolledCnt).isEqualTo(likeCnt);
+
+        log.info("[{}] likes: {}, first page: {}ms, deep page: {}ms, full scroll({} pages): {}ms", Thread.currentThread().getStackTrace()[1].getMethodName(), likeCnt,
+                String.format("%.2f", firstPageMillis), String.format("%.2f", deepPageMillis),
+                (likeCnt + PAGE_SIZE - 1) / PAGE_SIZE, String.format("%.2f", scrollMillis));
+    }
+
+    private double measure(Supplier<?> find) {
+        // warm up
+        find.get();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            find.get();
+        }
+
+        return (System.nanoTime() - start) / 1_000_000.0 / REPEAT;
+    }
+
+    /**
+     * 스토리 likeCnt 개를 만들고 회원은 모든 스토리에, 다른 회원들은 일부 스토리에 좋아요
+     */
+    private void seed(Long memberId, int likeCnt) {
+        List<Long> otherMemberIds = new ArrayList<>();
+
+        for (int i = 0; i < OTHER_MEMBER_CNT; i++) {
+            Member otherMember = memberRepository.save(Member.builder()
+                    .nickname("벤치마크닉네임" + i)
+                    .username("벤치마크유저네임" + i)
+                    .role(MemberRole.USER)
+                    .signUpType(SignUpType.KAKAO)
+                    .profileImage("s3.com/testProfile")
+                    .recommendLocation("서울")
+                    .status(MemberStatus.ACTIVE)
+                    .build());
+            otherMemberIds.add(otherMember.getId());
+        }
+
+        int chunkSize = 10_000;
+
+        for (int from = 1; from <= likeCnt; from += chunkSize) {
+            List<Object[]> stories = new ArrayList<>();
+            List<Object[]> likes = new ArrayList<>();
+
+            for (long storyId = from; storyId < from + chunkSize && storyId <= likeCnt; storyId++) {
+                stories.add(new Object[]{storyId, memberId, "title" + storyId, "content", Timestamp.valueOf(LocalDateTime.now())});
+                likes.add(new Object[]{memberId, storyId});
+
+                for (Long otherMemberId : otherMemberIds) {
+                    likes.add(new Object[]{otherMemberId, storyId});
+                }
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "insert into story (story_id, member_id, title, content, created_date, is_hidden, is_deleted, city, latitude, longitude, view_cnt, like_cnt) " +
+                            "values (?, ?, ?, ?, ?, false, false, '서울', 1.0, 1.0, 0, 0)",
+                    stories);
+            jdbcTemplate.batchUpdate("insert into likes (member_id, story_id) values (?, ?)", likes);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.junior.repository.story;
 
 import com.junior.TestConfig;
+import com.junior.domain.like.Like;
 import com.junior.domain.member.Member;
 import com.junior.domain.member.MemberRole;
 import com.junior.domain.member.MemberStatus;
@@ -31,13 +32,17 @@ import java.util.List;
  */
 
 @DataJpaTest
-@Import(TestConfig.class)
+@Import({TestConfig.class, StorySearchIndexRepository.class})
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class StoryCustomRepositoryImplTest {
     @Autowired
     StoryRepository storyRepository;
     @Autowired
+    StorySearchIndexRepository storySearchIndexRepository;
+    @Autowired
     MemberRepository memberRepository;
+    @Autowired
+    LikeRepository likeRepository;
 
     public Story createStory(Member member, String title, String city) {
 
@@ -234,6 +239,9 @@ class StoryCustomRepositoryImplTest {
         storyRepository.save(hasSearchStory);
         storyRepository.save(hasNotSearchStory);
 
+        storySearchIndexRepository.index(hasSearchStory.getId(), hasSearchStory.getTitle(), hasSearchStory.getContent());
+        storySearchIndexRepository.index(hasNotSearchStory.getId(), hasNotSearchStory.getTitle(), hasNotSearchStory.getContent());
+
         Pageable pageable = PageRequest.of(0, 3);
 
         Slice<ResponseStoryListDto> stories = storyRepository.findStoriesByMemberAndCityAndSearch(null, pageable, member, null, "filter");
@@ -456,4 +464,41 @@ class StoryCustomRepositoryImplTest {
     }
 
 
+    @Test
+    @DisplayName("좋아요한 스토리를 커서 기반으로 누락/중복 없이 최신순으로 조회할 수 있다.")
+    public void findLikeStories() {
+        Member member = memberRepository.save(createMember("nickname"));
+        Member otherMember = memberRepository.save(createMember("otherNickname"));
+
+        List<Story> stories = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            stories.add(storyRepository.save(createStory(otherMember, "title" + i, "서울")));
+        }
+
+        // 작성 순서와 다른 순서로 좋아요
+        for (int i : new int[]{3, 1, 5, 2, 4}) {
+            likeRepository.save(Like.builder().member(member).story(stories.get(i - 1)).build());
+        }
+        likeRepository.save(Like.builder().member(otherMember).story(stories.get(5)).build());
+
+        stories.get(2).deleteStory();
+
+        List<Long> storyIds = new ArrayList<>();
+        Long cursorId = null;
+        Slice<ResponseStoryListDto> result;
+
+        do {
+            result = storyRepository.findLikeStories(member, PageRequest.of(0, 2), cursorId);
+            result.getContent().forEach(story -> storyIds.add(story.storyId()));
+            cursorId = result.getContent().isEmpty() ? null : result.getContent().get(result.getContent().size() - 1).storyId();
+        } while (result.hasNext());
+
+        Assertions.assertThat(storyIds).containsExactly(
+                stories.get(4).getId(),
+                stories.get(3).getId(),
+                stories.get(1).getId(),
+                stories.get(0).getId()
+        );
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.junior.repository.story;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.story.Comment;
+import com.junior.domain.story.Story;
+import com.junior.dto.story.StoryDetailDto;
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.comment.CommentRepository;
+import com.junior.repository.member.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StoryDetailRepositoryTest extends BaseRepositoryTest {
+
+    // 스토리 상세 조회 쿼리 수 상한(스토리 + 댓글 수, 이미지)
+    private static final long STORY_DETAIL_QUERY_BUDGET = 2;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("스토리 상세 조회 - 작성자, 이미지, 댓글 수를 쿼리 2번으로 조회해야 함")
+    void findStoryDetail() {
+
+        //given
+        Member author = memberRepository.save(createActiveTestMember());
+        Member commenter = memberRepository.save(createActiveTestMember2());
+        Story story = storyRepository.save(createStory(author));
+
+        commentRepository.save(createComment(commenter, story));
+        commentRepository.save(createComment(commenter, story));
+        Comment deletedComment = commentRepository.save(createComment(commenter, story));
+        deletedComment.deleteComment();
+
+        // 댓글 작성/삭제 시 CommentService 가 갱신하는 댓글 수
+        storyRepository.increaseCommentCnt(story.getId());
+        storyRepository.increaseCommentCnt(story.getId());
+        storyRepository.increaseCommentCnt(story.getId());
+        storyRepository.decreaseCommentCnt(story.getId());
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        //when
+        Optional<StoryDetailDto> result = storyRepository.findStoryDetail(story.getId());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(STORY_DETAIL_QUERY_BUDGET);
+
+        StoryDetailDto storyDetail = result.orElseThrow();
+        assertThat(storyDetail.authorId()).isEqualTo(author.getId());
+        assertThat(storyDetail.imgUrls()).containsExactlyInAnyOrder("imgUrl1", "imgUrl2", "imgUrl3");
+        assertThat(storyDetail.commentCnt()).isEqualTo(2);
+        assertThat(storyDetail.isDeleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스토리 상세 조회 - 없는 스토리는 빈 결과를 반환해야 함")
+    void findStoryDetail_notFound() {
+
+        //when
+        Optional<StoryDetailDto> result = storyRepository.findStoryDetail(-1L);
+
+        //then
+        assertThat(result).isEmpty();
+    }
+}
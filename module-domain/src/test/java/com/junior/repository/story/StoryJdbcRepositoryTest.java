@@ -0,0 +1,122 @@
+package com.junior.repository.story;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.story.Comment;
+import com.junior.domain.story.Story;
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.comment.CommentRepository;
+import com.junior.repository.member.MemberRepository;
+import com.junior.repository.story.StoryJdbcRepository.StoryCommentCnt;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(StoryJdbcRepository.class)
+class StoryJdbcRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private StoryJdbcRepository storyJdbcRepository;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+
+    @BeforeEach
+    void init() {
+        member = memberRepository.save(createActiveTestMember());
+    }
+
+    @Test
+    @DisplayName("댓글 수 조회 - 저장된 댓글 수와 삭제되지 않은 실제 댓글 수를 함께 조회해야 함")
+    void findCommentCnt() {
+
+        //given
+        Story story = storyRepository.save(createStory(member));
+        Story emptyStory = storyRepository.save(createStory(member));
+
+        commentRepository.save(createComment(member, story));
+        commentRepository.save(createComment(member, story));
+        Comment deletedComment = commentRepository.save(createComment(member, story));
+        deletedComment.deleteComment();
+
+        storyRepository.increaseCommentCnt(story.getId());
+
+        em.flush();
+
+        //when
+        List<StoryCommentCnt> result = storyJdbcRepository.findCommentCnt(0, 10);
+
+        //then
+        assertThat(result).containsExactly(
+                new StoryCommentCnt(story.getId(), 1, 2),
+                new StoryCommentCnt(emptyStory.getId(), 0, 0)
+        );
+        assertThat(result.get(0).isDrifted()).isTrue();
+        assertThat(result.get(1).isDrifted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("댓글 수 조회 - story_id 순으로 나누어 조회할 수 있어야 함")
+    void findCommentCnt_chunk() {
+
+        //given
+        Story first = storyRepository.save(createStory(member));
+        Story second = storyRepository.save(createStory(member));
+        Story third = storyRepository.save(createStory(member));
+
+        //when
+        List<StoryCommentCnt> firstChunk = storyJdbcRepository.findCommentCnt(0, 2);
+        List<StoryCommentCnt> secondChunk = storyJdbcRepository.findCommentCnt(firstChunk.get(1).storyId(), 2);
+
+        //then
+        assertThat(firstChunk).extracting(StoryCommentCnt::storyId).containsExactly(first.getId(), second.getId());
+        assertThat(secondChunk).extracting(StoryCommentCnt::storyId).containsExactly(third.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 - 조회 이후 댓글 수가 바뀐 스토리는 보정하지 않아야 함")
+    void repairCommentCnt() {
+
+        //given
+        Story story = storyRepository.save(createStory(member));
+        Story changedStory = storyRepository.save(createStory(member));
+
+        commentRepository.save(createComment(member, story));
+        commentRepository.save(createComment(member, changedStory));
+
+        em.flush();
+
+        List<StoryCommentCnt> drifts = storyJdbcRepository.findCommentCnt(0, 10);
+
+        // 조회와 보정 사이에 댓글이 작성됨
+        commentRepository.save(createComment(member, changedStory));
+        storyRepository.increaseCommentCnt(changedStory.getId());
+
+        //when
+        int repaired = storyJdbcRepository.repairCommentCnt(drifts);
+
+        //then
+        em.clear();
+
+        assertThat(repaired).isEqualTo(1);
+        assertThat(storyRepository.findCommentCntById(story.getId())).contains(1L);
+        assertThat(storyRepository.findCommentCntById(changedStory.getId())).contains(1L);
+    }
+}
@@ -0,0 +1,121 @@
+package com.junior.repository.story;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.story.StorySearchField;
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.member.MemberRepository;
+import com.junior.util.NgramTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 스토리 검색 LIKE 방식과 역색인 방식 비교용 벤치마크
+ * 실행: ./gradlew :module-domain:test --tests "*StorySearchBenchmarkTest" -Dbenchmark=true -Dbenchmark.stories=1000000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StorySearchBenchmarkTest extends BaseRepositoryTest {
+
+    private static final String[] WORDS = {
+            "서울", "부산", "제주", "강릉", "전주", "경주", "여수", "속초", "대전", "광주",
+            "여행", "바다", "맛집", "카페", "산책", "야경", "축제", "시장", "공원", "한옥마을",
+            "주말", "가족", "친구", "혼자", "당일치기", "캠핑", "등산", "해변", "드라이브", "사진"
+    };
+    private static final String[] SEARCHES = {"제주", "한옥마을", "강릉 카페", "당일치기 여행"};
+    private static final int REPEAT = 20;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareLikeAndIndex() {
+        int storyCnt = Integer.getInteger("benchmark.stories", 1_000_000);
+        Member member = memberRepository.save(createActiveTestMember());
+
+        seed(member.getId(), storyCnt);
+
+        for (String search : SEARCHES) {
+            String pattern = "%" + search + "%";
+
+            // 기존 getSearchCondition 이 생성하던 쿼리
+            double likeMillis = measure(() -> jdbcTemplate.queryForList(
+                    "select story_id from story where is_deleted = false and is_hidden = false and (title like ? or content like ?) order by created_date desc limit ?",
+                    Long.class, pattern, pattern, PAGE_SIZE + 1));
+
+            double indexMillis = measure(() -> storyRepository.findAllStories(member, null, PageRequest.of(0, PAGE_SIZE), null, search));
+
+            log.info("[{}] stories: {}, search: {}, like: {}ms, index: {}ms", Thread.currentThread().getStackTrace()[1].getMethodName(), storyCnt, search,
+                    String.format("%.2f", likeMillis), String.format("%.2f", indexMillis));
+        }
+    }
+
+    private double measure(Supplier<?> search) {
+        // warm up
+        search.get();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            search.get();
+        }
+
+        return (System.nanoTime() - start) / 1_000_000.0 / REPEAT;
+    }
+
+    private void seed(Long memberId, int storyCnt) {
+        Random random = new Random(42);
+        int chunkSize = 10_000;
+
+        for (int from = 1; from <= storyCnt; from += chunkSize) {
+            List<Object[]> stories = new ArrayList<>();
+            List<Object[]> tokens = new ArrayList<>();
+
+            for (long storyId = from; storyId < from + chunkSize && storyId <= storyCnt; storyId++) {
+                String title = randomText(random, 3);
+                String content = randomText(random, 12);
+
+                stories.add(new Object[]{storyId, memberId, title, content, Timestamp.valueOf(LocalDateTime.now())});
+
+                for (String token : NgramTokenizer.tokenize(title)) {
+                    tokens.add(new Object[]{storyId, token, StorySearchField.TITLE.name()});
+                }
+                for (String token : NgramTokenizer.tokenize(content)) {
+                    tokens.add(new Object[]{storyId, token, StorySearchField.CONTENT.name()});
+                }
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "insert into story (story_id, member_id, title, content, created_date, is_hidden, is_deleted, city, latitude, longitude, view_cnt, like_cnt) " +
+                            "values (?, ?, ?, ?, ?, false, false, '서울', 1.0, 1.0, 0, 0)",
+                    stories);
+            jdbcTemplate.batchUpdate("insert into story_search_token (story_id, token, field) values (?, ?, ?)", tokens);
+        }
+    }
+
+    private String randomText(Random random, int wordCnt) {
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < wordCnt; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(i % 4 == 3 ? "을 " : " ");
+        }
+
+        return text.toString().trim();
+    }
+}
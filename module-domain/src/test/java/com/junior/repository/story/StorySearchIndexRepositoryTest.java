@@ -0,0 +1,188 @@
+package com.junior.repository.story;
+
+import com.junior.domain.member.Member;
+import com.junior.domain.story.Story;
+import com.junior.dto.story.CreateStoryDto;
+import com.junior.dto.story.ResponseStoryListDto;
+import com.junior.repository.BaseRepositoryTest;
+import com.junior.repository.member.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(StorySearchIndexRepository.class)
+class StorySearchIndexRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StorySearchIndexRepository storySearchIndexRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void init() {
+        member = memberRepository.save(createActiveTestMember());
+    }
+
+    private Story saveStory(String title, String content) {
+        Story story = Story.createStory()
+                .title(title)
+                .member(member)
+                .content(content)
+                .longitude(1.0)
+                .latitude(1.0)
+                .city("서울")
+                .isHidden(false)
+                .thumbnailImg("thumbURL")
+                .build();
+
+        storyRepository.save(story);
+        storySearchIndexRepository.index(story.getId(), story.getTitle(), story.getContent());
+
+        return story;
+    }
+
+    @Test
+    @DisplayName("스토리 검색 - 조사가 붙은 한글 단어도 검색되어야 함")
+    void findAllStories_korean() {
+
+        //given
+        saveStory("주말 나들이", "부산여행은 즐거웠다");
+        saveStory("주말 나들이", "집에서 쉬었다");
+
+        //when
+        Slice<ResponseStoryListDto> result = storyRepository.findAllStories(member, null, PageRequest.of(0, 10), null, "여행");
+
+        //then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).content()).isEqualTo("부산여행은 즐거웠다");
+    }
+
+    @Test
+    @DisplayName("스토리 검색 - 제목에서 검색된 스토리가 본문에서만 검색된 스토리보다 먼저 조회되어야 함")
+    void findAllStories_rank() {
+
+        //given
+        Story contentStory = saveStory("제목", "강릉 바다 여행");
+        Story titleStory = saveStory("강릉 여행기", "본문");
+        Story latestTitleStory = saveStory("강릉에서", "본문");
+
+        //when
+        Slice<ResponseStoryListDto> result = storyRepository.findAllStories(member, null, PageRequest.of(0, 10), null, "강릉");
+
+        //then
+        assertThat(result.getContent())
+                .extracting(ResponseStoryListDto::storyId)
+                .containsExactly(latestTitleStory.getId(), titleStory.getId(), contentStory.getId());
+    }
+
+    @Test
+    @DisplayName("스토리 검색 - 커서 기반으로 중복 없이 모든 스토리를 조회할 수 있어야 함")
+    void findAllStories_cursor() {
+
+        //given
+        for (int i = 1; i <= 7; i++) {
+            saveStory(i % 2 == 0 ? "제주 여행 " + i : "일상 " + i, "제주 바다");
+        }
+
+        //when
+        List<Long> storyIds = new ArrayList<>();
+        Long cursorId = null;
+        Slice<ResponseStoryListDto> result;
+
+        do {
+            result = storyRepository.findAllStories(member, cursorId, PageRequest.of(0, 2), null, "제주");
+            result.getContent().forEach(story -> storyIds.add(story.storyId()));
+            cursorId = result.getContent().isEmpty() ? null : result.getContent().get(result.getContent().size() - 1).storyId();
+        } while (result.hasNext());
+
+        //then
+        assertThat(storyIds).hasSize(7).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("스토리 검색 - 1글자 검색어는 LIKE 검색으로 조회되어야 함")
+    void findAllStories_singleCharacter() {
+
+        //given
+        saveStory("강", "본문");
+        saveStory("산", "본문");
+
+        //when
+        Slice<ResponseStoryListDto> result = storyRepository.findAllStories(member, null, PageRequest.of(0, 10), null, "강");
+
+        //then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).title()).isEqualTo("강");
+    }
+
+    @Test
+    @DisplayName("스토리 검색 - 수정된 스토리는 수정된 내용으로 검색되어야 함")
+    void index_edit() {
+
+        //given
+        Story story = saveStory("서울 여행", "본문");
+
+        //when
+        story.updateStory(CreateStoryDto.builder()
+                .title("대전 여행")
+                .content("본문")
+                .city("서울")
+                .thumbnailImg("thumbURL")
+                .latitude(1.0)
+                .longitude(1.0)
+                .imgUrls(new ArrayList<>())
+                .build());
+        storyRepository.flush();
+        storySearchIndexRepository.index(story.getId(), story.getTitle(), story.getContent());
+
+        //then
+        assertThat(storyRepository.findAllStories(member, null, PageRequest.of(0, 10), null, "서울").getContent()).isEmpty();
+        assertThat(storyRepository.findAllStories(member, null, PageRequest.of(0, 10), null, "대전").getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("스토리 검색 - 검색어의 2-gram 을 모두 가져도 검색어를 포함하지 않는 스토리는 조회되지 않아야 함")
+    void findAllStories_ngramFalsePositive() {
+
+        //given
+        saveStory("서울숲 산책", "본문");
+        saveStory("서울 나들이", "울숲 근처");
+
+        //when
+        Slice<ResponseStoryListDto> result = storyRepository.findAllStories(member, null, PageRequest.of(0, 10), null, "서울숲");
+
+        //then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).title()).isEqualTo("서울숲 산책");
+    }
+
+    @Test
+    @DisplayName("색인 여부 - 저장된 토큰이 없을 때만 비어 있어야 함")
+    void isEmpty() {
+
+        //given
+        boolean emptyBefore = storySearchIndexRepository.isEmpty();
+
+        //when
+        saveStory("서울 여행", "본문");
+
+        //then
+        assertThat(emptyBefore).isTrue();
+        assertThat(storySearchIndexRepository.isEmpty()).isFalse();
+    }
+}
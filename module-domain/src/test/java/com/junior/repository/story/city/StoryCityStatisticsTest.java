@@ -0,0 +1,99 @@
+package com.junior.repository.story.city;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StoryCityStatisticsTest {
+
+    private StoryCityStatistics storyCityStatistics;
+
+    @BeforeEach
+    void init() {
+        storyCityStatistics = new StoryCityStatistics(null);
+    }
+
+    @Test
+    @DisplayName("랜덤 도시 추천 - 도시별 스토리 수에 비례하여 추천되어야 함")
+    void getRandomCity() {
+
+        //given
+        long storyId = 1;
+        for (int i = 0; i < 300; i++) {
+            storyCityStatistics.put(storyId++, "서울");
+        }
+        for (int i = 0; i < 100; i++) {
+            storyCityStatistics.put(storyId++, "부산");
+        }
+
+        //when
+        Map<String, Integer> cntByCity = new HashMap<>();
+        for (int i = 0; i < 40_000; i++) {
+            cntByCity.merge(storyCityStatistics.getRandomCity().get(), 1, Integer::sum);
+        }
+
+        //then
+        assertThat(cntByCity.get("서울") / 40_000.0).isCloseTo(0.75, within(0.02));
+    }
+
+    @Test
+    @DisplayName("랜덤 도시 추천 - 삭제/숨김된 스토리의 도시는 추천되지 않아야 함")
+    void getRandomCity_removed() {
+
+        //given
+        storyCityStatistics.put(1L, "서울");
+        storyCityStatistics.put(2L, "부산");
+        storyCityStatistics.put(3L, "부산");
+
+        //when
+        storyCityStatistics.remove(2L);
+        storyCityStatistics.put(3L, "서울");
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertThat(storyCityStatistics.getRandomCity()).contains("서울");
+        }
+        assertThat(storyCityStatistics.getStoryCnt("서울")).isEqualTo(2);
+        assertThat(storyCityStatistics.getStoryCnt("부산")).isZero();
+    }
+
+    @Test
+    @DisplayName("랜덤 도시 추천 - 스토리가 없으면 추천 도시가 없어야 함")
+    void getRandomCity_empty() {
+        assertThat(storyCityStatistics.getRandomCity()).isEmpty();
+        assertThat(storyCityStatistics.getRecentPopularCity()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최근 인기 도시 추천 - 최신 스토리 중 가장 많이 등장한 도시가 추천되어야 함")
+    void getRecentPopularCity() {
+
+        //given
+        long storyId = 1;
+
+        // 오래된 스토리는 집계 대상이 아님
+        for (int i = 0; i < 200; i++) {
+            storyCityStatistics.put(storyId++, "서울");
+        }
+        for (int i = 0; i < StoryCityStatistics.RECENT_WINDOW; i++) {
+            storyCityStatistics.put(storyId++, i % 3 == 0 ? "제주" : "부산");
+        }
+
+        //then
+        assertThat(storyCityStatistics.getRecentPopularCity()).contains("부산");
+
+        //when
+        for (long id = storyId - StoryCityStatistics.RECENT_WINDOW; id < storyId; id++) {
+            storyCityStatistics.remove(id);
+        }
+
+        //then
+        assertThat(storyCityStatistics.getRecentPopularCity()).contains("서울");
+    }
+}
@@ -0,0 +1,111 @@
+package com.junior.repository.story.geo;
+
+import com.junior.repository.story.geo.StoryGeoIndex.StoryPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoryGeoIndexTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+
+    private StoryGeoIndex storyGeoIndex;
+
+    @BeforeEach
+    void init() {
+        storyGeoIndex = new StoryGeoIndex(null);
+    }
+
+    @Test
+    @DisplayName("좌표 색인 조회 - 영역 안에 있는 회원의 스토리만 최신순으로 조회되어야 함")
+    void findStoryIds() {
+
+        //given
+        storyGeoIndex.put(new StoryPoint(1L, MEMBER_ID, 37.56, 126.97));      // 서울
+        storyGeoIndex.put(new StoryPoint(2L, MEMBER_ID, 35.17, 129.07));      // 부산
+        storyGeoIndex.put(new StoryPoint(3L, MEMBER_ID, 37.57, 126.98));      // 서울
+        storyGeoIndex.put(new StoryPoint(4L, OTHER_MEMBER_ID, 37.56, 126.97)); // 다른 회원
+
+        //when
+        List<Long> storyIds = storyGeoIndex.findStoryIds(MEMBER_ID, 37.0, 38.0, 126.0, 128.0, 100);
+
+        //then
+        assertThat(storyIds).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("좌표 색인 조회 - 스토리 수정, 삭제가 반영되어야 함")
+    void putAndRemove() {
+
+        //given
+        storyGeoIndex.put(new StoryPoint(1L, MEMBER_ID, 37.56, 126.97));
+        storyGeoIndex.put(new StoryPoint(2L, MEMBER_ID, 37.57, 126.98));
+
+        //when
+        storyGeoIndex.put(new StoryPoint(1L, MEMBER_ID, 35.17, 129.07));
+        storyGeoIndex.remove(2L);
+
+        //then
+        assertThat(storyGeoIndex.findStoryIds(MEMBER_ID, 37.0, 38.0, 126.0, 128.0, 100)).isEmpty();
+        assertThat(storyGeoIndex.findStoryIds(MEMBER_ID, 35.0, 36.0, 128.0, 130.0, 100)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("좌표 색인 조회 - 최대 조회 수를 넘지 않아야 함")
+    void findStoryIds_limit() {
+
+        //given
+        for (long i = 1; i <= 10; i++) {
+            storyGeoIndex.put(new StoryPoint(i, MEMBER_ID, 37.5 + i * 0.001, 127.0));
+        }
+
+        //when
+        List<Long> storyIds = storyGeoIndex.findStoryIds(MEMBER_ID, 37.0, 38.0, 126.0, 128.0, 3);
+
+        //then
+        assertThat(storyIds).containsExactly(10L, 9L, 8L);
+    }
+
+    @Test
+    @DisplayName("좌표 색인 조회 - 영역 크기와 관계없이 전체 탐색 결과와 같아야 함")
+    void findStoryIds_sameAsScan() {
+
+        //given
+        Random random = new Random(42);
+        List<StoryPoint> points = new ArrayList<>();
+
+        for (long i = 1; i <= 2000; i++) {
+            StoryPoint point = new StoryPoint(i, MEMBER_ID, 33 + random.nextDouble() * 5, 124 + random.nextDouble() * 8);
+            points.add(point);
+            storyGeoIndex.put(point);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            double minLat = 33 + random.nextDouble() * 5;
+            double maxLat = minLat + random.nextDouble() * (i % 2 == 0 ? 0.05 : 3);
+            double minLng = 124 + random.nextDouble() * 8;
+            double maxLng = minLng + random.nextDouble() * (i % 2 == 0 ? 0.05 : 3);
+
+            //when
+            List<Long> storyIds = storyGeoIndex.findStoryIds(MEMBER_ID, minLat, maxLat, minLng, maxLng, Integer.MAX_VALUE);
+
+            //then
+            List<Long> expected = points.stream()
+                    .filter(point -> point.latitude() >= minLat && point.latitude() <= maxLat
+                            && point.longitude() >= minLng && point.longitude() <= maxLng)
+                    .map(StoryPoint::storyId)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+
+            assertThat(storyIds).isEqualTo(expected);
+        }
+    }
+}
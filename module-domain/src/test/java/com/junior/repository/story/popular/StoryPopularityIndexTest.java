@@ -0,0 +1,167 @@
+package com.junior.repository.story.popular;
+
+import com.junior.domain.story.Story;
+import com.junior.event.story.StoryChangedEvent;
+import com.junior.repository.story.popular.StoryPopularityIndex.RankedStory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class StoryPopularityIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private StoryPopularityIndex storyPopularityIndex;
+
+    @BeforeEach
+    void init() {
+        storyPopularityIndex = new StoryPopularityIndex(null);
+    }
+
+    private List<Long> findStoryIds(int limit) {
+        return storyPopularityIndex.findPage(null, null, limit).stream()
+                .map(RankedStory::storyId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("인기 스토리 순위 - 반응 수가 같으면 최근 스토리가, 작성 시각이 같으면 반응이 많은 스토리가 먼저 조회되어야 함")
+    void findPage_order() {
+
+        //given
+        storyPopularityIndex.put(1L, 10, 0, 0, NOW.minusDays(1));
+        storyPopularityIndex.put(2L, 10, 0, 0, NOW);
+        storyPopularityIndex.put(3L, 20, 0, 0, NOW);
+
+        //when
+        List<Long> storyIds = findStoryIds(10);
+
+        //then
+        assertThat(storyIds).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("인기 스토리 순위 - 반감기가 지난 스토리는 반응 수가 두 배여야 같은 점수를 가져야 함")
+    void score_halfLife() {
+
+        //given
+        long now = 1_735_732_800L;
+        long halfLifeAgo = now - (long) StoryPopularityIndex.HALF_LIFE_SECONDS;
+
+        //when
+        double recent = StoryPopularityIndex.score(99, 0, 0, now);
+        double old = StoryPopularityIndex.score(199, 0, 0, halfLifeAgo);
+
+        //then
+        assertThat(old).isCloseTo(recent, offset(0.01));
+    }
+
+    @Test
+    @DisplayName("인기 스토리 순위 - 반응이 생기면 순위가 바로 반영되어야 함")
+    void add() {
+
+        //given
+        storyPopularityIndex.put(1L, 0, 0, 0, NOW);
+        storyPopularityIndex.put(2L, 5, 0, 0, NOW);
+
+        //when
+        storyPopularityIndex.add(1L, 3, 2, 0);
+
+        //then
+        assertThat(findStoryIds(10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("인기 스토리 순위 - 삭제된 스토리는 조회되지 않고, 반응이 생겨도 다시 추가되지 않아야 함")
+    void remove() {
+
+        //given
+        storyPopularityIndex.put(1L, 0, 0, 0, NOW);
+        storyPopularityIndex.put(2L, 0, 0, 0, NOW);
+
+        //when
+        storyPopularityIndex.remove(1L);
+        storyPopularityIndex.add(1L, 1, 0, 0);
+
+        //then
+        assertThat(findStoryIds(10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("인기 스토리 순위 - 점수가 같은 스토리가 많아도 커서 기반으로 누락/중복 없이 조회되어야 함")
+    void findPage_cursor() {
+
+        //given
+        for (long storyId = 1; storyId <= 25; storyId++) {
+            storyPopularityIndex.put(storyId, storyId % 3, 0, 0, NOW);
+        }
+
+        //when
+        List<Long> storyIds = new ArrayList<>();
+        Double cursorScore = null;
+        Long cursorId = null;
+
+        while (true) {
+            List<RankedStory> page = storyPopularityIndex.findPage(cursorScore, cursorId, 4);
+
+            if (page.isEmpty()) {
+                break;
+            }
+
+            page.forEach(rank -> storyIds.add(rank.storyId()));
+            cursorScore = page.get(page.size() - 1).score();
+            cursorId = page.get(page.size() - 1).storyId();
+        }
+
+        //then
+        assertThat(storyIds).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("인기 스토리 순위 - 페이지 사이에 커서 스토리의 점수가 바뀌어도 이전 점수 기준으로 이어서 조회되어야 함")
+    void findPage_cursorScoreChanged() {
+
+        //given
+        for (long storyId = 1; storyId <= 6; storyId++) {
+            storyPopularityIndex.put(storyId, storyId, 0, 0, NOW);
+        }
+
+        List<RankedStory> firstPage = storyPopularityIndex.findPage(null, null, 3);
+        RankedStory last = firstPage.get(firstPage.size() - 1);
+
+        //when
+        storyPopularityIndex.add(last.storyId(), 100, 0, 0);
+        List<RankedStory> secondPage = storyPopularityIndex.findPage(last.score(), last.storyId(), 3);
+
+        //then
+        assertThat(firstPage).extracting(RankedStory::storyId).containsExactly(6L, 5L, 4L);
+        assertThat(secondPage).extracting(RankedStory::storyId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("인기 스토리 순위 - 색인에 없던 스토리가 변경되면 댓글 수를 포함한 반응 수로 추가되어야 함")
+    void onStoryChanged() {
+
+        //given
+        Story commented = Story.builder().id(1L).commentCnt(3L).build();
+        Story liked = Story.builder().id(2L).likeCnt(5L).build();
+        ReflectionTestUtils.setField(commented, "createdDate", NOW);
+        ReflectionTestUtils.setField(liked, "createdDate", NOW);
+
+        //when
+        storyPopularityIndex.onStoryChanged(new StoryChangedEvent(commented));
+        storyPopularityIndex.onStoryChanged(new StoryChangedEvent(liked));
+
+        //then
+        // 댓글 3개(가중치 2) > 좋아요 5개(가중치 1)
+        assertThat(findStoryIds(10)).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,118 @@
+package com.junior.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 Redis 에서 refresh token 저장 방식별 메모리 사용량 비교용 벤치마크
+ * 기존 방식(토큰 원문 키 -> username)과 RefreshTokenStore(세션 키 -> digest, 회원 세션 SET)
+ * 실행: ./gradlew :module-domain:test --tests "*RefreshTokenStoreBenchmarkTest" -Dbenchmark=true -Dbenchmark.sessions=100000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {"spring.data.redis.port=6379", "spring.data.redis.host=localhost"})
+class RefreshTokenStoreBenchmarkTest {
+
+    // 회원 한 명당 로그인 기기 수
+    private static final int SESSIONS_PER_MEMBER = 2;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    @Autowired
+    RedisUtil redisUtil;
+
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+
+    @AfterEach
+    void clear() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    void memoryUsage() {
+        int sessionCnt = Integer.getInteger("benchmark.sessions", 100_000);
+
+        List<String> tokens = createTokens(sessionCnt);
+
+        long legacyStart = System.nanoTime();
+        long legacyBytes = measure(() -> {
+            for (int i = 0; i < sessionCnt; i++) {
+                redisUtil.setDataExpire(tokens.get(i), "kakao_" + memberId(i), 15778800);
+            }
+        });
+        double legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000.0;
+
+        clear();
+
+        List<String> sessionIds = new ArrayList<>(sessionCnt);
+        for (int i = 0; i < sessionCnt; i++) {
+            sessionIds.add(refreshTokenStore.createSessionId());
+        }
+
+        long storeStart = System.nanoTime();
+        long storeBytes = measure(() -> {
+            for (int i = 0; i < sessionCnt; i++) {
+                refreshTokenStore.save(memberId(i), sessionIds.get(i), tokens.get(i));
+            }
+        });
+        double storeMillis = (System.nanoTime() - storeStart) / 1_000_000.0;
+
+        log.info("[{}] sessions: {}, legacy: {} bytes/session {} ms, store: {} bytes/session {} ms",
+                Thread.currentThread().getStackTrace()[1].getMethodName(), sessionCnt,
+                legacyBytes / sessionCnt, String.format("%.1f", legacyMillis),
+                storeBytes / sessionCnt, String.format("%.1f", storeMillis));
+
+        assertThat(storeBytes).isLessThan(legacyBytes / 2);
+    }
+
+    private long measure(Runnable runnable) {
+        long before = usedMemory();
+        runnable.run();
+        return usedMemory() - before;
+    }
+
+    private long usedMemory() {
+        try (RedisConnection connection = redisTemplate.getConnectionFactory().getConnection()) {
+            return Long.parseLong(connection.serverCommands().info("memory").getProperty("used_memory"));
+        }
+    }
+
+    private long memberId(int sessionIdx) {
+        return sessionIdx / SESSIONS_PER_MEMBER + 1;
+    }
+
+    // 실제 refresh token 과 비슷한 길이의 JWT 형식 문자열
+    private List<String> createTokens(int sessionCnt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Random random = new Random(42);
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+
+        List<String> tokens = new ArrayList<>(sessionCnt);
+        for (int i = 0; i < sessionCnt; i++) {
+            String payload = "{\"category\":\"refresh\",\"id\":" + memberId(i) + ",\"username\":\"kakao_" + (3_000_000_000L + i)
+                    + "\",\"role\":\"USER\",\"sid\":\"" + refreshTokenStore.createSessionId() + "\",\"iat\":1760000000,\"exp\":1775778800}";
+            byte[] signature = new byte[32];
+            random.nextBytes(signature);
+
+            tokens.add(header + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + encoder.encodeToString(signature));
+        }
+
+        return tokens;
+    }
+}
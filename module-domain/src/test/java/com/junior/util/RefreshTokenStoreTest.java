@@ -0,0 +1,161 @@
+package com.junior.util;
+
+import com.junior.event.member.MemberChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@SpringBootTest(properties = {"spring.data.redis.port=6379", "spring.data.redis.host=localhost"})
+class RefreshTokenStoreTest {
+
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+
+
+    @AfterEach
+    void clear() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("세션 저장 시 토큰 원문이 아닌 고정 길이 digest가 저장되고, 회원 세션 목록에 추가되어야 함")
+    void save() {
+
+        //given
+        String sessionId = refreshTokenStore.createSessionId();
+
+        //when
+        refreshTokenStore.save(1L, sessionId, "refresh_token");
+
+        //then
+        String stored = redisTemplate.opsForValue().get(RefreshTokenStore.sessionKey(1L, sessionId));
+
+        assertThat(stored).isEqualTo(RefreshTokenStore.digest("refresh_token")).hasSize(22);
+        assertThat(refreshTokenStore.getSessionIds(1L)).containsExactly(sessionId);
+        assertThat(redisTemplate.getExpire(RefreshTokenStore.sessionKey(1L, sessionId))).isPositive();
+        assertThat(redisTemplate.getExpire(RefreshTokenStore.sessionsKey(1L))).isPositive();
+    }
+
+    @Test
+    @DisplayName("세션의 현재 토큰으로 재발급하면 새 토큰으로 교체되어야 함")
+    void rotate() {
+
+        //given
+        refreshTokenStore.save(1L, "session", "old_token");
+
+        //when
+        RefreshTokenStore.RotateResult result = refreshTokenStore.rotate(1L, "session", "old_token", "new_token");
+
+        //then
+        assertThat(result).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+        assertThat(refreshTokenStore.rotate(1L, "session", "new_token", "newer_token")).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰으로 재발급하면 재사용으로 판단하고 세션을 폐기해야 함")
+    void rotateWithReusedToken() {
+
+        //given
+        refreshTokenStore.save(1L, "session", "old_token");
+        refreshTokenStore.rotate(1L, "session", "old_token", "new_token");
+
+        //when
+        RefreshTokenStore.RotateResult result = refreshTokenStore.rotate(1L, "session", "old_token", "other_token");
+
+        //then
+        assertThat(result).isEqualTo(RefreshTokenStore.RotateResult.REUSED);
+        assertThat(refreshTokenStore.getSessionIds(1L)).isEmpty();
+        assertThat(refreshTokenStore.rotate(1L, "session", "new_token", "newer_token")).isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 세션은 재발급할 수 없어야 함")
+    void rotateWithoutSession() {
+
+        //when
+        RefreshTokenStore.RotateResult result = refreshTokenStore.rotate(1L, "session", "old_token", "new_token");
+
+        //then
+        assertThat(result).isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+        assertThat(redisTemplate.hasKey(RefreshTokenStore.sessionKey(1L, "session"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 해당 세션만 삭제되고, 이미 교체된 토큰으로는 삭제할 수 없어야 함")
+    void delete() {
+
+        //given
+        refreshTokenStore.save(1L, "session", "old_token");
+        refreshTokenStore.rotate(1L, "session", "old_token", "new_token");
+        refreshTokenStore.save(1L, "other", "other_token");
+
+        //when, then
+        assertThat(refreshTokenStore.delete(1L, "session", "old_token")).isFalse();
+        assertThat(refreshTokenStore.delete(1L, "session", "new_token")).isTrue();
+        assertThat(refreshTokenStore.getSessionIds(1L)).containsExactly("other");
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 해당 회원의 모든 세션이 삭제되어야 함")
+    void deleteAll() {
+
+        //given
+        refreshTokenStore.save(1L, "session1", "token1");
+        refreshTokenStore.save(1L, "session2", "token2");
+        refreshTokenStore.save(2L, "session3", "token3");
+
+        //when
+        int deletedCnt = refreshTokenStore.deleteAll(1L);
+
+        //then
+        assertThat(deletedCnt).isEqualTo(2);
+        assertThat(redisTemplate.hasKey(RefreshTokenStore.sessionKey(1L, "session1"))).isFalse();
+        assertThat(redisTemplate.hasKey(RefreshTokenStore.sessionKey(1L, "session2"))).isFalse();
+        assertThat(redisTemplate.hasKey(RefreshTokenStore.sessionsKey(1L))).isFalse();
+        assertThat(refreshTokenStore.getSessionIds(2L)).containsExactly("session3");
+    }
+
+    @Test
+    @DisplayName("세션 저장/재발급 시 만료된 세션 id 는 회원 세션 목록에서 제거되어야 함")
+    void pruneExpiredSessionIds() {
+
+        //given
+        refreshTokenStore.save(1L, "expired1", "token1");
+        refreshTokenStore.save(1L, "expired2", "token2");
+        refreshTokenStore.save(1L, "session", "old_token");
+        redisTemplate.delete(RefreshTokenStore.sessionKey(1L, "expired1"));
+
+        //when
+        refreshTokenStore.save(1L, "new", "new_token");
+        redisTemplate.delete(RefreshTokenStore.sessionKey(1L, "expired2"));
+        refreshTokenStore.rotate(1L, "session", "old_token", "rotated_token");
+
+        //then
+        assertThat(refreshTokenStore.getSessionIds(1L)).containsExactlyInAnyOrder("session", "new");
+    }
+
+    @Test
+    @DisplayName("탈퇴 이벤트에서만 모든 세션이 삭제되어야 함")
+    void onMemberChanged() {
+
+        //given
+        refreshTokenStore.save(1L, "session", "token");
+
+        //when, then
+        refreshTokenStore.onMemberChanged(new MemberChangedEvent(1L));
+        assertThat(refreshTokenStore.getSessionIds(1L)).containsExactly("session");
+
+        refreshTokenStore.onMemberChanged(new MemberChangedEvent(1L, true));
+        assertThat(refreshTokenStore.getSessionIds(1L)).isEmpty();
+    }
+}